@@ -1,6 +1,9 @@
 package ar.uba.fi.ingsoft1.todo_template.blockedslot;
 
+import ar.uba.fi.ingsoft1.todo_template.common.FieldHour;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -9,4 +12,27 @@ public interface BlockedSlotRepository extends JpaRepository<BlockedSlot, Long>
     List<BlockedSlot> findByFieldIdAndDate(Long fieldId, LocalDate date);
     List<BlockedSlot> findByFieldId(Long fieldId);
 
+    @Query("""
+                SELECT new ar.uba.fi.ingsoft1.todo_template.common.FieldHour(b.field.id, b.date, b.hour)
+                FROM BlockedSlot b
+                WHERE b.field.owner.id = :ownerId
+                  AND b.date BETWEEN :from AND :to
+                  AND b.hour IS NOT NULL
+            """)
+    List<FieldHour> findFieldHoursByOwnerIdBetween(@Param("ownerId") Long ownerId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    @Query("""
+                SELECT b.date
+                FROM BlockedSlot b
+                WHERE b.field.id = :fieldId
+                  AND b.date BETWEEN :from AND :to
+                  AND b.hour = :hour
+            """)
+    List<LocalDate> findBlockedDatesByFieldIdAndHourBetween(@Param("fieldId") Long fieldId,
+            @Param("hour") int hour,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
 }
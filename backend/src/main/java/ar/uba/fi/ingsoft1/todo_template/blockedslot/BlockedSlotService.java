@@ -1,8 +1,11 @@
 package ar.uba.fi.ingsoft1.todo_template.blockedslot;
 
+import ar.uba.fi.ingsoft1.todo_template.common.event.SlotBlocked;
+import ar.uba.fi.ingsoft1.todo_template.common.event.SlotUnblocked;
 import ar.uba.fi.ingsoft1.todo_template.field.Field;
 import ar.uba.fi.ingsoft1.todo_template.field.FieldRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
@@ -16,6 +19,7 @@ public class BlockedSlotService {
 
     private final BlockedSlotRepository blockedSlotRepository;
     private final FieldRepository fieldRepository;
+    private final ApplicationEventPublisher events;
 
     public void setBlockedSlot(Long fieldId, LocalDate date, Integer hour, String user) {
         Field field = fieldRepository.findById(fieldId)
@@ -39,6 +43,7 @@ public class BlockedSlotService {
                 .build();
 
         blockedSlotRepository.save(slot);
+        events.publishEvent(new SlotBlocked(fieldId, date, hour));
     }
 
     public void deleteBlockedSlot(Long fieldId, LocalDate date, Integer hour, String user) {
@@ -55,6 +60,7 @@ public class BlockedSlotService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Specified time is not blocked."));
 
         blockedSlotRepository.delete(slot);
+        events.publishEvent(new SlotUnblocked(fieldId, date, hour));
     }
 
     public List<Integer> listBlockedSlotsForFieldAndDate(Long fieldId, LocalDate date, String user) {
@@ -0,0 +1,8 @@
+package ar.uba.fi.ingsoft1.todo_template.booking;
+
+import java.time.LocalDate;
+
+public record BookedHour(
+        LocalDate bookingDate,
+        int bookingHour
+) {}
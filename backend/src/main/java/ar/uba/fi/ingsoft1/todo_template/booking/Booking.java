@@ -10,16 +10,31 @@ import java.time.LocalDateTime;
 
 @Getter
 @Entity
+@NamedEntityGraph(name = "Booking.detail",
+        attributeNodes = {
+                @NamedAttributeNode("user"),
+                @NamedAttributeNode(value = "timeSlot", subgraph = "timeSlot")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "timeSlot", attributeNodes = @NamedAttributeNode(value = "field", subgraph = "field")),
+                @NamedSubgraph(name = "field", attributeNodes = @NamedAttributeNode("owner"))
+        })
+@Table(indexes = {
+        @Index(name = "idx_booking_slot_date_active", columnList = "time_slot_id, booking_date, active")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_booking_active_slot", columnNames = {"active_field_id", "booking_date", "booking_hour"})
+})
 public class Booking {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_seq")
+    @SequenceGenerator(name = "booking_seq", sequenceName = "booking_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     private User user;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     private TimeSlot timeSlot;
 
     @Column(nullable = false)
@@ -29,6 +44,10 @@ public class Booking {
 
     private boolean active = true;
 
+    // Cancha de la reserva mientras está activa; se anula al cancelar para liberar el horario
+    @Column(name = "active_field_id")
+    private Long activeFieldId;
+
     private LocalDateTime createdAt;
 
 
@@ -39,6 +58,9 @@ public class Booking {
         this.timeSlot = timeSlot;
         this.bookingDate = bookingDate;
         this.bookingHour = bookingHour;
+        if (timeSlot != null && timeSlot.getField() != null) {
+            this.activeFieldId = timeSlot.getField().getId();
+        }
     }
 
 
@@ -49,5 +71,6 @@ public class Booking {
 
     public void cancel() {
         this.active = false;
+        this.activeFieldId = null;
     }
 }
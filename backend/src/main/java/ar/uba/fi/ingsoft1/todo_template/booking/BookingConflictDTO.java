@@ -0,0 +1,10 @@
+package ar.uba.fi.ingsoft1.todo_template.booking;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+
+public record BookingConflictDTO(
+        @NotNull LocalDate date,
+        @NotNull String reason
+) {}
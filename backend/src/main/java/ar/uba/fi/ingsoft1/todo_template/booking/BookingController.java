@@ -1,8 +1,10 @@
 package ar.uba.fi.ingsoft1.todo_template.booking;
 
 import ar.uba.fi.ingsoft1.todo_template.config.security.JwtUserDetails;
+import ar.uba.fi.ingsoft1.todo_template.dto.KeysetPagination;
+import ar.uba.fi.ingsoft1.todo_template.dto.PaginatedResponse;
 import ar.uba.fi.ingsoft1.todo_template.timeslot.TimeSlotService;
-import ar.uba.fi.ingsoft1.todo_template.user.UserRepository;
+import ar.uba.fi.ingsoft1.todo_template.user.PrincipalCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -32,8 +34,9 @@ import java.util.Map;
 public class BookingController {
 
     private final BookingService bookingService;
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
     private final TimeSlotService timeSlotService;
+    private final KeysetPagination keysetPagination;
 
 
     @GetMapping("/field/{fieldId}")
@@ -71,27 +74,33 @@ public class BookingController {
 
     @GetMapping("/owner")
     @Operation(summary = "Reservas sobre canchas del dueño logueado")
-    public ResponseEntity<List<BookingDTO>> getBookingsForOwner() {
+    public ResponseEntity<PaginatedResponse<BookingDTO>> getBookingsForOwner(
+            @Parameter(description = "Cursor devuelto por la página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Cantidad de resultados por página") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Incluir el total de resultados") @RequestParam(defaultValue = "false") boolean includeTotal) {
         String username = getAuthenticatedUser().username();
-        return ResponseEntity.ok(bookingService.getBookingsByOwnerUsername(username));
+        return ResponseEntity.ok(bookingService.getBookingsByOwnerUsername(username, keysetPagination.request(cursor, limit, includeTotal)));
     }
 
     @GetMapping("/my")
     @Operation(summary = "Reservas propias del usuario logueado")
     public ResponseEntity<List<BookingDTO>> getMyBookings() {
         String username = getAuthenticatedUser().username();
-        Long userId = userRepository.findByUsername(username)
+        Long userId = principalCache.findByUsername(username)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND)).getId();
         return ResponseEntity.ok(bookingService.getBookingsByUser(userId));
     }
 
     @GetMapping("/my/all")
     @Operation(summary = "Todas las reservas propias del usuario logueado (activas e inactivas)")
-    public ResponseEntity<List<BookingDTO>> getAllMyBookings() {
+    public ResponseEntity<PaginatedResponse<BookingDTO>> getAllMyBookings(
+            @Parameter(description = "Cursor devuelto por la página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Cantidad de resultados por página") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Incluir el total de resultados") @RequestParam(defaultValue = "false") boolean includeTotal) {
         String username = getAuthenticatedUser().username();
-        Long userId = userRepository.findByUsername(username)
+        Long userId = principalCache.findByUsername(username)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND)).getId();
-        return ResponseEntity.ok(bookingService.getAllBookingsByUser(userId));
+        return ResponseEntity.ok(bookingService.getAllBookingsByUser(userId, keysetPagination.request(cursor, limit, includeTotal)));
     }
 
     private JwtUserDetails getAuthenticatedUser() {
@@ -104,7 +113,8 @@ public class BookingController {
     @Operation(summary = "Create a new booking", description = "Create a new booking for a user, field, date and hour")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Booking created successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BookingDTO.class))),
-            @ApiResponse(responseCode = "400", description = "Invalid user or field", content = @Content)
+            @ApiResponse(responseCode = "400", description = "Invalid user or field", content = @Content),
+            @ApiResponse(responseCode = "409", description = "The hour is already taken or not available", content = @Content)
     })
     public ResponseEntity<BookingDTO> createBooking(
             @RequestParam @NotNull Long timeslotId,
@@ -117,6 +127,26 @@ public class BookingController {
     }
 
 
+    @PostMapping("/recurring")
+    @Operation(summary = "Reserva semanal recurrente", description = "Reserva la misma hora de un time slot durante varias semanas seguidas; las fechas ocupadas o bloqueadas se devuelven como conflictos")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Se reservó al menos una fecha de la serie", content = @Content(mediaType = "application/json", schema = @Schema(implementation = RecurringBookingDTO.class))),
+            @ApiResponse(responseCode = "409", description = "Ninguna fecha de la serie estaba libre", content = @Content(mediaType = "application/json", schema = @Schema(implementation = RecurringBookingDTO.class)))
+    })
+    public ResponseEntity<RecurringBookingDTO> createRecurringBooking(
+            @RequestParam @NotNull Long timeslotId,
+            @Parameter(description = "Primera fecha posible; la serie arranca el primer día del time slot desde esta fecha")
+            @RequestParam @NotNull @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @NotNull Integer hour,
+            @Parameter(description = "Cantidad de semanas (máximo 26)") @RequestParam @NotNull Integer weeks) {
+        String username = getAuthenticatedUser().username();
+
+        RecurringBookingDTO result = bookingService.createRecurringBooking(username, timeslotId, startDate, hour, weeks);
+        HttpStatus status = result.created().isEmpty() ? HttpStatus.CONFLICT : HttpStatus.CREATED;
+        return ResponseEntity.status(status).body(result);
+    }
+
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Cancel a booking", description = "Marks a booking as inactive (cancelled) without deleting it")
     @ApiResponses(value = {
@@ -0,0 +1,46 @@
+package ar.uba.fi.ingsoft1.todo_template.booking;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Locks por franjas para serializar las reservas de una misma cancha y fecha
+ * sin bloquear las reservas de otras canchas o días.
+ */
+@Component
+public class BookingLocks {
+
+    private static final int STRIPES = 64;
+
+    private final Lock[] locks = new Lock[STRIPES];
+
+    public BookingLocks() {
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public Lock lockFor(Long fieldId, LocalDate date) {
+        return locks[stripe(fieldId, date)];
+    }
+
+    // Sin repetir franjas y siempre en el mismo orden, para que dos series que se pisan no se bloqueen entre sí
+    public List<Lock> locksFor(Long fieldId, Collection<LocalDate> dates) {
+        return dates.stream()
+                .map(date -> stripe(fieldId, date))
+                .distinct()
+                .sorted()
+                .map(stripe -> locks[stripe])
+                .toList();
+    }
+
+    private static int stripe(Long fieldId, LocalDate date) {
+        return Math.floorMod(Objects.hash(fieldId, date), STRIPES);
+    }
+}
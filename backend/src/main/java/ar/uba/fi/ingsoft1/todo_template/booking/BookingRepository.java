@@ -1,14 +1,83 @@
 package ar.uba.fi.ingsoft1.todo_template.booking;
 
+import ar.uba.fi.ingsoft1.todo_template.common.DailyCount;
+import ar.uba.fi.ingsoft1.todo_template.common.FieldHour;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
+    @EntityGraph("Booking.detail")
+    Optional<Booking> findDetailedById(Long id);
+
     List<Booking> findByTimeSlot_Field_IdAndActiveTrue(Long fieldId);
     List<Booking> findByUser_IdAndActiveTrue(Long userId);
     List<Booking> findByTimeSlot_Field_Owner_UsernameAndActiveTrue(String username);
     List<Booking> findByTimeSlot_Field_IdInAndActiveTrue(List<Long> fieldIds);
     List<Booking> findByUser_Id(Long userId);
+    List<Booking> findByTimeSlot_Field_Owner_UsernameAndActiveTrueAndIdGreaterThanOrderByIdAsc(String username, Long afterId, Limit limit);
+    long countByTimeSlot_Field_Owner_UsernameAndActiveTrue(String username);
+    List<Booking> findByUser_IdAndIdGreaterThanOrderByIdAsc(Long userId, Long afterId, Limit limit);
+    long countByUser_Id(Long userId);
+
+    @Query("""
+                SELECT new ar.uba.fi.ingsoft1.todo_template.common.DailyCount(b.bookingDate, COUNT(b))
+                FROM Booking b
+                WHERE b.timeSlot.field.owner.id = :ownerId
+                  AND b.bookingDate BETWEEN :from AND :to
+                  AND b.active = true
+                GROUP BY b.bookingDate
+            """)
+    List<DailyCount> countActiveByOwnerIdGroupedByDate(@Param("ownerId") Long ownerId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    @Query("""
+                SELECT new ar.uba.fi.ingsoft1.todo_template.common.FieldHour(b.timeSlot.field.id, b.bookingDate, b.bookingHour)
+                FROM Booking b
+                WHERE b.timeSlot.field.owner.id = :ownerId
+                  AND b.bookingDate BETWEEN :from AND :to
+                  AND b.active = true
+            """)
+    List<FieldHour> findActiveFieldHoursByOwnerIdBetween(@Param("ownerId") Long ownerId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    @Query("""
+                SELECT b.bookingHour
+                FROM Booking b
+                WHERE b.timeSlot.field.id = :fieldId
+                  AND b.bookingDate = :date
+                  AND b.active = true
+            """)
+    List<Integer> findActiveHoursByFieldIdAndDate(@Param("fieldId") Long fieldId, @Param("date") LocalDate date);
+
+    @Query("""
+                SELECT new ar.uba.fi.ingsoft1.todo_template.booking.BookedHour(b.bookingDate, b.bookingHour)
+                FROM Booking b
+                WHERE b.timeSlot.field.id = :fieldId
+                  AND b.bookingDate >= :from
+                  AND b.active = true
+            """)
+    List<BookedHour> findActiveBookedHoursByFieldIdFrom(@Param("fieldId") Long fieldId, @Param("from") LocalDate from);
+
+    // Resuelto por uk_booking_active_slot: active_field_id solo está cargado en reservas activas
+    @Query("""
+                SELECT b.bookingDate
+                FROM Booking b
+                WHERE b.activeFieldId = :fieldId
+                  AND b.bookingDate BETWEEN :from AND :to
+                  AND b.bookingHour = :hour
+            """)
+    List<LocalDate> findActiveBookingDatesByFieldIdAndHourBetween(@Param("fieldId") Long fieldId,
+            @Param("hour") int hour,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
 
 }
@@ -1,18 +1,38 @@
 package ar.uba.fi.ingsoft1.todo_template.booking;
 
+import ar.uba.fi.ingsoft1.todo_template.blockedslot.BlockedSlotRepository;
+import ar.uba.fi.ingsoft1.todo_template.common.DailyCount;
+import ar.uba.fi.ingsoft1.todo_template.common.event.SlotReleased;
+import ar.uba.fi.ingsoft1.todo_template.common.event.SlotReserved;
+import ar.uba.fi.ingsoft1.todo_template.dto.KeysetPage;
+import ar.uba.fi.ingsoft1.todo_template.dto.KeysetPagination;
+import ar.uba.fi.ingsoft1.todo_template.dto.PaginatedResponse;
 import ar.uba.fi.ingsoft1.todo_template.match.CloseMatchRepository;
 import ar.uba.fi.ingsoft1.todo_template.match.MatchService;
 import ar.uba.fi.ingsoft1.todo_template.match.OpenMatchRepository;
 import ar.uba.fi.ingsoft1.todo_template.timeslot.TimeSlotService;
 import ar.uba.fi.ingsoft1.todo_template.user.UserService;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
@@ -22,6 +42,13 @@ public class BookingService {
     private final UserService userService;
     private final TimeSlotService timeslotService;
     private final MatchService matchService;
+    private final ApplicationEventPublisher events;
+    private final BookingLocks bookingLocks;
+    private final BlockedSlotRepository blockedSlotRepository;
+
+    private static final int BOOKING_WINDOW_DAYS = 10;
+    private static final int MAX_RECURRING_WEEKS = 26;
+    private static final int MAX_SERIES_ATTEMPTS = 3;
 
     public List<BookingDTO> getBookingsByField(Long fieldId) {
         return bookingRepository.findByTimeSlot_Field_IdAndActiveTrue(fieldId).stream()
@@ -35,10 +62,12 @@ public class BookingService {
                 .toList();
     }
 
-    public List<BookingDTO> getBookingsByOwnerUsername(String username) {
-        return bookingRepository.findByTimeSlot_Field_Owner_UsernameAndActiveTrue(username).stream()
-                .map(this::toDTO)
-                .toList();
+    public PaginatedResponse<BookingDTO> getBookingsByOwnerUsername(String username, KeysetPage page) {
+        return KeysetPagination.response(
+                bookingRepository.findByTimeSlot_Field_Owner_UsernameAndActiveTrueAndIdGreaterThanOrderByIdAsc(
+                        username, page.afterId(), page.fetchLimit()),
+                page, Booking::getId, this::toDTO,
+                () -> bookingRepository.countByTimeSlot_Field_Owner_UsernameAndActiveTrue(username));
     }
 
     public BookingDTO getBookingById(Long id) {
@@ -48,19 +77,92 @@ public class BookingService {
                 .orElseThrow(() -> new IllegalArgumentException("No active booking found"));
     }
 
+    @Observed(name = "booking.create", contextualName = "create-booking")
     public BookingDTO createBooking(String username, Long timeslotId, LocalDate date, int hour) {
         var user = userService.findByUsernameOrThrow(username);
         var timeSlot = timeslotService.findByIdOrThrow(timeslotId);
         var field = timeSlot.getField();
         var fieldId = field.getId();
-        Map<LocalDate, List<Integer>> availableHours = timeslotService.getAvailableHours(fieldId, 10);
-        if (!availableHours.get(date).contains(hour)) {
-            throw new IllegalArgumentException("Specified hour is not available for that day.");
+        Lock lock = bookingLocks.lockFor(fieldId, date);
+        lock.lock();
+        try {
+            if (!isWithinBookingWindow(date) || hasStarted(date, hour, LocalDateTime.now())) {
+                throw new IllegalArgumentException("Specified hour is not available for that day.");
+            }
+            if (!timeslotService.isHourAvailable(fieldId, date, hour)) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Specified hour is not available for that day.");
+            }
+
+            var booking = new Booking(user, timeSlot, date, hour);
+            try {
+                bookingRepository.saveAndFlush(booking);
+            } catch (DataIntegrityViolationException e) {
+                // Otra instancia reservó el mismo horario entre el chequeo y el insert
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Specified hour is not available for that day.");
+            }
+            events.publishEvent(new SlotReserved(fieldId, date, hour));
+            return toDTO(booking);
+        } finally {
+            lock.unlock();
         }
+    }
 
-        var booking = new Booking(user, timeSlot, date, hour);
-        bookingRepository.save(booking);
-        return toDTO(booking);
+
+    /**
+     * Reserva la misma hora de un time slot durante varias semanas seguidas a partir del primer día
+     * del slot desde startDate. La disponibilidad de toda la serie sale de una consulta por rango a
+     * reservas y otra a bloqueos; las fechas libres se insertan en un único batch y las ocupadas se
+     * devuelven como conflictos en lugar de hacer fallar la serie completa. Si otra instancia reservó
+     * alguna fecha entre la consulta y el insert, esas fechas también pasan a conflictos.
+     */
+    @Observed(name = "booking.recurring.create", contextualName = "create-recurring-booking")
+    public RecurringBookingDTO createRecurringBooking(String username, Long timeslotId, LocalDate startDate, int hour, int weeks) {
+        if (weeks < 1 || weeks > MAX_RECURRING_WEEKS) {
+            throw new IllegalArgumentException("Weeks must be between 1 and " + MAX_RECURRING_WEEKS + ".");
+        }
+        var user = userService.findByUsernameOrThrow(username);
+        var timeSlot = timeslotService.findByIdOrThrow(timeslotId);
+        if (timeSlot.getDayOfWeek() == null || hour < timeSlot.getOpenTime() || hour >= timeSlot.getCloseTime()) {
+            throw new IllegalArgumentException("Specified hour is outside the time slot.");
+        }
+        var fieldId = timeSlot.getField().getId();
+        LocalDate first = startDate.with(TemporalAdjusters.nextOrSame(timeSlot.getDayOfWeek()));
+        List<LocalDate> dates = IntStream.range(0, weeks).mapToObj(first::plusWeeks).toList();
+        LocalDate last = dates.get(dates.size() - 1);
+
+        List<Lock> locks = bookingLocks.locksFor(fieldId, dates);
+        locks.forEach(Lock::lock);
+        try {
+            Set<LocalDate> booked = new HashSet<>(
+                    bookingRepository.findActiveBookingDatesByFieldIdAndHourBetween(fieldId, hour, first, last));
+            Set<LocalDate> blocked = new HashSet<>(
+                    blockedSlotRepository.findBlockedDatesByFieldIdAndHourBetween(fieldId, hour, first, last));
+            LocalDateTime now = LocalDateTime.now();
+
+            List<LocalDate> free = new ArrayList<>();
+            List<BookingConflictDTO> conflicts = new ArrayList<>();
+            for (LocalDate date : dates) {
+                if (date.isBefore(now.toLocalDate())) {
+                    conflicts.add(new BookingConflictDTO(date, "Date is in the past."));
+                } else if (hasStarted(date, hour, now)) {
+                    conflicts.add(new BookingConflictDTO(date, "Hour has already started."));
+                } else if (booked.contains(date)) {
+                    conflicts.add(new BookingConflictDTO(date, "Hour is already booked."));
+                } else if (blocked.contains(date)) {
+                    conflicts.add(new BookingConflictDTO(date, "Hour is blocked by the field owner."));
+                } else {
+                    free.add(date);
+                }
+            }
+
+            List<Booking> bookings = saveSeries(free, date -> new Booking(user, timeSlot, date, hour),
+                    fieldId, hour, conflicts);
+            conflicts.sort(Comparator.comparing(BookingConflictDTO::date));
+            bookings.forEach(booking -> events.publishEvent(new SlotReserved(fieldId, booking.getBookingDate(), hour)));
+            return new RecurringBookingDTO(bookings.stream().map(this::toDTO).toList(), conflicts);
+        } finally {
+            locks.reversed().forEach(Lock::unlock);
+        }
     }
 
 
@@ -72,39 +174,64 @@ public class BookingService {
             throw new IllegalStateException("Booking is already cancelled");
         }
 
+        Long fieldId = booking.getActiveFieldId();
         matchService.deleteMatch(booking);
         booking.cancel();
         bookingRepository.save(booking);
+        events.publishEvent(new SlotReleased(fieldId, booking.getBookingDate(), booking.getBookingHour()));
+    }
+
+    // Otra instancia pudo reservar alguna fecha entre la consulta y el insert: el batch entero hace rollback,
+    // las fechas que ya están tomadas pasan a conflictos y se reintenta con las demás
+    private List<Booking> saveSeries(List<LocalDate> dates, Function<LocalDate, Booking> bookingFor,
+            Long fieldId, int hour, List<BookingConflictDTO> conflicts) {
+        List<LocalDate> pending = dates;
+        for (int attempt = 0; attempt < MAX_SERIES_ATTEMPTS && !pending.isEmpty(); attempt++) {
+            List<Booking> bookings = pending.stream().map(bookingFor).toList();
+            try {
+                bookingRepository.saveAllAndFlush(bookings);
+                return bookings;
+            } catch (DataIntegrityViolationException e) {
+                Set<LocalDate> taken = new HashSet<>(bookingRepository.findActiveBookingDatesByFieldIdAndHourBetween(
+                        fieldId, hour, pending.getFirst(), pending.getLast()));
+                pending.stream()
+                        .filter(taken::contains)
+                        .forEach(date -> conflicts.add(new BookingConflictDTO(date, "Hour is already booked.")));
+                pending = pending.stream().filter(date -> !taken.contains(date)).toList();
+            }
+        }
+        if (pending.isEmpty()) {
+            return List.of();
+        }
+        throw new ResponseStatusException(HttpStatus.CONFLICT, "Specified hour is no longer available for some of the dates.");
     }
 
-    public int countBookingsForFieldsOnDate(List<Long> fieldIds, LocalDate date) {
-        return bookingRepository.findByTimeSlot_Field_IdInAndActiveTrue(fieldIds).stream()
-                .filter(b -> b.getBookingDate().isEqual(date))
-                .toList()
-                .size();
+    // Igual que el fixture: de hoy solo se pueden reservar las horas que todavía no empezaron
+    private static boolean hasStarted(LocalDate date, int hour, LocalDateTime now) {
+        return date.equals(now.toLocalDate()) && hour <= now.getHour();
     }
 
-    public int countBookingsForFieldsInDateRange(List<Long> fieldIds, int daysAhead) {
+    private boolean isWithinBookingWindow(LocalDate date) {
         LocalDate today = LocalDate.now();
-        LocalDate end = today.plusDays(daysAhead);
+        return !date.isBefore(today) && date.isBefore(today.plusDays(BOOKING_WINDOW_DAYS));
+    }
 
-        return bookingRepository.findByTimeSlot_Field_IdInAndActiveTrue(fieldIds).stream()
-                .filter(b -> !b.getBookingDate().isBefore(today) && !b.getBookingDate().isAfter(end))
-                .toList()
-                .size();
+    public Map<LocalDate, Long> countBookingsForOwnerByDate(Long ownerId, LocalDate from, LocalDate to) {
+        Map<LocalDate, Long> counts = new HashMap<>();
+        for (DailyCount daily : bookingRepository.countActiveByOwnerIdGroupedByDate(ownerId, from, to)) {
+            counts.put(daily.date(), daily.count());
+        }
+        return counts;
     }
 
     public Set<Integer> getReservedHoursForFieldAndDate(Long fieldId, LocalDate date) {
-        return bookingRepository.findByTimeSlot_Field_IdAndActiveTrue(fieldId).stream()
-                .filter(b -> b.getBookingDate().isEqual(date))
-                .map(Booking::getBookingHour)
-                .collect(Collectors.toSet());
+        return new HashSet<>(bookingRepository.findActiveHoursByFieldIdAndDate(fieldId, date));
     }
 
-    public List<BookingDTO> getAllBookingsByUser(Long userId) {
-        return bookingRepository.findByUser_Id(userId).stream()
-                .map(this::toDTO)
-                .toList();
+    public PaginatedResponse<BookingDTO> getAllBookingsByUser(Long userId, KeysetPage page) {
+        return KeysetPagination.response(
+                bookingRepository.findByUser_IdAndIdGreaterThanOrderByIdAsc(userId, page.afterId(), page.fetchLimit()),
+                page, Booking::getId, this::toDTO, () -> bookingRepository.countByUser_Id(userId));
     }
 
     private BookingDTO toDTO(Booking booking) {
@@ -0,0 +1,10 @@
+package ar.uba.fi.ingsoft1.todo_template.booking;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record RecurringBookingDTO(
+        @NotNull List<BookingDTO> created,
+        @NotNull List<BookingConflictDTO> conflicts
+) {}
@@ -0,0 +1,5 @@
+package ar.uba.fi.ingsoft1.todo_template.common;
+
+import java.time.LocalDate;
+
+public record FieldHour(Long fieldId, LocalDate date, Integer hour) {}
@@ -0,0 +1,5 @@
+package ar.uba.fi.ingsoft1.todo_template.common.event;
+
+/** Cambiaron las franjas horarias de la cancha; quien las necesite las vuelve a leer. */
+public record ScheduleChanged(Long fieldId) implements SlotEvent {
+}
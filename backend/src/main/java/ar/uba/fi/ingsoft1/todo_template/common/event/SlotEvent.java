@@ -0,0 +1,12 @@
+package ar.uba.fi.ingsoft1.todo_template.common.event;
+
+/**
+ * Cambio en la ocupación o el horario de una cancha. Los servicios que escriben reservas, bloqueos
+ * y franjas horarias los publican con ApplicationEventPublisher; los índices y caches que dependen
+ * de esos datos los escuchan con @TransactionalEventListener, así se enteran recién después del commit
+ * (o en el momento, si la escritura no corría dentro de una transacción).
+ */
+public sealed interface SlotEvent permits SlotReserved, SlotReleased, SlotBlocked, SlotUnblocked, ScheduleChanged {
+
+    Long fieldId();
+}
@@ -0,0 +1,7 @@
+package ar.uba.fi.ingsoft1.todo_template.common.event;
+
+import java.time.LocalDate;
+
+/** Se reservó la hora de la cancha en la fecha. */
+public record SlotReserved(Long fieldId, LocalDate date, int hour) implements SlotEvent {
+}
@@ -0,0 +1,7 @@
+package ar.uba.fi.ingsoft1.todo_template.common.event;
+
+import java.time.LocalDate;
+
+/** El dueño desbloqueó la hora de la cancha en la fecha. */
+public record SlotUnblocked(Long fieldId, LocalDate date, int hour) implements SlotEvent {
+}
@@ -36,6 +36,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Random;
 
@@ -517,7 +518,7 @@ public class GlobalSeeder {
             openMatch.setMaxPlayers(12);
             openMatch.setTeamOne(teamOne);
             openMatch.setTeamTwo(teamTwo);
-            openMatch.setPlayers(new ArrayList<>());
+            openMatch.setPlayers(new LinkedHashSet<>());
             
             // Agregar algunos jugadores al partido
             List<User> matchPlayers = new ArrayList<>();
@@ -525,7 +526,7 @@ public class GlobalSeeder {
                 User player = players.get((i + j) % players.size());
                 matchPlayers.add(player);
             }
-            openMatch.setPlayers(matchPlayers);
+            openMatch.setPlayers(new LinkedHashSet<>(matchPlayers));
             
             openMatchRepository.save(openMatch);
         }
@@ -593,7 +594,7 @@ public class GlobalSeeder {
         openMatch.setMaxPlayers(12);
         openMatch.setTeamOne(teamOne);
         openMatch.setTeamTwo(teamTwo);
-        openMatch.setPlayers(new ArrayList<>());
+        openMatch.setPlayers(new LinkedHashSet<>());
         
         // Agregar PLAYER.1 y 9 usuarios aleatorios más (10 en total)
         List<User> matchPlayers = new ArrayList<>();
@@ -612,7 +613,7 @@ public class GlobalSeeder {
             }
         }
         
-        openMatch.setPlayers(matchPlayers);
+        openMatch.setPlayers(new LinkedHashSet<>(matchPlayers));
         openMatchRepository.save(openMatch);
     }
 
@@ -654,7 +655,7 @@ public class GlobalSeeder {
             openMatch.setMaxPlayers(12);
             openMatch.setTeamOne(teamOne);
             openMatch.setTeamTwo(teamTwo);
-            openMatch.setPlayers(new ArrayList<>());
+            openMatch.setPlayers(new LinkedHashSet<>());
             List<User> matchPlayers = new ArrayList<>();
             matchPlayers.add(player1);
             for (int j = 1; j < 8; j++) {
@@ -663,12 +664,12 @@ public class GlobalSeeder {
                     matchPlayers.add(player);
                 }
             }
-            openMatch.setPlayers(matchPlayers);
+            openMatch.setPlayers(new LinkedHashSet<>(matchPlayers));
             openMatchRepository.save(openMatch);
         }
         
         // Crear 2 partidos cerrados pasados (igual que antes)
-        List<Team> availableTeams = teamRepository.findAll();
+        List<Team> availableTeams = teamRepository.findAllWithMembersBy();
         for (int i = 1; i <= 2; i++) {
             User creator = players.get((i + 10) % players.size());
             List<TimeSlot> timeSlots = timeSlotRepository.findAll();
@@ -0,0 +1,106 @@
+package ar.uba.fi.ingsoft1.todo_template.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinTable;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.metamodel.EntityType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Verifica al arrancar que la base tenga los índices y restricciones únicas con nombre que declaran
+ * las entidades (@Table y @JoinTable). Las consultas calientes y los controles de concurrencia
+ * dependen de ellos, así que si falta alguno la aplicación no levanta en lugar de degradarse en silencio.
+ */
+@Component
+@ConditionalOnProperty(name = "app.schema.validate-indexes", havingValue = "true")
+public class SchemaIndexValidator {
+
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+
+    // Depende del EntityManagerFactory para correr después de que Hibernate creó o actualizó el esquema
+    public SchemaIndexValidator(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        this.dataSource = dataSource;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @PostConstruct
+    void validate() throws SQLException {
+        Set<String> missing = requiredIndexes();
+        missing.removeAll(existingIndexes());
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Missing required database indexes: " + String.join(", ", missing));
+        }
+    }
+
+    Set<String> requiredIndexes() {
+        Set<String> required = new TreeSet<>();
+        for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+            Class<?> type = entity.getJavaType();
+            Table table = type.getAnnotation(Table.class);
+            if (table != null) {
+                addNames(required, table.indexes(), table.uniqueConstraints());
+            }
+            for (Field field : type.getDeclaredFields()) {
+                JoinTable joinTable = field.getAnnotation(JoinTable.class);
+                if (joinTable != null) {
+                    addNames(required, joinTable.indexes(), joinTable.uniqueConstraints());
+                }
+            }
+        }
+        return required;
+    }
+
+    private Set<String> existingIndexes() throws SQLException {
+        Set<String> existing = new TreeSet<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String schema = connection.getSchema();
+            try (ResultSet tables = metaData.getTables(connection.getCatalog(), schema, "%", new String[] { "TABLE" })) {
+                while (tables.next()) {
+                    String tableName = tables.getString("TABLE_NAME");
+                    try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), schema, tableName, false, true)) {
+                        while (indexes.next()) {
+                            String indexName = indexes.getString("INDEX_NAME");
+                            if (indexName != null) {
+                                existing.add(normalize(indexName));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return existing;
+    }
+
+    private static void addNames(Set<String> names, Index[] indexes, UniqueConstraint[] constraints) {
+        for (Index index : indexes) {
+            if (!index.name().isBlank()) {
+                names.add(normalize(index.name()));
+            }
+        }
+        for (UniqueConstraint constraint : constraints) {
+            if (!constraint.name().isBlank()) {
+                names.add(normalize(constraint.name()));
+            }
+        }
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
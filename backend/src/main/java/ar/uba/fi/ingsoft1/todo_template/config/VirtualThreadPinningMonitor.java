@@ -0,0 +1,73 @@
+package ar.uba.fi.ingsoft1.todo_template.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Detecta virtual threads fijados a su carrier (por ejemplo al bloquear dentro de un synchronized)
+ * escuchando el evento jdk.VirtualThreadPinned de JFR. Cada evento que supera el umbral se loguea
+ * con las primeras líneas del stack, para encontrar el monitor que hay que pasar a un ReentrantLock.
+ * Solo corre cuando los requests se atienden en virtual threads.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private final Duration threshold;
+    private final AtomicLong pinnedEvents = new AtomicLong();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            @Value("${app.virtual-threads.pinned-threshold-ms:20}") long thresholdMillis) {
+        this.threshold = Duration.ofMillis(thresholdMillis);
+    }
+
+    @PostConstruct
+    void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::report);
+        stream.startAsync();
+    }
+
+    public long pinnedEvents() {
+        return pinnedEvents.get();
+    }
+
+    private void report(RecordedEvent event) {
+        pinnedEvents.incrementAndGet();
+        String frames = event.getStackTrace() == null ? "sin stack" : event.getStackTrace().getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(VirtualThreadPinningMonitor::describe)
+                .collect(Collectors.joining("\n\tat "));
+        log.warn("Virtual thread fijado a su carrier durante {} ms en {}:\n\tat {}",
+                event.getDuration().toMillis(), event.getThread() == null ? "?" : event.getThread().getJavaName(), frames);
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
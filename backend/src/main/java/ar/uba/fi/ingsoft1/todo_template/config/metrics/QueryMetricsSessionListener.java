@@ -0,0 +1,33 @@
+package ar.uba.fi.ingsoft1.todo_template.config.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate crea una instancia por sesión (hibernate.session.events.auto) y avisa el inicio y fin de
+ * cada sentencia y de cada lote JDBC; el tiempo se suma a las estadísticas del request en curso.
+ */
+public class QueryMetricsSessionListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestQueryStats.record(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestQueryStats.record(System.nanoTime() - batchStart);
+    }
+}
@@ -0,0 +1,77 @@
+package ar.uba.fi.ingsoft1.todo_template.config.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publica por endpoint cuántas sentencias JDBC ejecutó Hibernate en cada request y cuánto tiempo
+ * pasaron en la base (hibernate.request.statements y hibernate.request.statement.time), con histogramas
+ * para p99. Va primero en la cadena para contar también las consultas de la autenticación.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestQueryMetricsFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    public RequestQueryMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueryStats.close();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestQueryStats stats) {
+        // El patrón del endpoint (/bookings/{id}) lo deja el DispatcherServlet; se usa en lugar de la URI para acotar los tags
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of("method", request.getMethod(), "uri", pattern != null ? pattern.toString() : UNKNOWN_URI);
+
+        DistributionSummary.builder("hibernate.request.statements")
+                .description("Sentencias JDBC ejecutadas por request")
+                .baseUnit("statements")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.statements());
+        Timer.builder("hibernate.request.statement.time")
+                .description("Tiempo en la base por request")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.nanos(), TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,42 @@
+package ar.uba.fi.ingsoft1.todo_template.config.metrics;
+
+/**
+ * Cantidad y tiempo de las sentencias JDBC que ejecutó Hibernate en el request del thread actual.
+ * Lo abre y cierra {@link RequestQueryMetricsFilter}; fuera de un request (seeder, jobs) no se acumula nada.
+ */
+final class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private long statements;
+    private long nanos;
+
+    private RequestQueryStats() {
+    }
+
+    static RequestQueryStats open() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void close() {
+        CURRENT.remove();
+    }
+
+    static void record(long statementNanos) {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+            stats.nanos += statementNanos;
+        }
+    }
+
+    long statements() {
+        return statements;
+    }
+
+    long nanos() {
+        return nanos;
+    }
+}
@@ -1,5 +1,7 @@
 package ar.uba.fi.ingsoft1.todo_template.config.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,15 +17,31 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Component
 class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
+    private final Timer authenticatedTimer;
+    private final Timer anonymousTimer;
+    private final Timer rejectedTimer;
 
     @Autowired
-    JwtAuthFilter(JwtService jwtService) {
+    JwtAuthFilter(JwtService jwtService, MeterRegistry meterRegistry) {
         this.jwtService = jwtService;
+        this.authenticatedTimer = authTimer(meterRegistry, "authenticated");
+        this.anonymousTimer = authTimer(meterRegistry, "anonymous");
+        this.rejectedTimer = authTimer(meterRegistry, "rejected");
+    }
+
+    // Tiempo de validar el token (sin el resto de la cadena), por resultado
+    private static Timer authTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("auth.jwt")
+                .description("Validación del access token de cada request")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     @Override
@@ -32,32 +50,38 @@ class JwtAuthFilter extends OncePerRequestFilter {
             @NonNull HttpServletResponse response,
             FilterChain filterChain
     ) throws ServletException, IOException {
-        this.authenticateToken(request);
+        long start = System.nanoTime();
+        Timer timer = this.authenticateToken(request);
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         filterChain.doFilter(request, response);
     }
 
-    private void authenticateToken(HttpServletRequest request) {
+    private Timer authenticateToken(HttpServletRequest request) {
         // Is the user already authenticated?
         if (SecurityContextHolder.getContext().getAuthentication() != null) {
-            return;
+            return authenticatedTimer;
         }
 
         // Try to get the token
         String authHeader = request.getHeader("Authorization");
         String headerPrefix = "Bearer ";
         if (authHeader == null || !authHeader.startsWith(headerPrefix)) {
-            return;
+            return anonymousTimer;
         }
         String token = authHeader.substring(headerPrefix.length());
 
-        jwtService.extractVerifiedUserDetails(token).ifPresent(userDetails -> {
-            var authToken = new UsernamePasswordAuthenticationToken(
-                    userDetails,
-                    null,
-                    List.of(new SimpleGrantedAuthority(userDetails.role()))
-            );
-            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-            SecurityContextHolder.getContext().setAuthentication(authToken);
-        });
+        var verified = jwtService.extractVerifiedUserDetails(token);
+        if (verified.isEmpty()) {
+            return rejectedTimer;
+        }
+        var userDetails = verified.get();
+        var authToken = new UsernamePasswordAuthenticationToken(
+                userDetails,
+                null,
+                List.of(new SimpleGrantedAuthority(userDetails.role()))
+        );
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+        return authenticatedTimer;
     }
 }
@@ -1,6 +1,7 @@
 package ar.uba.fi.ingsoft1.todo_template.config.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -9,22 +10,30 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.Optional;
 
 @Service
 public class JwtService {
 
-    private final String secret;
     private final Long expiration;
+    // La clave y el parser se arman una sola vez: ambos son inmutables y thread-safe
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokens;
 
     @Autowired
     JwtService(
             @Value("${jwt.access.secret}") String secret,
-            @Value("${jwt.access.expiration}") Long expiration
+            @Value("${jwt.access.expiration}") Long expiration,
+            @Value("${jwt.access.verified-cache-size:10000}") int verifiedCacheSize
     ) {
-        this.secret = secret;
         this.expiration = expiration;
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.verifiedTokens = new VerifiedTokenCache(verifiedCacheSize, Duration.ofMillis(expiration));
     }
 
     public String createToken(JwtUserDetails claims) {
@@ -33,31 +42,33 @@ public class JwtService {
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + expiration))
                 .claim("role", claims.role())
-                .signWith(getSigningKey(), Jwts.SIG.HS256)
+                .signWith(signingKey, Jwts.SIG.HS256)
                 .compact();
     }
 
     Optional<JwtUserDetails> extractVerifiedUserDetails(String token) {
+        Instant now = Instant.now();
+        Optional<JwtUserDetails> cached = verifiedTokens.get(token, now);
+        if (cached.isPresent()) {
+            return cached;
+        }
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
+            Claims claims = parser
                     .parseSignedClaims(token)
                     .getPayload();
             if (claims.containsKey("sub")
                     && claims.containsKey("role")
                     && claims.get("role") instanceof String role
             ) {
-                return Optional.of(new JwtUserDetails(claims.getSubject(), role));
+                var userDetails = new JwtUserDetails(claims.getSubject(), role);
+                if (claims.getExpiration() != null) {
+                    verifiedTokens.put(token, userDetails, claims.getExpiration().toInstant());
+                }
+                return Optional.of(userDetails);
             }
         } catch (Exception e) {
             // Some exception happened during jwt parse
         }
         return Optional.empty();
     }
-
-    private SecretKey getSigningKey() {
-        byte[] bytes = Decoders.BASE64.decode(secret);
-        return Keys.hmacShaKeyFor(bytes);
-    }
 }
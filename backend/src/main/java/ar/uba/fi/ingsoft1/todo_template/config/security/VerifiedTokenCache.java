@@ -0,0 +1,51 @@
+package ar.uba.fi.ingsoft1.todo_template.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Cache acotado de tokens ya verificados, indexado por el token mismo: buscarlo cuesta un hash de
+ * String y no una digestión, y Caffeine no serializa los requests detrás de un lock global.
+ * Cada entrada vale hasta el {@code exp} del token y se descarta a más tardar cuando pasa la
+ * duración de un access token desde que se guardó.
+ */
+class VerifiedTokenCache {
+
+    private record Entry(JwtUserDetails userDetails, Instant expiresAt) {}
+
+    private final Cache<String, Entry> entries;
+
+    VerifiedTokenCache(int maxEntries, Duration maxLifetime) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(Math.max(maxEntries, 0))
+                .expireAfterWrite(maxLifetime.isNegative() ? Duration.ZERO : maxLifetime)
+                // el mantenimiento corre en el hilo que escribe, sin pasar por el ForkJoinPool común
+                .executor(Runnable::run)
+                .build();
+    }
+
+    Optional<JwtUserDetails> get(String token, Instant now) {
+        Entry entry = entries.getIfPresent(token);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (!now.isBefore(entry.expiresAt())) {
+            entries.asMap().remove(token, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.userDetails());
+    }
+
+    void put(String token, JwtUserDetails userDetails, Instant expiresAt) {
+        entries.put(token, new Entry(userDetails, expiresAt));
+    }
+
+    long size() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+}
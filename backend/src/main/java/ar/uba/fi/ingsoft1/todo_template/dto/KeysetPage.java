@@ -0,0 +1,15 @@
+package ar.uba.fi.ingsoft1.todo_template.dto;
+
+import org.springframework.data.domain.Limit;
+
+/**
+ * Pedido de una página por keyset: los resultados se ordenan por id y la página
+ * arranca después de {@code afterId}.
+ */
+public record KeysetPage(long afterId, int limit, boolean includeTotal) {
+
+    /** Se pide una fila de más para saber si hay página siguiente sin contar. */
+    public Limit fetchLimit() {
+        return Limit.of(limit + 1);
+    }
+}
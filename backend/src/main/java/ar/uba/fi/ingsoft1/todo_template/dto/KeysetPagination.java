@@ -0,0 +1,119 @@
+package ar.uba.fi.ingsoft1.todo_template.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Traduce los parámetros {@code cursor}, {@code limit} e {@code includeTotal} de los listados
+ * a un {@link KeysetPage} y arma el {@link PaginatedResponse} con el cursor de la página siguiente.
+ */
+@Component
+public class KeysetPagination {
+
+    private static final String CURSOR_PREFIX = "id:";
+    private static final String SORT_KEY_PREFIX = "key:";
+
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public KeysetPagination(
+            @Value("${app.pagination.default-page-size:20}") int defaultPageSize,
+            @Value("${app.pagination.max-page-size:100}") int maxPageSize) {
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    public KeysetPage request(String cursor, Integer limit, boolean includeTotal) {
+        String id = decode(cursor, CURSOR_PREFIX);
+        long afterId;
+        try {
+            afterId = id == null ? 0L : Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            throw invalidCursor();
+        }
+        return new KeysetPage(afterId, pageSize(limit), includeTotal);
+    }
+
+    /** Para listados que no se ordenan por id: el cursor lleva la clave de orden del último resultado. */
+    public SortKeyPage requestBySortKey(String cursor, Integer limit, boolean includeTotal) {
+        return new SortKeyPage(decode(cursor, SORT_KEY_PREFIX), pageSize(limit), includeTotal);
+    }
+
+    private int pageSize(Integer limit) {
+        int size = limit == null ? defaultPageSize : limit;
+        if (size < 1 || size > maxPageSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "limit must be between 1 and " + maxPageSize + ".");
+        }
+        return size;
+    }
+
+    /**
+     * @param rows  filas traídas con {@link KeysetPage#fetchLimit()}, ordenadas por id
+     * @param total se invoca solo si el pedido incluye el total
+     */
+    public static <E, T> PaginatedResponse<T> response(List<E> rows, KeysetPage page, Function<E, Long> idOf,
+            Function<E, T> mapper, LongSupplier total) {
+        return build(rows, page.limit(), page.includeTotal(), row -> encode(CURSOR_PREFIX + idOf.apply(row)), mapper, total);
+    }
+
+    public static <T> PaginatedResponse<T> response(List<T> rows, KeysetPage page, Function<T, Long> idOf, LongSupplier total) {
+        return response(rows, page, idOf, Function.identity(), total);
+    }
+
+    /**
+     * @param rows  filas traídas con {@link SortKeyPage#fetchLimit()}, ordenadas por la clave
+     * @param keyOf clave de orden de una fila; la siguiente página arranca después de ella
+     */
+    public static <T> PaginatedResponse<T> response(List<T> rows, SortKeyPage page, Function<T, String> keyOf,
+            LongSupplier total) {
+        return build(rows, page.limit(), page.includeTotal(), row -> encode(SORT_KEY_PREFIX + keyOf.apply(row)),
+                Function.identity(), total);
+    }
+
+    private static <E, T> PaginatedResponse<T> build(List<E> rows, int limit, boolean includeTotal,
+            Function<E, String> cursorOf, Function<E, T> mapper, LongSupplier total) {
+        boolean hasNext = rows.size() > limit;
+        List<E> content = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.getLast()) : null;
+
+        Long totalResults = includeTotal ? total.getAsLong() : null;
+        Integer totalPages = totalResults == null ? null : (int) ((totalResults + limit - 1) / limit);
+
+        return new PaginatedResponse<>(
+                content.stream().map(mapper).toList(),
+                new PaginatedResponse.PaginationInfo(null, limit, totalResults, totalPages, nextCursor));
+    }
+
+    private static String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String cursor, String prefix) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (value.startsWith(prefix)) {
+                return value.substring(prefix.length());
+            }
+        } catch (IllegalArgumentException e) {
+            // cae al error de abajo
+        }
+        throw invalidCursor();
+    }
+
+    public static ResponseStatusException invalidCursor() {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor.");
+    }
+}
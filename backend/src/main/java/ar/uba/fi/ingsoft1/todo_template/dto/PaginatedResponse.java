@@ -2,6 +2,7 @@ package ar.uba.fi.ingsoft1.todo_template.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.List;
+import org.springframework.data.domain.Page;
 
 @Schema(description = "Paginated response wrapper")
 public record PaginatedResponse<T>(
@@ -13,16 +14,26 @@ public record PaginatedResponse<T>(
 ) {
     @Schema(description = "Pagination metadata")
     public record PaginationInfo(
-        @Schema(description = "Current page number")
-        int page,
+        @Schema(description = "Current page number, only for page-numbered endpoints")
+        Integer page,
         
         @Schema(description = "Number of items per page")
         int limit,
         
-        @Schema(description = "Total number of results")
-        long totalResults,
+        @Schema(description = "Total number of results, when requested")
+        Long totalResults,
         
-        @Schema(description = "Total number of pages")
-        int totalPages
+        @Schema(description = "Total number of pages, when the total is known")
+        Integer totalPages,
+
+        @Schema(description = "Cursor to request the next page, null on the last page")
+        String nextCursor
     ) {}
-} 
\ No newline at end of file
+
+    /** Arma la respuesta a partir de una página de Spring Data; el número de página es 1-based. */
+    public static <T> PaginatedResponse<T> of(Page<T> page) {
+        return new PaginatedResponse<>(
+                page.getContent(),
+                new PaginationInfo(page.getNumber() + 1, page.getSize(), page.getTotalElements(), page.getTotalPages(), null));
+    }
+}
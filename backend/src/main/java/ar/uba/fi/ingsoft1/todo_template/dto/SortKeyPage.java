@@ -0,0 +1,15 @@
+package ar.uba.fi.ingsoft1.todo_template.dto;
+
+import org.springframework.data.domain.Limit;
+
+/**
+ * Pedido de una página por keyset sobre una clave de orden propia del listado (por ejemplo fecha y hora);
+ * {@code afterKey} es null en la primera página.
+ */
+public record SortKeyPage(String afterKey, int limit, boolean includeTotal) {
+
+    /** Se pide una fila de más para saber si hay página siguiente sin contar. */
+    public Limit fetchLimit() {
+        return Limit.of(limit + 1);
+    }
+}
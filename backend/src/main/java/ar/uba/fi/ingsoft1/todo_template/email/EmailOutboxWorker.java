@@ -0,0 +1,188 @@
+package ar.uba.fi.ingsoft1.todo_template.email;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Despacha la outbox de mails. En cada ciclo reclama un lote de mails vencidos en una transacción corta
+ * (FOR UPDATE SKIP LOCKED y próximo intento corrido al fin del lease), así otra instancia o un ciclo
+ * siguiente no lo vuelve a enviar mientras este lo despacha; si el proceso se cae, el lote se retoma al vencer el lease.
+ * Después lo reparte entre un pool acotado de virtual threads y cada uno envía su parte en una sola conexión SMTP.
+ * Los fallos se reintentan con backoff exponencial hasta agotar los intentos, y ahí el mail
+ * queda en estado DEAD. Publica el tiempo de cada envío SMTP y la cantidad de mails enviados y fallidos.
+ */
+@Component
+@ConditionalOnProperty(name = "app.email-outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class EmailOutboxWorker {
+
+    private final OutboundEmailRepository outboundEmailRepository;
+    private final TransactionOperations transactions;
+    private final JavaMailSender mailSender;
+    private final String fromAddress;
+    private final int batchSize;
+    private final int workerCount;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration lease;
+    private final ExecutorService workers;
+    private final Timer smtpSendTimer;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+
+    public EmailOutboxWorker(
+            OutboundEmailRepository outboundEmailRepository,
+            TransactionOperations transactions,
+            JavaMailSender mailSender,
+            @Value("${spring.mail.username}") String fromAddress,
+            @Value("${app.email-outbox.batch-size:50}") int batchSize,
+            @Value("${app.email-outbox.workers:4}") int workerCount,
+            @Value("${app.email-outbox.max-attempts:6}") int maxAttempts,
+            @Value("${app.email-outbox.base-backoff-seconds:30}") long baseBackoffSeconds,
+            @Value("${app.email-outbox.lease-seconds:300}") long leaseSeconds,
+            MeterRegistry meterRegistry) {
+        this.outboundEmailRepository = outboundEmailRepository;
+        this.transactions = transactions;
+        this.mailSender = mailSender;
+        this.fromAddress = fromAddress;
+        this.batchSize = batchSize;
+        this.workerCount = workerCount;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = Duration.ofSeconds(baseBackoffSeconds);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.workers = Executors.newFixedThreadPool(workerCount,
+                Thread.ofVirtual().name("email-outbox-", 0).factory());
+        this.smtpSendTimer = Timer.builder("email.smtp.send")
+                .description("Envío de un lote de mails en una conexión SMTP")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.sentCounter = deliveryCounter(meterRegistry, "sent");
+        this.failedCounter = deliveryCounter(meterRegistry, "failed");
+    }
+
+    private static Counter deliveryCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("email.delivery")
+                .description("Intentos de entrega de mails de la outbox")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.email-outbox.poll-interval-ms:2000}")
+    public void drain() {
+        List<OutboundEmail> due = claimDue();
+        if (due.isEmpty()) {
+            return;
+        }
+
+        int chunkSize = (due.size() + workerCount - 1) / workerCount;
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int i = 0; i < due.size(); i += chunkSize) {
+            List<OutboundEmail> chunk = due.subList(i, Math.min(i + chunkSize, due.size()));
+            tasks.add(workers.submit(() -> deliver(chunk)));
+        }
+        try {
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // deliver no propaga errores de envío; cualquier otro fallo deja el lote para el próximo ciclo
+        }
+        outboundEmailRepository.saveAll(due);
+    }
+
+    private List<OutboundEmail> claimDue() {
+        return transactions.execute(status -> {
+            Instant now = Instant.now();
+            List<OutboundEmail> due = outboundEmailRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                    OutboundEmailStatus.PENDING, now, PageRequest.of(0, batchSize));
+            // el lease se guarda al commit y libera los locks antes de hablar con el SMTP
+            due.forEach(email -> email.lease(now.plus(lease)));
+            return due;
+        });
+    }
+
+    private void deliver(List<OutboundEmail> chunk) {
+        Instant now = Instant.now();
+        Map<MimeMessage, OutboundEmail> messages = new IdentityHashMap<>();
+        for (OutboundEmail email : chunk) {
+            try {
+                messages.put(buildMessage(email), email);
+            } catch (MessagingException e) {
+                fail(email, e, now);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Timer.Sample sample = Timer.start();
+        try {
+            mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                messages.values().forEach(email -> fail(email, e, now));
+                return;
+            }
+            e.getFailedMessages().forEach((message, error) -> {
+                OutboundEmail email = messages.remove(message);
+                if (email != null) {
+                    fail(email, error, now);
+                }
+            });
+        } catch (MailException e) {
+            messages.values().forEach(email -> fail(email, e, now));
+            return;
+        } finally {
+            sample.stop(smtpSendTimer);
+        }
+        messages.values().forEach(email -> email.markSent(now));
+        sentCounter.increment(messages.size());
+    }
+
+    private MimeMessage buildMessage(OutboundEmail email) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getSubject());
+        helper.setText(email.getHtmlContent(), true);
+        helper.setFrom(fromAddress);
+        return message;
+    }
+
+    private void fail(OutboundEmail email, Exception error, Instant now) {
+        Duration backoff = baseBackoff.multipliedBy(1L << Math.min(email.getAttempts(), 20));
+        email.markFailed(error.getMessage(), now.plus(backoff), maxAttempts);
+        failedCounter.increment();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdown();
+    }
+}
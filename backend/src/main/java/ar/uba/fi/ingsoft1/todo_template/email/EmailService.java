@@ -1,44 +1,40 @@
 package ar.uba.fi.ingsoft1.todo_template.email;
 
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.List;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
+/**
+ * Encola los mails en la outbox. El envío por SMTP lo hace {@link EmailOutboxWorker},
+ * por lo que ninguna request espera al servidor de correo.
+ */
 @Service
 public class EmailService {
-    @Autowired
-    private JavaMailSender mailSender;
-
-    @Value("${spring.mail.username}")
-    private String fromAddress;
-
-    public void sendMailMessage(List<String> normalizedCont) throws UnableToSendMessageException{
-        try {
-            sendMessage(normalizedCont.get(0), normalizedCont.get(1), normalizedCont.get(2));
-        } catch (MessagingException e) {
-            throw new UnableToSendMessageException(normalizedCont.getFirst());
-        }
+
+    private final OutboundEmailRepository outboundEmailRepository;
+    private final TemplateEngine emailTemplateEngine;
+    private final Timer enqueueTimer;
+
+    public EmailService(OutboundEmailRepository outboundEmailRepository, TemplateEngine emailTemplateEngine,
+            MeterRegistry meterRegistry) {
+        this.outboundEmailRepository = outboundEmailRepository;
+        this.emailTemplateEngine = emailTemplateEngine;
+        this.enqueueTimer = Timer.builder("email.enqueue")
+                .description("Alta de un mail en la outbox")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
-    public void sendMessage(String to, String subject, String htmlContent) throws MessagingException {
-        MimeMessage message = mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-        helper.setTo(to);
-        helper.setSubject(subject);
-        helper.setText(htmlContent, true);
-        helper.setFrom(fromAddress);
-        mailSender.send(message);
+    public void sendMailMessage(List<String> normalizedCont) {
+        sendMessage(normalizedCont.get(0), normalizedCont.get(1), normalizedCont.get(2));
     }
 
-    @Autowired
-    private TemplateEngine emailTemplateEngine;
+    public void sendMessage(String to, String subject, String htmlContent) {
+        enqueueTimer.record(() -> outboundEmailRepository.save(new OutboundEmail(to, subject, htmlContent)));
+    }
 
     public void sendTeamConfirmation(String to, String nombre, String fecha, String hora, String equipo) {
         Context context = new Context();
@@ -49,10 +45,6 @@ public class EmailService {
 
         String htmlContent = emailTemplateEngine.process("confirmed-team", context);
 
-        try {
-            sendMessage(to, "Confirmación de equipo para el partido", htmlContent);
-        } catch (MessagingException e) {
-            throw new UnableToSendMessageException(to);
-        }
+        sendMessage(to, "Confirmación de equipo para el partido", htmlContent);
     }
-}
\ No newline at end of file
+}
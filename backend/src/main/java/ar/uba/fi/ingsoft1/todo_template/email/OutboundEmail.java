@@ -0,0 +1,86 @@
+package ar.uba.fi.ingsoft1.todo_template.email;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Mail pendiente de envío. Se guarda dentro de la transacción que lo origina
+ * y lo despacha {@link EmailOutboxWorker} en segundo plano.
+ */
+@Getter
+@Entity
+@Table(name = "outbound_email", indexes = {
+        @Index(name = "idx_outbound_email_status_next", columnList = "status, next_attempt_at")
+})
+public class OutboundEmail {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(nullable = false, length = 65535)
+    private String htmlContent;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboundEmailStatus status = OutboundEmailStatus.PENDING;
+
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    private Instant createdAt;
+
+    private Instant sentAt;
+
+    protected OutboundEmail() {}
+
+    public OutboundEmail(String recipient, String subject, String htmlContent) {
+        this.recipient = recipient;
+        this.subject = subject;
+        this.htmlContent = htmlContent;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = Instant.now();
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+    }
+
+    /** Reclama el mail para un envío: ningún otro ciclo lo toma hasta {@code until}. */
+    public void lease(Instant until) {
+        nextAttemptAt = until;
+    }
+
+    public void markSent(Instant now) {
+        status = OutboundEmailStatus.SENT;
+        sentAt = now;
+        lastError = null;
+    }
+
+    public void markFailed(String error, Instant retryAt, int maxAttempts) {
+        attempts++;
+        lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        if (attempts >= maxAttempts) {
+            status = OutboundEmailStatus.DEAD;
+        } else {
+            nextAttemptAt = retryAt;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package ar.uba.fi.ingsoft1.todo_template.email;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface OutboundEmailRepository extends JpaRepository<OutboundEmail, Long> {
+    // SELECT ... FOR UPDATE SKIP LOCKED (timeout -2): las filas que está reclamando otra instancia se saltean
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+    List<OutboundEmail> findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+            OutboundEmailStatus status, Instant now, Pageable pageable);
+}
@@ -0,0 +1,7 @@
+package ar.uba.fi.ingsoft1.todo_template.email;
+
+public enum OutboundEmailStatus {
+    PENDING,
+    SENT,
+    DEAD
+}
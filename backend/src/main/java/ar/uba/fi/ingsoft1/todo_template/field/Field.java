@@ -3,8 +3,12 @@ package ar.uba.fi.ingsoft1.todo_template.field;
 import ar.uba.fi.ingsoft1.todo_template.user.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "fields")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,6 +1,8 @@
 package ar.uba.fi.ingsoft1.todo_template.field;
 
 import ar.uba.fi.ingsoft1.todo_template.config.security.JwtUserDetails;
+import ar.uba.fi.ingsoft1.todo_template.dto.KeysetPagination;
+import ar.uba.fi.ingsoft1.todo_template.dto.PaginatedResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -24,10 +26,12 @@ import java.util.List;
 public class FieldController {
 
     private final FieldService fieldService;
+    private final KeysetPagination keysetPagination;
 
 
-    public FieldController(FieldService fieldService) {
+    public FieldController(FieldService fieldService, KeysetPagination keysetPagination) {
         this.fieldService = fieldService;
+        this.keysetPagination = keysetPagination;
     }
 
     @PostMapping
@@ -108,13 +112,30 @@ public class FieldController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Listado de canchas activas")
     })
-    public ResponseEntity<List<Field>> listAllActiveFields() {
-        List<Field> activeFields = fieldService.getAllActiveFields();
-        return ResponseEntity.ok(activeFields);
+    public ResponseEntity<PaginatedResponse<Field>> listAllActiveFields(
+            @Parameter(description = "Cursor devuelto por la página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Cantidad de resultados por página") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Incluir el total de resultados") @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(fieldService.getActiveFields(keysetPagination.request(cursor, limit, includeTotal)));
     }
 
-
-
+    @GetMapping("/available")
+    @Operation(summary = "Buscar canchas libres", description = "Devuelve las canchas activas de la zona con la hora libre en la fecha, ordenadas por precio")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listado de canchas libres")
+    })
+    public ResponseEntity<List<Field>> searchAvailableFields(
+            @RequestParam String zone,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam int hour,
+            @RequestParam(required = false) String grassType,
+            @RequestParam(required = false) Boolean lighting,
+            @RequestParam(required = false) Boolean roofing,
+            @Parameter(description = "Precio máximo") @RequestParam(required = false) Double maxPrice,
+            @Parameter(description = "Cantidad máxima de resultados") @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(fieldService.searchAvailableFields(
+                zone, date, hour, grassType, lighting, roofing, maxPrice, limit));
+    }
 
     private JwtUserDetails getAuthenticatedUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
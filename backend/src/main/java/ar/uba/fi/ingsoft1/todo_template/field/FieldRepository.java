@@ -1,8 +1,13 @@
 package ar.uba.fi.ingsoft1.todo_template.field;
 
 import ar.uba.fi.ingsoft1.todo_template.user.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,7 +16,51 @@ public interface FieldRepository extends JpaRepository<Field, Long> {
     boolean existsByNameAndAddressAndIdNot(String name, String address, Long id);
     Optional<Field> findByIdAndOwner(Long id, User owner);
     List<Field> findByOwner(User owner);
+    long countByOwner(User owner);
     List<Field> findByActiveTrue();
+    List<Field> findByActiveTrueAndIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+    long countByActiveTrue();
     Field findById(long id);
 
+    /**
+     * Canchas activas de la zona con la hora abierta y libre en la fecha, más baratas primero.
+     * Los filtros nulos no se aplican.
+     */
+    @Query("""
+                SELECT f
+                FROM Field f
+                WHERE f.active = true
+                  AND f.zone = :zone
+                  AND (:grassType IS NULL OR f.grassType = :grassType)
+                  AND (:lighting IS NULL OR f.lighting = :lighting)
+                  AND (:roofing IS NULL OR f.roofing = :roofing)
+                  AND (:maxPrice IS NULL OR f.price <= :maxPrice)
+                  AND EXISTS (
+                      SELECT 1 FROM TimeSlot t
+                      WHERE t.field = f
+                        AND t.dayOfWeek = :dayOfWeek
+                        AND t.openTime <= :hour
+                        AND t.closeTime > :hour)
+                  AND NOT EXISTS (
+                      SELECT 1 FROM Booking b
+                      WHERE b.activeFieldId = f.id
+                        AND b.bookingDate = :date
+                        AND b.bookingHour = :hour)
+                  AND NOT EXISTS (
+                      SELECT 1 FROM BlockedSlot s
+                      WHERE s.field = f
+                        AND s.date = :date
+                        AND s.hour = :hour)
+                ORDER BY f.price ASC, f.id ASC
+            """)
+    List<Field> findAvailableInZone(@Param("zone") String zone,
+            @Param("date") LocalDate date,
+            @Param("dayOfWeek") DayOfWeek dayOfWeek,
+            @Param("hour") int hour,
+            @Param("grassType") String grassType,
+            @Param("lighting") Boolean lighting,
+            @Param("roofing") Boolean roofing,
+            @Param("maxPrice") Double maxPrice,
+            Limit limit);
+
 }
@@ -1,29 +1,40 @@
 package ar.uba.fi.ingsoft1.todo_template.field;
 
 import ar.uba.fi.ingsoft1.todo_template.booking.BookingService;
+import ar.uba.fi.ingsoft1.todo_template.dto.KeysetPage;
+import ar.uba.fi.ingsoft1.todo_template.dto.KeysetPagination;
+import ar.uba.fi.ingsoft1.todo_template.dto.PaginatedResponse;
+import ar.uba.fi.ingsoft1.todo_template.match.OpenMatchIndex;
 import ar.uba.fi.ingsoft1.todo_template.timeslot.TimeSlotService;
 import ar.uba.fi.ingsoft1.todo_template.user.User;
 import ar.uba.fi.ingsoft1.todo_template.user.UserService;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class FieldService {
 
+    private static final int MAX_SEARCH_RESULTS = 50;
+
     private final FieldRepository fieldRepository;
     private final UserService userService;
     private final BookingService bookingService;
     private final TimeSlotService timeslotService;
+    private final OpenMatchIndex openMatchIndex;
 
-    public FieldService(FieldRepository fieldRepository, UserService userService, BookingService bookingService, TimeSlotService timeslotService) {
+    public FieldService(FieldRepository fieldRepository, UserService userService, BookingService bookingService,
+            TimeSlotService timeslotService, OpenMatchIndex openMatchIndex) {
         this.fieldRepository = fieldRepository;
         this.userService = userService;
         this.bookingService = bookingService;
         this.timeslotService = timeslotService;
+        this.openMatchIndex = openMatchIndex;
     }
 
     public Field createField(FieldCreateDTO dto, String ownerUsername) {
@@ -55,6 +66,7 @@ public class FieldService {
         if (fieldRepository.existsByNameAndAddressAndIdNot(dto.name(), dto.address(), id)) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Field with that name and address already exists.");
         }
+        boolean zoneChanged = !dto.zone().equals(field.getZone());
 
         field.setName(dto.name());
         field.setGrassType(dto.grassType());
@@ -64,7 +76,12 @@ public class FieldService {
         field.setPrice(dto.price());
         field.setAddress(dto.address());
 
-        return fieldRepository.save(field);
+        Field saved = fieldRepository.save(field);
+        if (zoneChanged) {
+            // los partidos abiertos de la cancha quedaron indexados bajo la zona anterior
+            openMatchIndex.invalidate();
+        }
+        return saved;
     }
 
     public void deleteField(Long id, String ownerUsername) {
@@ -91,23 +108,41 @@ public class FieldService {
         return fieldRepository.findByOwner(owner);
     }
 
-    public List<Field> getAllActiveFields() {
-        return fieldRepository.findByActiveTrue();
+    public PaginatedResponse<Field> getActiveFields(KeysetPage page) {
+        return KeysetPagination.response(
+                fieldRepository.findByActiveTrueAndIdGreaterThanOrderByIdAsc(page.afterId(), page.fetchLimit()),
+                page, Field::getId, fieldRepository::countByActiveTrue);
+    }
+
+    /**
+     * Busca en una sola consulta las canchas activas de la zona que tienen la hora libre en la fecha,
+     * para no tener que pedir la disponibilidad cancha por cancha.
+     */
+    public List<Field> searchAvailableFields(String zone, LocalDate date, int hour, String grassType,
+            Boolean lighting, Boolean roofing, Double maxPrice, int limit) {
+        if (hour < 0 || hour > 23) {
+            throw new IllegalArgumentException("Hour must be between 0 and 23.");
+        }
+        if (date.isBefore(LocalDate.now())) {
+            throw new IllegalArgumentException("Date must not be in the past.");
+        }
+        return fieldRepository.findAvailableInZone(zone, date, date.getDayOfWeek(), hour,
+                grassType, lighting, roofing, maxPrice, Limit.of(Math.clamp(limit, 1, MAX_SEARCH_RESULTS)));
     }
 
     public OwnerSummaryDTO getSummaryForOwner(String ownerUsername, int days, LocalDate date) {
         User owner = userService.findByUsernameOrThrow(ownerUsername);
-        List<Field> fields = fieldRepository.findByOwner(owner);
-
-        int totalFields = fields.size();
+        Long ownerId = owner.getId();
+        LocalDate today = LocalDate.now();
 
-        List<Long> fieldIds = fields.stream()
-                .map(Field::getId)
-                .toList();
+        int totalFields = (int) fieldRepository.countByOwner(owner);
 
-        int bookingsToday = bookingService.countBookingsForFieldsOnDate(fieldIds, date);
-        int totalAvailableSlots = timeslotService.countAvailableHoursInDateRange(fieldIds, days);
-        int totalReservedSlots = bookingService.countBookingsForFieldsInDateRange(fieldIds, days);
+        int bookingsToday = bookingService.countBookingsForOwnerByDate(ownerId, date, date)
+                .getOrDefault(date, 0L).intValue();
+        // misma ventana para ambos: los days días desde hoy
+        Map<LocalDate, Long> reservedByDate = bookingService.countBookingsForOwnerByDate(ownerId, today, today.plusDays(days - 1L));
+        int totalReservedSlots = (int) reservedByDate.values().stream().mapToLong(Long::longValue).sum();
+        int totalAvailableSlots = timeslotService.countAvailableHoursForOwner(ownerId, today, days);
 
         double occupancy = totalAvailableSlots == 0 ? 0.0 :
                 ((double) totalReservedSlots / totalAvailableSlots) * 100.0;
@@ -8,21 +8,39 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@NamedEntityGraph(name = "CloseMatch.detail",
+        attributeNodes = {
+                @NamedAttributeNode(value = "booking", subgraph = "booking"),
+                @NamedAttributeNode(value = "teamOne", subgraph = "team"),
+                @NamedAttributeNode(value = "teamTwo", subgraph = "team")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "booking", attributeNodes = {
+                        @NamedAttributeNode("user"),
+                        @NamedAttributeNode(value = "timeSlot", subgraph = "timeSlot")
+                }),
+                @NamedSubgraph(name = "timeSlot", attributeNodes = @NamedAttributeNode(value = "field", subgraph = "field")),
+                @NamedSubgraph(name = "field", attributeNodes = @NamedAttributeNode("owner")),
+                @NamedSubgraph(name = "team", attributeNodes = @NamedAttributeNode("members"))
+        })
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class CloseMatch extends Match {
 
-    @ManyToOne(optional = false, fetch = FetchType.EAGER)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     private Team teamOne;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     private Team teamTwo;
 }
@@ -1,13 +1,119 @@
 package ar.uba.fi.ingsoft1.todo_template.match;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 import ar.uba.fi.ingsoft1.todo_template.booking.Booking;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CloseMatchRepository extends JpaRepository<CloseMatch, Long> {
+    @EntityGraph("CloseMatch.detail")
     List<CloseMatch> findByTeamOne_IdAndTeamTwo_Id(Long teamOneId, Long teamTwoId);
-    List<CloseMatch> findByIsActiveTrue();
     Optional<CloseMatch> findByBooking(Booking booking);
+
+    @EntityGraph("CloseMatch.detail")
+    Optional<CloseMatch> findDetailedById(Long id);
+
+    @Query("""
+                SELECT m
+                FROM CloseMatch m
+                JOIN FETCH m.booking b
+                JOIN FETCH b.user
+                JOIN FETCH b.timeSlot t
+                JOIN FETCH t.field f
+                JOIN FETCH f.owner
+                JOIN FETCH m.teamOne
+                LEFT JOIN FETCH m.teamTwo
+                WHERE m.isActive = true
+                  AND b.bookingDate >= :today
+                  AND m.id > :afterId
+                ORDER BY m.id
+            """)
+    List<CloseMatch> findActiveFromDateAfterId(@Param("today") LocalDate today, @Param("afterId") Long afterId, Limit limit);
+
+    @Query("SELECT COUNT(m) FROM CloseMatch m WHERE m.isActive = true AND m.booking.bookingDate >= :today")
+    long countActiveFromDate(@Param("today") LocalDate today);
+
+    @Query("""
+                SELECT m
+                FROM CloseMatch m
+                JOIN FETCH m.booking b
+                JOIN FETCH b.user
+                JOIN FETCH b.timeSlot t
+                JOIN FETCH t.field f
+                JOIN FETCH f.owner
+                JOIN FETCH m.teamOne
+                LEFT JOIN FETCH m.teamTwo
+                WHERE m.isActive = true
+                  AND b.bookingDate >= :today
+                  AND m.id > :afterId
+                  AND EXISTS (SELECT 1 FROM Team team JOIN team.members u
+                              WHERE (team = m.teamOne OR team = m.teamTwo) AND u.id = :userId)
+                ORDER BY m.id
+            """)
+    List<CloseMatch> findUpcomingByMemberIdAfterId(@Param("userId") Long userId, @Param("today") LocalDate today,
+            @Param("afterId") Long afterId, Limit limit);
+
+    @Query("""
+                SELECT COUNT(m)
+                FROM CloseMatch m
+                WHERE m.isActive = true
+                  AND m.booking.bookingDate >= :today
+                  AND EXISTS (SELECT 1 FROM Team team JOIN team.members u
+                              WHERE (team = m.teamOne OR team = m.teamTwo) AND u.id = :userId)
+            """)
+    long countUpcomingByMemberId(@Param("userId") Long userId, @Param("today") LocalDate today);
+
+    @Query(value = """
+                SELECT m
+                FROM CloseMatch m
+                JOIN FETCH m.booking b
+                JOIN FETCH b.user
+                JOIN FETCH b.timeSlot t
+                JOIN FETCH t.field f
+                JOIN FETCH f.owner
+                JOIN FETCH m.teamOne
+                LEFT JOIN FETCH m.teamTwo
+                WHERE b.bookingDate < :today
+                  AND EXISTS (SELECT 1 FROM Team team JOIN team.members u
+                              WHERE (team = m.teamOne OR team = m.teamTwo) AND u.id = :userId)
+                ORDER BY b.bookingDate DESC, b.bookingHour DESC, m.id DESC
+            """, countQuery = """
+                SELECT COUNT(m)
+                FROM CloseMatch m
+                WHERE m.booking.bookingDate < :today
+                  AND EXISTS (SELECT 1 FROM Team team JOIN team.members u
+                              WHERE (team = m.teamOne OR team = m.teamTwo) AND u.id = :userId)
+            """)
+    Page<CloseMatch> findPastByMemberId(@Param("userId") Long userId, @Param("today") LocalDate today,
+            Pageable pageable);
+
+    @Query(value = """
+                SELECT m
+                FROM CloseMatch m
+                JOIN FETCH m.booking b
+                JOIN FETCH b.user
+                JOIN FETCH b.timeSlot t
+                JOIN FETCH t.field f
+                JOIN FETCH f.owner o
+                JOIN FETCH m.teamOne
+                LEFT JOIN FETCH m.teamTwo
+                WHERE b.bookingDate < :today
+                  AND o.id = :ownerId
+                ORDER BY b.bookingDate DESC, b.bookingHour DESC, m.id DESC
+            """, countQuery = """
+                SELECT COUNT(m)
+                FROM CloseMatch m
+                WHERE m.booking.bookingDate < :today
+                  AND m.booking.timeSlot.field.owner.id = :ownerId
+            """)
+    Page<CloseMatch> findPastByFieldOwnerId(@Param("ownerId") Long ownerId, @Param("today") LocalDate today,
+            Pageable pageable);
 }
@@ -11,10 +11,11 @@ import lombok.*;
 public abstract class Match {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "match_seq")
+    @SequenceGenerator(name = "match_seq", sequenceName = "match_seq", allocationSize = 50)
     private Long id;
 
-    @OneToOne(optional = false)
+    @OneToOne(optional = false, fetch = FetchType.LAZY)
     private Booking booking;
 
     @Column(nullable = false)
@@ -1,6 +1,8 @@
 package ar.uba.fi.ingsoft1.todo_template.match;
 
 import ar.uba.fi.ingsoft1.todo_template.config.security.JwtUserDetails;
+import ar.uba.fi.ingsoft1.todo_template.dto.KeysetPagination;
+import ar.uba.fi.ingsoft1.todo_template.dto.PaginatedResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -8,12 +10,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 
+import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +33,7 @@ import org.springframework.web.server.ResponseStatusException;
 public class MatchController {
 
     private final MatchService matchService;
+    private final KeysetPagination keysetPagination;
 
     @PostMapping("/open")
     @Operation(summary = "Crear partido abierto", description = "Permite crear un partido abierto al que otros usuarios se puedan unir")
@@ -77,10 +82,29 @@ public class MatchController {
     }
 
     @GetMapping("/open")
-    @Operation(summary = "Listar partidos abiertos", description = "Obtiene todos los partidos abiertos activos")
+    @Operation(summary = "Listar partidos abiertos", description = "Obtiene los partidos abiertos próximos con lugares libres, ordenados por fecha y hora de inicio")
     @ApiResponse(responseCode = "200", description = "Listado obtenido correctamente")
-    public ResponseEntity<List<OpenMatch>> getAllOpenMatches() {
-        return ResponseEntity.ok(matchService.listActiveOpenMatches());
+    public ResponseEntity<PaginatedResponse<OpenMatch>> getAllOpenMatches(
+            @Parameter(description = "Zona de la cancha") @RequestParam(required = false) String zone,
+            @Parameter(description = "Desde esta fecha inclusive (yyyy-MM-dd), por defecto hoy") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Hasta esta fecha inclusive (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Cursor devuelto por la página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Cantidad de resultados por página") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Incluir el total de resultados") @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(matchService.listActiveOpenMatches(zone, from, to,
+                keysetPagination.requestBySortKey(cursor, limit, includeTotal)));
+    }
+
+    @GetMapping("/open/mine")
+    @Operation(summary = "Listar partidos abiertos próximos del usuario", description = "Obtiene los partidos abiertos próximos en los que juega el usuario autenticado, llenos o no")
+    @ApiResponse(responseCode = "200", description = "Listado obtenido correctamente")
+    public ResponseEntity<PaginatedResponse<OpenMatch>> getMyOpenMatches(
+            @Parameter(description = "Cursor devuelto por la página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Cantidad de resultados por página") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Incluir el total de resultados") @RequestParam(defaultValue = "false") boolean includeTotal) {
+        String username = getAuthenticatedUser().username();
+        return ResponseEntity.ok(matchService.listUpcomingOpenMatchesForUser(username,
+                keysetPagination.request(cursor, limit, includeTotal)));
     }
 
     @GetMapping("/open/{id}")
@@ -96,8 +120,23 @@ public class MatchController {
     @GetMapping("/close")
     @Operation(summary = "Listar partidos cerrados", description = "Obtiene todos los partidos cerrados activos")
     @ApiResponse(responseCode = "200", description = "Listado obtenido correctamente")
-    public ResponseEntity<List<CloseMatch>> getAllCloseMatches() {
-        return ResponseEntity.ok(matchService.listActiveCloseMatches());
+    public ResponseEntity<PaginatedResponse<CloseMatch>> getAllCloseMatches(
+            @Parameter(description = "Cursor devuelto por la página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Cantidad de resultados por página") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Incluir el total de resultados") @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(matchService.listActiveCloseMatches(keysetPagination.request(cursor, limit, includeTotal)));
+    }
+
+    @GetMapping("/close/mine")
+    @Operation(summary = "Listar partidos cerrados próximos del usuario", description = "Obtiene los partidos cerrados próximos de los equipos del usuario autenticado")
+    @ApiResponse(responseCode = "200", description = "Listado obtenido correctamente")
+    public ResponseEntity<PaginatedResponse<CloseMatch>> getMyCloseMatches(
+            @Parameter(description = "Cursor devuelto por la página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Cantidad de resultados por página") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Incluir el total de resultados") @RequestParam(defaultValue = "false") boolean includeTotal) {
+        String username = getAuthenticatedUser().username();
+        return ResponseEntity.ok(matchService.listUpcomingCloseMatchesForUser(username,
+                keysetPagination.request(cursor, limit, includeTotal)));
     }
 
     @GetMapping("/close/{id}")
@@ -166,9 +205,11 @@ public class MatchController {
             @ApiResponse(responseCode = "200", description = "Partidos pasados obtenidos correctamente"),
             @ApiResponse(responseCode = "404", description = "No se encontraron partidos pasados para el usuario")
     })
-    public List<OpenMatch> getMyPastOpenMatches() {
+    public PaginatedResponse<OpenMatch> getMyPastOpenMatches(
+            @Parameter(description = "Número de página, empezando en 1") @RequestParam(defaultValue = "1") int page,
+            @Parameter(description = "Cantidad de partidos por página") @RequestParam(defaultValue = "20") int limit) {
         String username = getAuthenticatedUser().username();
-        return matchService.getPastOpenMatchesForUser(username);
+        return matchService.getPastOpenMatchesForUser(username, page, limit);
     }
 
     @GetMapping("/past/close")
@@ -177,9 +218,11 @@ public class MatchController {
             @ApiResponse(responseCode = "200", description = "Partidos pasados obtenidos correctamente"),
             @ApiResponse(responseCode = "404", description = "No se encontraron partidos pasados para el usuario")
     })
-    public List<CloseMatch> getMyPastCloseMatches() {
+    public PaginatedResponse<CloseMatch> getMyPastCloseMatches(
+            @Parameter(description = "Número de página, empezando en 1") @RequestParam(defaultValue = "1") int page,
+            @Parameter(description = "Cantidad de partidos por página") @RequestParam(defaultValue = "20") int limit) {
         String username = getAuthenticatedUser().username();
-        return matchService.getPastCloseMatchesForUser(username);
+        return matchService.getPastCloseMatchesForUser(username, page, limit);
     }
 
     @GetMapping("/past/owner/open")
@@ -188,9 +231,11 @@ public class MatchController {
             @ApiResponse(responseCode = "200", description = "Partidos pasados obtenidos correctamente"),
             @ApiResponse(responseCode = "404", description = "No se encontraron partidos pasados para las canchas del dueño")
     })
-    public List<OpenMatch> getOwnerPastOpenMatches() {
+    public PaginatedResponse<OpenMatch> getOwnerPastOpenMatches(
+            @Parameter(description = "Número de página, empezando en 1") @RequestParam(defaultValue = "1") int page,
+            @Parameter(description = "Cantidad de partidos por página") @RequestParam(defaultValue = "20") int limit) {
         String username = getAuthenticatedUser().username();
-        return matchService.getPastOpenMatchesForOwner(username);
+        return matchService.getPastOpenMatchesForOwner(username, page, limit);
     }
 
     @GetMapping("/past/owner/close")
@@ -199,9 +244,11 @@ public class MatchController {
             @ApiResponse(responseCode = "200", description = "Partidos pasados obtenidos correctamente"),
             @ApiResponse(responseCode = "404", description = "No se encontraron partidos pasados para las canchas del dueño")
     })
-    public List<CloseMatch> getOwnerPastCloseMatches() {
+    public PaginatedResponse<CloseMatch> getOwnerPastCloseMatches(
+            @Parameter(description = "Número de página, empezando en 1") @RequestParam(defaultValue = "1") int page,
+            @Parameter(description = "Cantidad de partidos por página") @RequestParam(defaultValue = "20") int limit) {
         String username = getAuthenticatedUser().username();
-        return matchService.getPastCloseMatchesForOwner(username);
+        return matchService.getPastCloseMatchesForOwner(username, page, limit);
     }
 
     private JwtUserDetails getAuthenticatedUser() {
@@ -2,6 +2,10 @@ package ar.uba.fi.ingsoft1.todo_template.match;
 
 import ar.uba.fi.ingsoft1.todo_template.booking.Booking;
 import ar.uba.fi.ingsoft1.todo_template.booking.BookingRepository;
+import ar.uba.fi.ingsoft1.todo_template.dto.KeysetPage;
+import ar.uba.fi.ingsoft1.todo_template.dto.KeysetPagination;
+import ar.uba.fi.ingsoft1.todo_template.dto.PaginatedResponse;
+import ar.uba.fi.ingsoft1.todo_template.dto.SortKeyPage;
 import ar.uba.fi.ingsoft1.todo_template.email.EmailService;
 import ar.uba.fi.ingsoft1.todo_template.match.strategy.AgeBasedAssignment;
 import ar.uba.fi.ingsoft1.todo_template.match.strategy.ManualAssignment;
@@ -11,8 +15,15 @@ import ar.uba.fi.ingsoft1.todo_template.team.Team;
 import ar.uba.fi.ingsoft1.todo_template.team.TeamRepository;
 import ar.uba.fi.ingsoft1.todo_template.user.User;
 import ar.uba.fi.ingsoft1.todo_template.user.UserService;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,11 +43,15 @@ public class MatchService {
     private final TeamRepository teamRepo;
     private final EmailService emailService;
     private final OpenMatchTeamRepository openMatchTeamRepo;
+    private final OpenMatchIndex openMatchIndex;
+    private final ApplicationEventPublisher events;
+
+    private static final int MAX_PAGE_SIZE = 100;
 
     @Transactional
     public OpenMatch createOpenMatch(OpenMatchCreateDTO dto, String creatorUsername) {
         User creator = userService.findByUsernameOrThrow(creatorUsername);
-        Booking booking = bookingRepo.findById(dto.getBookingId()).orElseThrow();
+        Booking booking = bookingRepo.findDetailedById(dto.getBookingId()).orElseThrow();
 
         if (dto.getMinPlayers() < 10) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "El mínimo de jugadores debe ser al menos 10.");
@@ -48,7 +63,7 @@ public class MatchService {
 
         OpenMatch match = new OpenMatch();
         match.setBooking(booking);
-        match.setPlayers(new ArrayList<>(List.of(creator)));
+        match.setPlayers(new LinkedHashSet<>(List.of(creator)));
         match.setMinPlayers(dto.getMinPlayers());
         match.setMaxPlayers(dto.getMaxPlayers());
         OpenMatchTeam teamOne = new OpenMatchTeam();
@@ -58,8 +73,9 @@ public class MatchService {
         openMatchTeamRepo.save(teamTwo);
         match.setTeamTwo(teamTwo);
 
-
-        return openMatchRepo.save(match);
+        OpenMatch saved = openMatchRepo.save(match);
+        events.publishEvent(new OpenMatchChanged(saved.getId()));
+        return saved;
     }
 
     @Transactional
@@ -77,6 +93,7 @@ public class MatchService {
             }
 
             openMatchRepo.delete(openMatch);
+            events.publishEvent(new OpenMatchChanged(openMatch.getId()));
             return;
         }
 
@@ -86,51 +103,53 @@ public class MatchService {
 
 
     @Transactional
+    @Observed(name = "match.open.join", contextualName = "join-open-match")
     public OpenMatch joinOpenMatch(Long matchId, String creatorUsername) {
-        OpenMatch match = openMatchRepo.findById(matchId).orElseThrow();
+        if (!openMatchRepo.existsById(matchId)) {
+            throw new NoSuchElementException("This match does not exist");
+        }
         User user = userService.findByUsernameOrThrow(creatorUsername);
 
-        if (match.getPlayers().contains(user)) {
+        if (openMatchRepo.hasPlayer(matchId, user.getId())) {
             throw new IllegalStateException("User is already in the match.");
         }
-        if (match.getPlayers().size() >= match.getMaxPlayers()) {
+        if (openMatchRepo.reserveSpot(matchId) == 0) {
             throw new IllegalStateException("Match is already full.");
         }
-
-        match.getPlayers().add(user);
-        return openMatchRepo.save(match);
+        try {
+            openMatchRepo.addPlayer(matchId, user.getId());
+        } catch (DataIntegrityViolationException e) {
+            // El mismo usuario se unió en paralelo; el rollback devuelve el cupo reservado
+            throw new IllegalStateException("User is already in the match.");
+        }
+        events.publishEvent(new OpenMatchChanged(matchId));
+        return openMatchRepo.findDetailedById(matchId).orElseThrow();
     }
 
     @Transactional
     public OpenMatch leaveOpenMatch(Long matchId, String creatorUsername) {
-        OpenMatch match = openMatchRepo.findById(matchId).orElseThrow();
+        OpenMatch match = openMatchRepo.findDetailedById(matchId).orElseThrow();
         User user = userService.findByUsernameOrThrow(creatorUsername);
 
-        if (!match.getPlayers().contains(user)) {
+        if (match.getBooking().getUser().getId().equals(user.getId())) {
+            throw new IllegalStateException("Match owner can't leave an open match.");
+        }
+        if (openMatchRepo.removePlayer(matchId, user.getId()) == 0) {
             throw new IllegalStateException("User does not belong to match.");
         }
-
-        if (match.getPlayers().size() >= match.getMinPlayers()) {
+        if (openMatchRepo.releaseSpot(matchId) == 0) {
+            // Al lanzar se hace rollback y el jugador vuelve a quedar inscripto
             throw new IllegalStateException("Match is already confirmed.");
         }
-
-        User matchOwner = match.getBooking().getUser();
-
-        if (matchOwner == user) {
-            throw new IllegalStateException("Match owner can't leave an open match.");
-        }
-
-        match.getPlayers().remove(user);
-
-        return openMatchRepo.save(match);
-
+        events.publishEvent(new OpenMatchChanged(matchId));
+        return openMatchRepo.findDetailedById(matchId).orElseThrow();
     }
 
     @Transactional
     public CloseMatch createCloseMatch(CloseMatchCreateDTO dto) {
-        Booking booking = bookingRepo.findById(dto.getBookingId()).orElseThrow();
-        Team teamOne = teamRepo.findById(dto.getTeamOneId()).orElseThrow();
-        Team teamTwo = teamRepo.findById(dto.getTeamTwoId()).orElse(null);
+        Booking booking = bookingRepo.findDetailedById(dto.getBookingId()).orElseThrow();
+        Team teamOne = teamRepo.findWithMembersById(dto.getTeamOneId()).orElseThrow();
+        Team teamTwo = teamRepo.findWithMembersById(dto.getTeamTwoId()).orElse(null);
 
         CloseMatch match = new CloseMatch();
         match.setBooking(booking);
@@ -139,53 +158,93 @@ public class MatchService {
         return closeMatchRepo.save(match);
     }
 
+    /**
+     * Partidos abiertos próximos con lugares libres, ordenados por fecha y hora de inicio.
+     * El índice elige la página y la base solo trae esos partidos.
+     */
     @Transactional
-    public List<OpenMatch> listActiveOpenMatches() {
+    public PaginatedResponse<OpenMatch> listActiveOpenMatches(String zone, LocalDate from, LocalDate to, SortKeyPage page) {
         LocalDate today = LocalDate.now();
-        List<OpenMatch> allActiveMatches = openMatchRepo.findByIsActiveTrue();
-        List<OpenMatch> futureMatches = new ArrayList<>();
-        
-        for (OpenMatch match : allActiveMatches) {
-            if (match.getBooking().getBookingDate().isAfter(today) || 
-                match.getBooking().getBookingDate().isEqual(today)) {
-                futureMatches.add(match);
+        LocalDate start = from == null || from.isBefore(today) ? today : from;
+        OpenMatchIndex.Position after = page.afterKey() == null ? null : OpenMatchIndex.Position.parse(page.afterKey());
+
+        List<OpenMatchIndex.Position> positions = openMatchIndex.find(zone, start, to, after, page.fetchLimit().max());
+        List<OpenMatch> matches = findInIndexOrder(positions, today);
+        loadPlayers(matches);
+        return KeysetPagination.response(matches, page, match -> OpenMatchIndex.Position.of(match).sortKey(),
+                () -> openMatchIndex.count(zone, start, to));
+    }
+
+    private List<OpenMatch> findInIndexOrder(List<OpenMatchIndex.Position> positions, LocalDate today) {
+        if (positions.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, OpenMatch> byId = new HashMap<>();
+        List<Long> ids = positions.stream().map(OpenMatchIndex.Position::matchId).toList();
+        for (OpenMatch match : openMatchRepo.findUpcomingWithFreeSpotsByIdIn(ids, today)) {
+            byId.put(match.getId(), match);
+        }
+        List<OpenMatch> matches = new ArrayList<>(positions.size());
+        for (Long id : ids) {
+            OpenMatch match = byId.get(id);
+            if (match != null) {
+                matches.add(match);
+            } else {
+                // la entrada quedó vieja o su evento todavía no llegó: se refleja lo que dice la base
+                openMatchIndex.refresh(id);
             }
         }
-        return futureMatches;
+        return matches;
     }
 
     @Transactional
     public List<CloseMatch> getCloseMatchesByTeams(Long teamOneId, Long teamTwoId) {
         return closeMatchRepo.findByTeamOne_IdAndTeamTwo_Id(teamOneId, teamTwoId);
     }
-    public List<CloseMatch> listActiveCloseMatches() {
+
+    @Transactional
+    public PaginatedResponse<CloseMatch> listActiveCloseMatches(KeysetPage page) {
         LocalDate today = LocalDate.now();
-        List<CloseMatch> allActiveMatches = closeMatchRepo.findByIsActiveTrue();
-        List<CloseMatch> futureMatches = new ArrayList<>();
+        List<CloseMatch> matches = closeMatchRepo.findActiveFromDateAfterId(today, page.afterId(), page.fetchLimit());
+        loadTeamMembers(matches);
+        return KeysetPagination.response(matches, page, CloseMatch::getId, () -> closeMatchRepo.countActiveFromDate(today));
+    }
 
-        for (CloseMatch match : allActiveMatches) {
-            if (match.getBooking().getBookingDate().isAfter(today) ||
-                match.getBooking().getBookingDate().isEqual(today)) {
-                futureMatches.add(match);
-            }
-        }
-        return futureMatches;
+    @Transactional
+    public PaginatedResponse<OpenMatch> listUpcomingOpenMatchesForUser(String username, KeysetPage page) {
+        User user = userService.findByUsernameOrThrow(username);
+        LocalDate today = LocalDate.now();
+        List<OpenMatch> matches = openMatchRepo.findUpcomingByPlayerIdAfterId(user.getId(), today, page.afterId(), page.fetchLimit());
+        loadPlayers(matches);
+        return KeysetPagination.response(matches, page, OpenMatch::getId,
+                () -> openMatchRepo.countUpcomingByPlayerId(user.getId(), today));
+    }
+
+    @Transactional
+    public PaginatedResponse<CloseMatch> listUpcomingCloseMatchesForUser(String username, KeysetPage page) {
+        User user = userService.findByUsernameOrThrow(username);
+        LocalDate today = LocalDate.now();
+        List<CloseMatch> matches = closeMatchRepo.findUpcomingByMemberIdAfterId(user.getId(), today, page.afterId(), page.fetchLimit());
+        loadTeamMembers(matches);
+        return KeysetPagination.response(matches, page, CloseMatch::getId,
+                () -> closeMatchRepo.countUpcomingByMemberId(user.getId(), today));
     }
 
     @Transactional
     public CloseMatch getCloseMatch(Long matchId) {
-        return closeMatchRepo.findById(matchId)
+        return closeMatchRepo.findDetailedById(matchId)
             .orElseThrow(() -> new IllegalArgumentException("This match does not exist"));
     }
     @Transactional
     public OpenMatch getOpenMatch(Long matchId) {
-        return openMatchRepo.findById(matchId)
+        return openMatchRepo.findDetailedById(matchId)
             .orElseThrow(() -> new IllegalArgumentException("This match does not exist"));
     }
 
     @Transactional
+    @Observed(name = "match.teams.assign", contextualName = "assign-teams")
     public OpenMatch assignTeams(Long matchId, String strategyType, Map<Long, Integer> manualMap) {
-        OpenMatch match = openMatchRepo.findById(matchId)
+        OpenMatch match = openMatchRepo.findDetailedById(matchId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
 
         TeamAssignmentStrategy strategy;
@@ -202,87 +261,61 @@ public class MatchService {
         return match;
     }
 
-    public List<OpenMatch> getPastOpenMatchesForUser(String username) {
+    @Transactional
+    public PaginatedResponse<OpenMatch> getPastOpenMatchesForUser(String username, int page, int limit) {
         User user = userService.findByUsernameOrThrow(username);
-        LocalDate today = LocalDate.now();
-        List<OpenMatch> allMatches = openMatchRepo.findAll();
-        List<OpenMatch> pastMatches = new ArrayList<>();
-
-        for (OpenMatch openMatch : allMatches) {
-            boolean userParticipates = openMatch.getPlayers().stream()
-                .anyMatch(player -> player.getId().equals(user.getId()));
-            boolean isPastMatch = openMatch.getBooking().getBookingDate().isBefore(today);
-            
-            if (userParticipates && isPastMatch) {
-                pastMatches.add(openMatch);
-            }
-        }
-        
-        return pastMatches;
+        Page<OpenMatch> matches = openMatchRepo.findPastByPlayerId(user.getId(), LocalDate.now(), pageRequest(page, limit));
+        loadPlayers(matches.getContent());
+        return PaginatedResponse.of(matches);
     }
-    public List<CloseMatch> getPastCloseMatchesForUser(String username) {
+
+    @Transactional
+    public PaginatedResponse<CloseMatch> getPastCloseMatchesForUser(String username, int page, int limit) {
         User user = userService.findByUsernameOrThrow(username);
-        LocalDate today = LocalDate.now();
-        List<CloseMatch> allMatches = closeMatchRepo.findAll();
-        List<CloseMatch> pastMatches = new ArrayList<>();
-        
-        for (CloseMatch closeMatch : allMatches) {
-            boolean userParticipates = false;
-            
-            if (closeMatch.getTeamOne() != null && closeMatch.getTeamOne().getMembers() != null) {
-                userParticipates = closeMatch.getTeamOne().getMembers().stream()
-                    .anyMatch(member -> member.getId().equals(user.getId()));
-            }
-            
-            if (!userParticipates && closeMatch.getTeamTwo() != null && closeMatch.getTeamTwo().getMembers() != null) {
-                userParticipates = closeMatch.getTeamTwo().getMembers().stream()
-                    .anyMatch(member -> member.getId().equals(user.getId()));
-            }
-            
-            boolean isPastMatch = closeMatch.getBooking().getBookingDate().isBefore(today);
-            
-            if (userParticipates && isPastMatch) {
-                pastMatches.add(closeMatch);
-            }
-        }
-        
-        return pastMatches;
+        Page<CloseMatch> matches = closeMatchRepo.findPastByMemberId(user.getId(), LocalDate.now(), pageRequest(page, limit));
+        loadTeamMembers(matches.getContent());
+        return PaginatedResponse.of(matches);
     }
 
-    public List<OpenMatch> getPastOpenMatchesForOwner(String ownerUsername) {
+    @Transactional
+    public PaginatedResponse<OpenMatch> getPastOpenMatchesForOwner(String ownerUsername, int page, int limit) {
         User owner = userService.findByUsernameOrThrow(ownerUsername);
-        LocalDate today = LocalDate.now();
-        List<OpenMatch> allMatches = openMatchRepo.findAll();
-        List<OpenMatch> pastMatches = new ArrayList<>();
-
-        for (OpenMatch openMatch : allMatches) {
-            boolean isOwnerField = openMatch.getBooking().getTimeSlot().getField().getOwner().getId().equals(owner.getId());
-            boolean isPastMatch = openMatch.getBooking().getBookingDate().isBefore(today);
-            
-            if (isOwnerField && isPastMatch) {
-                pastMatches.add(openMatch);
-            }
-        }
-        
-        return pastMatches;
+        Page<OpenMatch> matches = openMatchRepo.findPastByFieldOwnerId(owner.getId(), LocalDate.now(), pageRequest(page, limit));
+        loadPlayers(matches.getContent());
+        return PaginatedResponse.of(matches);
     }
 
-    public List<CloseMatch> getPastCloseMatchesForOwner(String ownerUsername) {
+    @Transactional
+    public PaginatedResponse<CloseMatch> getPastCloseMatchesForOwner(String ownerUsername, int page, int limit) {
         User owner = userService.findByUsernameOrThrow(ownerUsername);
-        LocalDate today = LocalDate.now();
-        List<CloseMatch> allMatches = closeMatchRepo.findAll();
-        List<CloseMatch> pastMatches = new ArrayList<>();
-        
-        for (CloseMatch closeMatch : allMatches) {
-            boolean isOwnerField = closeMatch.getBooking().getTimeSlot().getField().getOwner().getId().equals(owner.getId());
-            boolean isPastMatch = closeMatch.getBooking().getBookingDate().isBefore(today);
-            
-            if (isOwnerField && isPastMatch) {
-                pastMatches.add(closeMatch);
+        Page<CloseMatch> matches = closeMatchRepo.findPastByFieldOwnerId(owner.getId(), LocalDate.now(), pageRequest(page, limit));
+        loadTeamMembers(matches.getContent());
+        return PaginatedResponse.of(matches);
+    }
+
+    private static Pageable pageRequest(int page, int limit) {
+        if (page < 1 || limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "page must be at least 1 and limit between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+        return PageRequest.of(page - 1, limit);
+    }
+
+    // Las consultas paginadas no traen colecciones para que el límite se aplique en SQL; se inicializan
+    // dentro de la transacción y Hibernate las carga en lote (default_batch_fetch_size)
+    private static void loadPlayers(List<OpenMatch> matches) {
+        matches.forEach(match -> Hibernate.initialize(match.getPlayers()));
+    }
+
+    private static void loadTeamMembers(List<CloseMatch> matches) {
+        for (CloseMatch match : matches) {
+            if (match.getTeamOne() != null) {
+                Hibernate.initialize(match.getTeamOne().getMembers());
+            }
+            if (match.getTeamTwo() != null) {
+                Hibernate.initialize(match.getTeamTwo().getMembers());
             }
         }
-        
-        return pastMatches;
     }
 
     public void notifyTeams(OpenMatch match) {
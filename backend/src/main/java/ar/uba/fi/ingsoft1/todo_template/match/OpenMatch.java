@@ -8,18 +8,41 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 @Entity
+@NamedEntityGraph(name = "OpenMatch.detail",
+        attributeNodes = {
+                @NamedAttributeNode(value = "booking", subgraph = "booking"),
+                @NamedAttributeNode("players"),
+                @NamedAttributeNode("teamOne"),
+                @NamedAttributeNode("teamTwo")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "booking", attributeNodes = {
+                        @NamedAttributeNode("user"),
+                        @NamedAttributeNode(value = "timeSlot", subgraph = "timeSlot")
+                }),
+                @NamedSubgraph(name = "timeSlot", attributeNodes = @NamedAttributeNode(value = "field", subgraph = "field")),
+                @NamedSubgraph(name = "field", attributeNodes = @NamedAttributeNode("owner"))
+        })
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class OpenMatch extends Match {
 
-    @ManyToMany(fetch = FetchType.EAGER)
-    @JoinTable(name = "open_match_players")
-    private List<User> players;
+    // Un jugador figura a lo sumo una vez por partido (lo garantiza la PK de la tabla); las altas y bajas se hacen fila por fila
+    @ManyToMany
+    @JoinTable(name = "open_match_players",
+            joinColumns = @JoinColumn(name = "open_match_id"),
+            inverseJoinColumns = @JoinColumn(name = "players_id"))
+    private Set<User> players = new LinkedHashSet<>();
+
+    // Cantidad de jugadores inscriptos, mantenida con UPDATE condicionales para no superar maxPlayers
+    @Column(nullable = false)
+    private Integer playerCount = 0;
 
     @Column(nullable = false)
     private Integer minPlayers;
@@ -32,4 +55,9 @@ public class OpenMatch extends Match {
 
     @ManyToOne
     private OpenMatchTeam teamTwo;
+
+    @PrePersist
+    protected void initPlayerCount() {
+        playerCount = players == null ? 0 : players.size();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package ar.uba.fi.ingsoft1.todo_template.match;
+
+/**
+ * Se creó, borró o cambió la cantidad de jugadores del partido abierto. OpenMatchIndex lo escucha
+ * después del commit y vuelve a leer el estado del partido.
+ */
+public record OpenMatchChanged(Long matchId) {
+}
@@ -0,0 +1,357 @@
+package ar.uba.fi.ingsoft1.todo_template.match;
+
+import ar.uba.fi.ingsoft1.todo_template.dto.KeysetPagination;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Índice en memoria de los partidos abiertos próximos que todavía tienen lugares libres.
+ * Las entradas se ordenan por (fecha, hora, id) en un conjunto general y en uno por zona de la cancha,
+ * así el listado recorre solo el rango pedido sin importar cuántos partidos pasados haya en la base.
+ * Se construye con una consulta la primera vez que se usa y luego se mantiene con los
+ * {@link OpenMatchChanged} que publica MatchService: recién después del commit se vuelve a leer el
+ * partido y se refleja su estado, así una transacción que hace rollback nunca llega al índice.
+ * <p>
+ * Los eventos solo llegan a la instancia que hizo la escritura, así que el índice entero se vuelve a leer
+ * al vencer el TTL ({@code app.open-match-index.ttl-seconds}); un barrido periódico libera el contenido
+ * vencido y descarta los días que ya pasaron.
+ * Las consultas a la base se hacen sin el lock: cada cambio incrementa una versión y una lectura solo se
+ * instala si la versión no cambió mientras se leía, así no pisa un cambio más nuevo. El lock solo protege
+ * la actualización de los conjuntos en memoria; es un ReentrantLock y no synchronized para no fijar el
+ * virtual thread a su carrier.
+ */
+@Component
+public class OpenMatchIndex {
+
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private final OpenMatchRepository openMatchRepository;
+    private final Duration ttl;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // una sola carga completa a la vez; no bloquea las relecturas de partidos
+    private final ReentrantLock loadLock = new ReentrantLock();
+    // version y matchVersions solo se leen y modifican con el lock tomado
+    private long version;
+    private final Map<Long, Long> matchVersions = new HashMap<>();
+    // null hasta la primera carga o después de invalidate
+    private volatile Contents contents;
+
+    public OpenMatchIndex(OpenMatchRepository openMatchRepository,
+            @Value("${app.open-match-index.ttl-seconds:300}") long ttlSeconds) {
+        this.openMatchRepository = openMatchRepository;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    /**
+     * Posiciones de los partidos con lugares libres entre {@code from} y {@code to} (inclusive, {@code to}
+     * puede ser null), en orden de inicio y a partir de {@code after} si no es null.
+     */
+    public List<Position> find(String zone, LocalDate from, LocalDate to, Position after, int limit) {
+        NavigableSet<Position> range = range(zone, from, to);
+        if (after != null) {
+            range = range.tailSet(after, false);
+        }
+        List<Position> result = new ArrayList<>(Math.min(limit, 64));
+        for (Position position : range) {
+            if (result.size() == limit) {
+                break;
+            }
+            result.add(position);
+        }
+        return result;
+    }
+
+    public long count(String zone, LocalDate from, LocalDate to) {
+        return range(zone, from, to).size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(OpenMatchChanged event) {
+        refresh(event.matchId());
+    }
+
+    /**
+     * Vuelve a leer el partido de la base y refleja su estado actual: si ya no está activo, pasó o se
+     * llenó, sale del índice. Si mientras tanto empezó otra relectura del mismo partido, esta se descarta:
+     * la otra leyó después y es la que se instala.
+     */
+    public void refresh(Long matchId) {
+        long started;
+        lock.lock();
+        try {
+            // una carga completa en curso pudo haber leído el partido antes de este cambio
+            version++;
+            if (contents == null) {
+                // la primera consulta lo va a leer de la base
+                return;
+            }
+            started = matchVersions.merge(matchId, 1L, Long::sum);
+        } finally {
+            lock.unlock();
+        }
+        Optional<UpcomingOpenMatch> current = openMatchRepository.findUpcomingById(matchId, LocalDate.now());
+        lock.lock();
+        try {
+            if (!Objects.equals(matchVersions.get(matchId), started)) {
+                return;
+            }
+            matchVersions.remove(matchId);
+            Contents target = contents;
+            if (target != null) {
+                target.remove(matchId);
+                current.ifPresent(target::addIfVisible);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Refleja el estado leído del partido; si pasó o se llenó, sale del índice. */
+    public void put(UpcomingOpenMatch match) {
+        lock.lock();
+        try {
+            Contents target = changed(match.matchId());
+            if (target != null) {
+                target.remove(match.matchId());
+                target.addIfVisible(match);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void remove(Long matchId) {
+        lock.lock();
+        try {
+            Contents target = changed(matchId);
+            if (target != null) {
+                target.remove(matchId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Descarta el contenido; la próxima consulta lo vuelve a cargar (por ejemplo si cambió la zona de una cancha). */
+    public void invalidate() {
+        lock.lock();
+        try {
+            version++;
+            matchVersions.clear();
+            contents = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.open-match-index.sweep-interval-ms:3600000}")
+    public void sweep() {
+        Contents current = contents;
+        if (current == null) {
+            return;
+        }
+        if (!current.isExpired(Instant.now())) {
+            evictPast(current);
+            return;
+        }
+        // nadie lo consultó desde que venció: se libera y la próxima consulta lo vuelve a leer
+        lock.lock();
+        try {
+            if (contents == current) {
+                version++;
+                contents = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Con el lock tomado: el cambio invalida las cargas y relecturas en curso, que leyeron antes que él
+    private Contents changed(Long matchId) {
+        version++;
+        matchVersions.remove(matchId);
+        return contents;
+    }
+
+    private NavigableSet<Position> range(String zone, LocalDate from, LocalDate to) {
+        Contents current = current();
+        evictPast(current);
+        if (to != null && to.isBefore(from)) {
+            return new ConcurrentSkipListSet<>();
+        }
+        NavigableSet<Position> source = zone == null || zone.isBlank()
+                ? current.all()
+                : current.byZone().getOrDefault(zoneKey(zone), new ConcurrentSkipListSet<>());
+        return to == null
+                ? source.tailSet(Position.startOf(from), true)
+                : source.subSet(Position.startOf(from), true, Position.startOf(to.plusDays(1)), false);
+    }
+
+    private Contents current() {
+        Instant now = Instant.now();
+        Contents current = contents;
+        if (current != null && !current.isExpired(now)) {
+            return current;
+        }
+        if (current == null) {
+            loadLock.lock();
+        } else if (!loadLock.tryLock()) {
+            // ya lo está recargando otro request: mientras tanto se responde con el contenido vencido
+            return current;
+        }
+        try {
+            current = contents;
+            if (current != null && !current.isExpired(now)) {
+                return current;
+            }
+            return load(now);
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private Contents load(Instant now) {
+        Contents loaded = null;
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            long started;
+            lock.lock();
+            try {
+                started = version;
+            } finally {
+                lock.unlock();
+            }
+            loaded = Contents.of(openMatchRepository.findUpcomingWithFreeSpots(LocalDate.now()), now.plus(ttl));
+            lock.lock();
+            try {
+                if (version == started) {
+                    contents = loaded;
+                    return loaded;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        // los cambios no dejan de llegar: se responde con la última lectura sin instalarla
+        return loaded;
+    }
+
+    private void evictPast(Contents current) {
+        LocalDate today = LocalDate.now();
+        NavigableSet<Position> all = current.all();
+        if (all.isEmpty() || !all.first().date().isBefore(today)) {
+            return;
+        }
+        lock.lock();
+        try {
+            while (!all.isEmpty() && all.first().date().isBefore(today)) {
+                current.remove(all.first().matchId());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static String zoneKey(String zone) {
+        return zone.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /** Conjuntos de una carga; después de instalados solo se modifican con el lock tomado. */
+    private record Contents(NavigableSet<Position> all, Map<String, NavigableSet<Position>> byZone,
+            Map<Long, UpcomingOpenMatch> entries, Instant expiresAt) {
+
+        static Contents of(List<UpcomingOpenMatch> matches, Instant expiresAt) {
+            Contents contents = new Contents(new ConcurrentSkipListSet<>(), new ConcurrentHashMap<>(),
+                    new ConcurrentHashMap<>(), expiresAt);
+            matches.forEach(contents::add);
+            return contents;
+        }
+
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+
+        void addIfVisible(UpcomingOpenMatch match) {
+            if (match.hasFreeSpots() && !match.date().isBefore(LocalDate.now())) {
+                add(match);
+            }
+        }
+
+        void add(UpcomingOpenMatch match) {
+            Position position = match.position();
+            entries.put(match.matchId(), match);
+            all.add(position);
+            byZone.computeIfAbsent(zoneKey(match.zone()), key -> new ConcurrentSkipListSet<>()).add(position);
+        }
+
+        void remove(Long matchId) {
+            UpcomingOpenMatch previous = entries.remove(matchId);
+            if (previous == null) {
+                return;
+            }
+            all.remove(previous.position());
+            NavigableSet<Position> zone = byZone.get(zoneKey(previous.zone()));
+            if (zone != null) {
+                zone.remove(previous.position());
+            }
+        }
+    }
+
+    /** Momento de inicio de un partido; el id desempata partidos a la misma hora en distintas canchas. */
+    public record Position(LocalDate date, int hour, long matchId) implements Comparable<Position> {
+
+        private static final Comparator<Position> ORDER = Comparator.comparing(Position::date)
+                .thenComparingInt(Position::hour)
+                .thenComparingLong(Position::matchId);
+
+        public static Position of(OpenMatch match) {
+            return new Position(match.getBooking().getBookingDate(), match.getBooking().getBookingHour(), match.getId());
+        }
+
+        /** Cota inferior de todos los partidos del día. */
+        static Position startOf(LocalDate date) {
+            return new Position(date, -1, Long.MIN_VALUE);
+        }
+
+        /** Clave usada en el cursor del listado: {@code fecha,hora,id}. */
+        public String sortKey() {
+            return date + "," + hour + "," + matchId;
+        }
+
+        public static Position parse(String sortKey) {
+            String[] parts = sortKey.split(",");
+            if (parts.length != 3) {
+                throw KeysetPagination.invalidCursor();
+            }
+            try {
+                return new Position(LocalDate.parse(parts[0]), Integer.parseInt(parts[1]), Long.parseLong(parts[2]));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw KeysetPagination.invalidCursor();
+            }
+        }
+
+        @Override
+        public int compareTo(Position other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
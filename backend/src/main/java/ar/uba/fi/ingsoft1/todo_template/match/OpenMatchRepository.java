@@ -1,12 +1,179 @@
 package ar.uba.fi.ingsoft1.todo_template.match;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import ar.uba.fi.ingsoft1.todo_template.booking.Booking;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface OpenMatchRepository extends JpaRepository<OpenMatch, Long> {
-    List<OpenMatch> findByIsActiveTrue();
     Optional<OpenMatch> findByBooking(Booking booking);
+
+    // LOAD respeta el EAGER de los planteles de OpenMatchTeam: son dos bags y no pueden unirse en el mismo SELECT
+    @EntityGraph(value = "OpenMatch.detail", type = EntityGraph.EntityGraphType.LOAD)
+    Optional<OpenMatch> findDetailedById(Long id);
+
+    @Query("SELECT CASE WHEN COUNT(p) > 0 THEN TRUE ELSE FALSE END " +
+            "FROM OpenMatch m JOIN m.players p " +
+            "WHERE m.id = :matchId AND p.id = :userId")
+    boolean hasPlayer(@Param("matchId") Long matchId, @Param("userId") Long userId);
+
+    // Las altas y bajas son sentencias nativas de una sola tabla: el UPDATE condicional toma el lock
+    // de la fila del partido y evalúa el cupo de forma atómica. Cada una declara la tabla que toca; sin
+    // eso Hibernate vacía todas las regiones del cache de segundo nivel (users, fields, ...) en cada join
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "open_match"))
+    @Query(value = "UPDATE open_match SET player_count = player_count + 1 WHERE id = :matchId AND player_count < max_players",
+            nativeQuery = true)
+    int reserveSpot(@Param("matchId") Long matchId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "open_match"))
+    @Query(value = "UPDATE open_match SET player_count = player_count - 1 WHERE id = :matchId AND player_count < min_players",
+            nativeQuery = true)
+    int releaseSpot(@Param("matchId") Long matchId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "open_match_players"))
+    @Query(value = "INSERT INTO open_match_players (open_match_id, players_id) VALUES (:matchId, :userId)",
+            nativeQuery = true)
+    void addPlayer(@Param("matchId") Long matchId, @Param("userId") Long userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "open_match_players"))
+    @Query(value = "DELETE FROM open_match_players WHERE open_match_id = :matchId AND players_id = :userId",
+            nativeQuery = true)
+    int removePlayer(@Param("matchId") Long matchId, @Param("userId") Long userId);
+
+    // Carga de OpenMatchIndex: partidos próximos con lugares libres, en orden de inicio
+    @Query("""
+                SELECT new ar.uba.fi.ingsoft1.todo_template.match.UpcomingOpenMatch(
+                    m.id, f.zone, b.bookingDate, b.bookingHour, m.playerCount, m.maxPlayers)
+                FROM OpenMatch m
+                JOIN m.booking b
+                JOIN b.timeSlot t
+                JOIN t.field f
+                WHERE m.isActive = true
+                  AND b.bookingDate >= :today
+                  AND m.playerCount < m.maxPlayers
+                ORDER BY b.bookingDate, b.bookingHour, m.id
+            """)
+    List<UpcomingOpenMatch> findUpcomingWithFreeSpots(@Param("today") LocalDate today);
+
+    // Estado actual de un partido para OpenMatchIndex; vacío si ya no está activo o ya pasó
+    @Query("""
+                SELECT new ar.uba.fi.ingsoft1.todo_template.match.UpcomingOpenMatch(
+                    m.id, f.zone, b.bookingDate, b.bookingHour, m.playerCount, m.maxPlayers)
+                FROM OpenMatch m
+                JOIN m.booking b
+                JOIN b.timeSlot t
+                JOIN t.field f
+                WHERE m.id = :matchId
+                  AND m.isActive = true
+                  AND b.bookingDate >= :today
+            """)
+    Optional<UpcomingOpenMatch> findUpcomingById(@Param("matchId") Long matchId, @Param("today") LocalDate today);
+
+    // Trae una página elegida en el índice y vuelve a aplicar los filtros por si alguna entrada quedó vieja
+    @Query("""
+                SELECT m
+                FROM OpenMatch m
+                JOIN FETCH m.booking b
+                JOIN FETCH b.user
+                JOIN FETCH b.timeSlot t
+                JOIN FETCH t.field f
+                JOIN FETCH f.owner
+                LEFT JOIN FETCH m.teamOne
+                LEFT JOIN FETCH m.teamTwo
+                WHERE m.id IN :ids
+                  AND m.isActive = true
+                  AND b.bookingDate >= :today
+                  AND m.playerCount < m.maxPlayers
+            """)
+    List<OpenMatch> findUpcomingWithFreeSpotsByIdIn(@Param("ids") Collection<Long> ids, @Param("today") LocalDate today);
+
+    // Los partidos próximos del jugador, llenos o no: el listado de /matches/open solo trae los que tienen lugar
+    @Query("""
+                SELECT m
+                FROM OpenMatch m
+                JOIN FETCH m.booking b
+                JOIN FETCH b.user
+                JOIN FETCH b.timeSlot t
+                JOIN FETCH t.field f
+                JOIN FETCH f.owner
+                LEFT JOIN FETCH m.teamOne
+                LEFT JOIN FETCH m.teamTwo
+                WHERE m.isActive = true
+                  AND b.bookingDate >= :today
+                  AND m.id > :afterId
+                  AND EXISTS (SELECT 1 FROM OpenMatch om JOIN om.players p WHERE om = m AND p.id = :userId)
+                ORDER BY m.id
+            """)
+    List<OpenMatch> findUpcomingByPlayerIdAfterId(@Param("userId") Long userId, @Param("today") LocalDate today,
+            @Param("afterId") Long afterId, Limit limit);
+
+    @Query("""
+                SELECT COUNT(m)
+                FROM OpenMatch m
+                WHERE m.isActive = true
+                  AND m.booking.bookingDate >= :today
+                  AND EXISTS (SELECT 1 FROM OpenMatch om JOIN om.players p WHERE om = m AND p.id = :userId)
+            """)
+    long countUpcomingByPlayerId(@Param("userId") Long userId, @Param("today") LocalDate today);
+
+    @Query(value = """
+                SELECT m
+                FROM OpenMatch m
+                JOIN FETCH m.booking b
+                JOIN FETCH b.user
+                JOIN FETCH b.timeSlot t
+                JOIN FETCH t.field f
+                JOIN FETCH f.owner
+                LEFT JOIN FETCH m.teamOne
+                LEFT JOIN FETCH m.teamTwo
+                WHERE b.bookingDate < :today
+                  AND EXISTS (SELECT 1 FROM OpenMatch om JOIN om.players p WHERE om = m AND p.id = :userId)
+                ORDER BY b.bookingDate DESC, b.bookingHour DESC, m.id DESC
+            """, countQuery = """
+                SELECT COUNT(m)
+                FROM OpenMatch m
+                WHERE m.booking.bookingDate < :today
+                  AND EXISTS (SELECT 1 FROM OpenMatch om JOIN om.players p WHERE om = m AND p.id = :userId)
+            """)
+    Page<OpenMatch> findPastByPlayerId(@Param("userId") Long userId, @Param("today") LocalDate today,
+            Pageable pageable);
+
+    @Query(value = """
+                SELECT m
+                FROM OpenMatch m
+                JOIN FETCH m.booking b
+                JOIN FETCH b.user
+                JOIN FETCH b.timeSlot t
+                JOIN FETCH t.field f
+                JOIN FETCH f.owner o
+                LEFT JOIN FETCH m.teamOne
+                LEFT JOIN FETCH m.teamTwo
+                WHERE b.bookingDate < :today
+                  AND o.id = :ownerId
+                ORDER BY b.bookingDate DESC, b.bookingHour DESC, m.id DESC
+            """, countQuery = """
+                SELECT COUNT(m)
+                FROM OpenMatch m
+                WHERE m.booking.bookingDate < :today
+                  AND m.booking.timeSlot.field.owner.id = :ownerId
+            """)
+    Page<OpenMatch> findPastByFieldOwnerId(@Param("ownerId") Long ownerId, @Param("today") LocalDate today,
+            Pageable pageable);
 }
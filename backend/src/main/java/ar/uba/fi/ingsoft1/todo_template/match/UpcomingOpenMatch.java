@@ -0,0 +1,20 @@
+package ar.uba.fi.ingsoft1.todo_template.match;
+
+import java.time.LocalDate;
+
+public record UpcomingOpenMatch(
+        Long matchId,
+        String zone,
+        LocalDate date,
+        int hour,
+        Integer playerCount,
+        Integer maxPlayers
+) {
+    public OpenMatchIndex.Position position() {
+        return new OpenMatchIndex.Position(date, hour, matchId);
+    }
+
+    public boolean hasFreeSpots() {
+        return playerCount < maxPlayers;
+    }
+}
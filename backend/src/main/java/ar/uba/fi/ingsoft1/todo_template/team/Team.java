@@ -4,8 +4,11 @@ import ar.uba.fi.ingsoft1.todo_template.team.invitation.Invitation;
 import ar.uba.fi.ingsoft1.todo_template.team.teamServiceException.UserAlreadyMemberException;
 import ar.uba.fi.ingsoft1.todo_template.team.teamServiceException.UserNotPartOfTeam;
 import ar.uba.fi.ingsoft1.todo_template.user.User;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -14,6 +17,9 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "teams")
+@NamedEntityGraph(name = "Team.members", attributeNodes = @NamedAttributeNode("members"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -36,7 +42,8 @@ public class Team {
 
     private String logo;
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "team-members")
     @JoinTable(
             name = "team_members",
             joinColumns = @JoinColumn(name = "team_id"),
@@ -44,7 +51,8 @@ public class Team {
     )
     private Set<User> members = new HashSet<>();
 
-    @OneToMany(mappedBy = "team", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @JsonIgnore
+    @OneToMany(mappedBy = "team", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Invitation> invitations = new ArrayList<>();
 
     public void addMember(User user) throws UserAlreadyMemberException{
@@ -1,5 +1,7 @@
 package ar.uba.fi.ingsoft1.todo_template.team;
 
+import ar.uba.fi.ingsoft1.todo_template.dto.KeysetPagination;
+import ar.uba.fi.ingsoft1.todo_template.dto.PaginatedResponse;
 import ar.uba.fi.ingsoft1.todo_template.team.DTO.TeamCreateDTO;
 import ar.uba.fi.ingsoft1.todo_template.team.DTO.TeamDeleteDTO;
 import ar.uba.fi.ingsoft1.todo_template.team.DTO.TeamDetailsDTO;
@@ -27,12 +29,16 @@ import java.util.List;
 public class TeamController {
 
     private final TeamService teamService;
+    private final KeysetPagination keysetPagination;
 
     @GetMapping
     @Operation(summary = "List Teams", description = "Returns all the teams registered in the system")
     @ApiResponse(responseCode = "200", description = "Correctly listed equipment", content = @Content(schema = @Schema(implementation = TeamDetailsDTO.class), mediaType = "application/json"))
-    public ResponseEntity<List<TeamDetailsDTO>> getAllTeams() {
-        return ResponseEntity.ok(TeamDetailsDTO.fromTeamList(teamService.getAllTeams()));
+    public ResponseEntity<PaginatedResponse<TeamDetailsDTO>> getAllTeams(
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of results per page") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Include the total number of results") @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(teamService.getTeams(keysetPagination.request(cursor, limit, includeTotal)));
     }
 
     @PostMapping
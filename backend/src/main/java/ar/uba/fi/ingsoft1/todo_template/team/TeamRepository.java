@@ -1,6 +1,8 @@
 package ar.uba.fi.ingsoft1.todo_template.team;
 
 import ar.uba.fi.ingsoft1.todo_template.user.User;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,10 +14,15 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
 
     Optional<Team> findByName(String name);
 
+    @EntityGraph("Team.members")
+    Optional<Team> findWithMembersById(Long id);
+
+    @EntityGraph("Team.members")
+    List<Team> findAllWithMembersBy();
+
     List<Team> findByMembers(User user);
 
-    @Query("SELECT DISTINCT t FROM Team t JOIN FETCH t.members")
-    List<Team> findAllWithMembers();
+    List<Team> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
 
     @Query("""
                 SELECT DISTINCT t
@@ -1,13 +1,22 @@
 package ar.uba.fi.ingsoft1.todo_template.team;
 
 import ar.uba.fi.ingsoft1.todo_template.config.security.JwtUserDetails;
+import ar.uba.fi.ingsoft1.todo_template.dto.KeysetPage;
+import ar.uba.fi.ingsoft1.todo_template.dto.KeysetPagination;
+import ar.uba.fi.ingsoft1.todo_template.dto.PaginatedResponse;
 import ar.uba.fi.ingsoft1.todo_template.team.DTO.TeamCreateDTO;
+import ar.uba.fi.ingsoft1.todo_template.team.DTO.TeamDetailsDTO;
 import ar.uba.fi.ingsoft1.todo_template.team.DTO.TeamUpdateDTO;
 import ar.uba.fi.ingsoft1.todo_template.team.invitation.Invitation;
 import ar.uba.fi.ingsoft1.todo_template.team.invitation.InvitationService;
+import ar.uba.fi.ingsoft1.todo_template.tournament.fixture.TournamentStatisticsService;
+import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.StandingsInvalidated;
+import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.TeamRegisteredTournamentRepository;
+import ar.uba.fi.ingsoft1.todo_template.user.PrincipalCache;
 import ar.uba.fi.ingsoft1.todo_template.user.User;
 import ar.uba.fi.ingsoft1.todo_template.user.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -27,15 +36,21 @@ public class TeamService {
     private final TeamRepository teamRepository;
     private final UserRepository userRepository;
     private final InvitationService invitationService;
+    private final PrincipalCache principalCache;
+    private final TeamRegisteredTournamentRepository teamRegisteredTournamentRepository;
+    private final TournamentStatisticsService tournamentStatisticsService;
+    private final ApplicationEventPublisher events;
 
 
-    public List<Team> getAllTeams() {
-        return teamRepository.findAllWithMembers();
+    public PaginatedResponse<TeamDetailsDTO> getTeams(KeysetPage page) {
+        return KeysetPagination.response(
+                teamRepository.findByIdGreaterThanOrderByIdAsc(page.afterId(), page.fetchLimit()),
+                page, Team::getId, TeamDetailsDTO::fromTeam, teamRepository::count);
     }
 
     public List<Team> getUsersTeams() {
         String username = getAuthenticatedUsername();
-        User user = userRepository
+        User user = principalCache
                 .findByUsername(username)
                 .orElseThrow(() -> {
                     var msg = String.format("Username '%s' not found", username);
@@ -51,7 +66,7 @@ public class TeamService {
         if (teamRepository.findByName(dto.getName()).isPresent()) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, "Team name already exists");
         }
-        User user = userRepository
+        User user = principalCache
                 .findByUsername(username)
                 .orElseThrow(() -> {
                     var msg = String.format("Username '%s' not found", username);
@@ -64,7 +79,7 @@ public class TeamService {
     public Optional<Team> updateTeam(Long id, TeamUpdateDTO dto) {
         String username = getAuthenticatedUsername();
 
-        Optional<Team> teamOpt = teamRepository.findById(id);
+        Optional<Team> teamOpt = teamRepository.findWithMembersById(id);
         if (teamOpt.isEmpty()) return Optional.empty();
 
         Team team = teamOpt.get();
@@ -72,14 +87,23 @@ public class TeamService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only the captain can update the team");
         }
 
-        if (dto.getName() != null && !dto.getName().equals(team.getName())) {
+        boolean renamed = dto.getName() != null && !dto.getName().equals(team.getName());
+        if (renamed) {
             Optional<Team> existingTeam = teamRepository.findByName(dto.getName());
             if (existingTeam.isPresent()) {
                 throw new ResponseStatusException(HttpStatus.CONFLICT, "Team name already exists");
             }
         }
 
-        return Optional.of(teamRepository.save(dto.applyTo(team)));
+        Team saved = teamRepository.save(dto.applyTo(team));
+        if (renamed) {
+            // las tablas de posiciones y las estadísticas de sus torneos copian el nombre del equipo
+            for (Long tournamentId : teamRegisteredTournamentRepository.findTournamentIdsByTeamId(id)) {
+                events.publishEvent(new StandingsInvalidated(tournamentId));
+                tournamentStatisticsService.evictStatistics(tournamentId);
+            }
+        }
+        return Optional.of(saved);
     }
 
     @Transactional
@@ -101,7 +125,7 @@ public class TeamService {
         String deleter = getAuthenticatedUsername();
         Team team = teamRepository.findById(teamId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Team not found"));
-        User deleted = userRepository.findByUsername(deleting)
+        User deleted = principalCache.findByUsername(deleting)
                 .orElseThrow(() -> {
                     var msg = String.format("Username '%s' not found", deleting);
                     return new UsernameNotFoundException(msg);
@@ -140,7 +164,7 @@ public class TeamService {
 
     @Transactional
     public Team acceptInvitation(Invitation inv){
-        User userInvitee = userRepository.findByUsername(getAuthenticatedUsername()).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Invitee not found"));
+        User userInvitee = principalCache.findByUsername(getAuthenticatedUsername()).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Invitee not found"));
         Team team = teamRepository.findById(inv.getTeamId()).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Team not found"));
         if (!inv.getInviteeEmail().equals(userInvitee.getUsername())) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED,"User logged is not the user who was invited ");
@@ -0,0 +1,310 @@
+package ar.uba.fi.ingsoft1.todo_template.timeslot;
+
+import ar.uba.fi.ingsoft1.todo_template.blockedslot.BlockedSlot;
+import ar.uba.fi.ingsoft1.todo_template.blockedslot.BlockedSlotRepository;
+import ar.uba.fi.ingsoft1.todo_template.booking.BookedHour;
+import ar.uba.fi.ingsoft1.todo_template.booking.BookingRepository;
+import ar.uba.fi.ingsoft1.todo_template.common.event.ScheduleChanged;
+import ar.uba.fi.ingsoft1.todo_template.common.event.SlotBlocked;
+import ar.uba.fi.ingsoft1.todo_template.common.event.SlotEvent;
+import ar.uba.fi.ingsoft1.todo_template.common.event.SlotReleased;
+import ar.uba.fi.ingsoft1.todo_template.common.event.SlotReserved;
+import ar.uba.fi.ingsoft1.todo_template.common.event.SlotUnblocked;
+import ar.uba.fi.ingsoft1.todo_template.field.FieldRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Índice en memoria de disponibilidad por cancha.
+ * Cada cancha guarda una máscara de 24 bits por día de la semana con las horas de apertura
+ * y una máscara de 24 bits por fecha con las horas ocupadas (reservas activas y bloqueos).
+ * El índice se construye la primera vez que se consulta una cancha y luego se mantiene
+ * con los SlotEvent de reservas, bloqueos y franjas horarias, aplicados después del commit.
+ * Cada evento incrementa la versión de la cancha, y una carga solo se instala si la versión no cambió
+ * mientras leía la base; si cambió se vuelve a cargar, así no se pierde un evento que llegó en el medio.
+ * <p>
+ * El índice es local a cada instancia: los eventos solo llegan al proceso que hizo la escritura.
+ * Por eso cada cancha se vuelve a leer de la base al vencer el TTL ({@code app.availability-index.ttl-seconds}),
+ * el fixture refresca sus canchas antes de armarse y la doble reserva la frena igual la clave única
+ * uk_booking_active_slot. Un barrido periódico descarta las canchas vencidas y las fechas que ya pasaron.
+ */
+@Component
+public class AvailabilityIndex {
+
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private final TimeSlotRepository timeSlotRepository;
+    private final BookingRepository bookingRepository;
+    private final BlockedSlotRepository blockedSlotRepository;
+    private final FieldRepository fieldRepository;
+    private final Duration ttl;
+
+    private final Map<Long, FieldAvailability> fields = new ConcurrentHashMap<>();
+    // solo se modifica dentro del compute de fields sobre la misma cancha
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    public AvailabilityIndex(TimeSlotRepository timeSlotRepository, BookingRepository bookingRepository,
+            BlockedSlotRepository blockedSlotRepository, FieldRepository fieldRepository,
+            @Value("${app.availability-index.ttl-seconds:300}") long ttlSeconds) {
+        this.timeSlotRepository = timeSlotRepository;
+        this.bookingRepository = bookingRepository;
+        this.blockedSlotRepository = blockedSlotRepository;
+        this.fieldRepository = fieldRepository;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    public Map<LocalDate, List<Integer>> getAvailableHours(Long fieldId, LocalDate from, int days) {
+        FieldAvailability availability = forField(fieldId);
+        Map<LocalDate, List<Integer>> result = new LinkedHashMap<>();
+        for (int i = 0; i < days; i++) {
+            LocalDate date = from.plusDays(i);
+            result.put(date, toHours(availability.freeMask(date)));
+        }
+        return result;
+    }
+
+    public boolean isAvailable(Long fieldId, LocalDate date, int hour) {
+        if (hour < 0 || hour > 23) {
+            return false;
+        }
+        return (forField(fieldId).freeMask(date) & bit(hour)) != 0;
+    }
+
+    /** Horas libres de la cancha en la fecha como máscara de 24 bits (bit h = hora h libre). */
+    public int freeHoursMask(Long fieldId, LocalDate date) {
+        return forField(fieldId).freeMask(date);
+    }
+
+    public int countAvailableHours(Long fieldId, LocalDate from, int days) {
+        FieldAvailability availability = forField(fieldId);
+        int total = 0;
+        for (int i = 0; i < days; i++) {
+            total += Integer.bitCount(availability.freeMask(from.plusDays(i)));
+        }
+        return total;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(SlotEvent event) {
+        switch (event) {
+            case SlotReserved reserved -> reserve(reserved.fieldId(), reserved.date(), reserved.hour());
+            case SlotReleased released -> release(released.fieldId(), released.date(), released.hour());
+            case SlotBlocked blocked -> block(blocked.fieldId(), blocked.date(), blocked.hour());
+            case SlotUnblocked unblocked -> unblock(unblocked.fieldId(), unblocked.date(), unblocked.hour());
+            case ScheduleChanged changed -> evict(changed.fieldId());
+        }
+    }
+
+    public void reserve(Long fieldId, LocalDate date, int hour) {
+        apply(fieldId, availability -> availability.addBooking(date, hour));
+    }
+
+    public void release(Long fieldId, LocalDate date, int hour) {
+        apply(fieldId, availability -> availability.removeBooking(date, hour));
+    }
+
+    public void block(Long fieldId, LocalDate date, int hour) {
+        apply(fieldId, availability -> availability.addBlock(date, hour));
+    }
+
+    public void unblock(Long fieldId, LocalDate date, int hour) {
+        apply(fieldId, availability -> availability.removeBlock(date, hour));
+    }
+
+    public void updateSchedule(Long fieldId, DayOfWeek day, int openTime, int closeTime) {
+        apply(fieldId, availability -> availability.setOpenMask(day, rangeMask(openTime, closeTime)));
+    }
+
+    public void replaceSchedule(Long fieldId, List<TimeSlot> slots) {
+        int[] masks = openMasksOf(slots);
+        apply(fieldId, availability -> availability.setOpenMasks(masks));
+    }
+
+    /** Descarta la cancha; la próxima consulta la vuelve a leer de la base. */
+    public void evict(Long fieldId) {
+        fields.compute(fieldId, (id, availability) -> {
+            versions.merge(id, 1L, Long::sum);
+            return null;
+        });
+    }
+
+    /** Vuelve a leer las canchas de la base, por ejemplo antes de armar un fixture con lo que escribieron otras instancias. */
+    public void refresh(List<Long> fieldIds) {
+        fieldIds.forEach(this::evict);
+    }
+
+    @Scheduled(fixedDelayString = "${app.availability-index.sweep-interval-ms:3600000}")
+    public void sweep() {
+        Instant now = Instant.now();
+        LocalDate today = LocalDate.now();
+        fields.forEach((fieldId, availability) -> {
+            if (availability.isExpired(now)) {
+                fields.remove(fieldId, availability);
+            } else {
+                availability.pruneBefore(today);
+            }
+        });
+    }
+
+    // La versión se incrementa aunque la cancha no esté cargada: si una carga está leyendo la base,
+    // al terminar ve que cambió y no instala una foto previa a este evento
+    private void apply(Long fieldId, Consumer<FieldAvailability> change) {
+        fields.compute(fieldId, (id, availability) -> {
+            versions.merge(id, 1L, Long::sum);
+            if (availability != null) {
+                change.accept(availability);
+            }
+            return availability;
+        });
+    }
+
+    private FieldAvailability forField(Long fieldId) {
+        Instant now = Instant.now();
+        FieldAvailability availability = fields.get(fieldId);
+        if (availability != null && !availability.isExpired(now)) {
+            return availability;
+        }
+        FieldAvailability loaded = null;
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            long version = versions.getOrDefault(fieldId, 0L);
+            // se lee la base fuera del compute: el lock del bin fijaría el virtual thread durante la consulta
+            FieldAvailability candidate = load(fieldId, now);
+            loaded = candidate;
+            FieldAvailability installed = fields.compute(fieldId, (id, current) -> {
+                if (current != null && !current.isExpired(now)) {
+                    return current;
+                }
+                return versions.getOrDefault(id, 0L) == version ? candidate : null;
+            });
+            if (installed != null) {
+                return installed;
+            }
+        }
+        // las escrituras no dejan de llegar: se responde con la última lectura sin cachearla
+        return loaded;
+    }
+
+    private FieldAvailability load(Long fieldId, Instant loadedAt) {
+        if (!fieldRepository.existsById(fieldId)) {
+            throw new IllegalArgumentException("Field not found");
+        }
+        LocalDate today = LocalDate.now();
+        FieldAvailability availability = new FieldAvailability(
+                openMasksOf(timeSlotRepository.findByFieldIdOrderByDayOfWeekAscOpenTimeAsc(fieldId)),
+                loadedAt.plus(ttl));
+
+        for (BookedHour booked : bookingRepository.findActiveBookedHoursByFieldIdFrom(fieldId, today)) {
+            availability.addBooking(booked.bookingDate(), booked.bookingHour());
+        }
+        for (BlockedSlot blocked : blockedSlotRepository.findByFieldId(fieldId)) {
+            if (blocked.getDate() != null && blocked.getHour() != null && !blocked.getDate().isBefore(today)) {
+                availability.addBlock(blocked.getDate(), blocked.getHour());
+            }
+        }
+        return availability;
+    }
+
+    private static int[] openMasksOf(List<TimeSlot> slots) {
+        int[] masks = new int[7];
+        for (TimeSlot slot : slots) {
+            if (slot.getDayOfWeek() != null) {
+                masks[slot.getDayOfWeek().ordinal()] |= rangeMask(slot.getOpenTime(), slot.getCloseTime());
+            }
+        }
+        return masks;
+    }
+
+    static int rangeMask(int openTime, int closeTime) {
+        int mask = 0;
+        for (int hour = Math.max(openTime, 0); hour < Math.min(closeTime, 24); hour++) {
+            mask |= bit(hour);
+        }
+        return mask;
+    }
+
+    private static int bit(int hour) {
+        return 1 << hour;
+    }
+
+    private static List<Integer> toHours(int mask) {
+        List<Integer> hours = new ArrayList<>(Integer.bitCount(mask));
+        while (mask != 0) {
+            int hour = Integer.numberOfTrailingZeros(mask);
+            hours.add(hour);
+            mask &= mask - 1;
+        }
+        return hours;
+    }
+
+    private static final class FieldAvailability {
+
+        private int[] openMasks;
+        private final Instant expiresAt;
+        private final Map<LocalDate, Integer> booked = new HashMap<>();
+        private final Map<LocalDate, Integer> blocked = new HashMap<>();
+
+        private FieldAvailability(int[] openMasks, Instant expiresAt) {
+            this.openMasks = openMasks;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+
+        synchronized void pruneBefore(LocalDate date) {
+            booked.keySet().removeIf(day -> day.isBefore(date));
+            blocked.keySet().removeIf(day -> day.isBefore(date));
+        }
+
+        synchronized int freeMask(LocalDate date) {
+            int taken = booked.getOrDefault(date, 0) | blocked.getOrDefault(date, 0);
+            return openMasks[date.getDayOfWeek().ordinal()] & ~taken;
+        }
+
+        synchronized void setOpenMask(DayOfWeek day, int mask) {
+            openMasks[day.ordinal()] = mask;
+        }
+
+        synchronized void setOpenMasks(int[] masks) {
+            openMasks = masks;
+        }
+
+        synchronized void addBooking(LocalDate date, int hour) {
+            booked.merge(date, bit(hour), (a, b) -> a | b);
+        }
+
+        synchronized void removeBooking(LocalDate date, int hour) {
+            clear(booked, date, hour);
+        }
+
+        synchronized void addBlock(LocalDate date, int hour) {
+            blocked.merge(date, bit(hour), (a, b) -> a | b);
+        }
+
+        synchronized void removeBlock(LocalDate date, int hour) {
+            clear(blocked, date, hour);
+        }
+
+        private static void clear(Map<LocalDate, Integer> masks, LocalDate date, int hour) {
+            masks.computeIfPresent(date, (d, mask) -> {
+                int remaining = mask & ~bit(hour);
+                return remaining == 0 ? null : remaining;
+            });
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package ar.uba.fi.ingsoft1.todo_template.timeslot;
+
+import java.time.DayOfWeek;
+
+public record FieldOpenHours(Long fieldId, DayOfWeek dayOfWeek, int openTime, int closeTime) {}
@@ -3,11 +3,17 @@ package ar.uba.fi.ingsoft1.todo_template.timeslot;
 import ar.uba.fi.ingsoft1.todo_template.field.Field;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.DayOfWeek;
 
 @Entity
-@Table(name = "time_slot")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "time-slots")
+@Table(name = "time_slot", indexes = {
+        @Index(name = "idx_time_slot_field_day", columnList = "field_id, day_of_week")
+})
 @Getter
 @Setter
 @NoArgsConstructor
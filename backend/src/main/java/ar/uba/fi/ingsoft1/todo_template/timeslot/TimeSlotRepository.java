@@ -1,6 +1,11 @@
 package ar.uba.fi.ingsoft1.todo_template.timeslot;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.DayOfWeek;
 import java.util.List;
@@ -8,8 +13,10 @@ import java.util.Optional;
 
 public interface TimeSlotRepository extends JpaRepository<TimeSlot, Long> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<TimeSlot> findByFieldIdOrderByDayOfWeekAscOpenTimeAsc(Long fieldId);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     TimeSlot findByFieldIdAndDayOfWeek(Long fieldId, DayOfWeek day);
 
     void deleteByFieldId(Long fieldId);
@@ -18,5 +25,11 @@ public interface TimeSlotRepository extends JpaRepository<TimeSlot, Long> {
 
     Optional<TimeSlot> findByFieldIdAndOpenTime(Long fieldId, int openTime);
 
+    @Query("""
+                SELECT new ar.uba.fi.ingsoft1.todo_template.timeslot.FieldOpenHours(t.field.id, t.dayOfWeek, t.openTime, t.closeTime)
+                FROM TimeSlot t
+                WHERE t.field.owner.id = :ownerId
+            """)
+    List<FieldOpenHours> findOpenHoursByOwnerId(@Param("ownerId") Long ownerId);
 
 }
@@ -1,20 +1,21 @@
 package ar.uba.fi.ingsoft1.todo_template.timeslot;
 
 import ar.uba.fi.ingsoft1.todo_template.blockedslot.BlockedSlotRepository;
-import ar.uba.fi.ingsoft1.todo_template.blockedslot.BlockedSlot;
-import ar.uba.fi.ingsoft1.todo_template.booking.Booking;
 import ar.uba.fi.ingsoft1.todo_template.booking.BookingRepository;
+import ar.uba.fi.ingsoft1.todo_template.common.FieldHour;
+import ar.uba.fi.ingsoft1.todo_template.common.event.ScheduleChanged;
 import ar.uba.fi.ingsoft1.todo_template.field.Field;
 
 import ar.uba.fi.ingsoft1.todo_template.field.FieldRepository;
+import io.micrometer.observation.annotation.Observed;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 public class TimeSlotService {
@@ -24,68 +25,66 @@ public class TimeSlotService {
     private final BlockedSlotRepository blockedSlotRepository;
 
     public final BookingRepository bookingRepository;
+    private final AvailabilityIndex availabilityIndex;
+    private final ApplicationEventPublisher events;
 
     public TimeSlotService(TimeSlotRepository repository, FieldRepository fieldRepository,
-            BlockedSlotRepository blockedSlotRepository, BookingRepository bookingRepository) {
+            BlockedSlotRepository blockedSlotRepository, BookingRepository bookingRepository,
+            AvailabilityIndex availabilityIndex, ApplicationEventPublisher events) {
         this.timeslotRepository = repository;
         this.fieldRepository = fieldRepository;
         this.blockedSlotRepository = blockedSlotRepository;
         this.bookingRepository = bookingRepository;
+        this.availabilityIndex = availabilityIndex;
+        this.events = events;
     }
 
+    @Observed(name = "timeslot.availability", contextualName = "get-available-hours")
     public Map<LocalDate, List<Integer>> getAvailableHours(Long fieldId, int daysAhead) {
-        Field field = fieldRepository.findById(fieldId)
-                .orElseThrow(() -> new IllegalArgumentException("Field not found"));
-
-        Map<LocalDate, List<Integer>> availability = new LinkedHashMap<>();
-        LocalDate today = LocalDate.now();
+        return availabilityIndex.getAvailableHours(fieldId, LocalDate.now(), daysAhead);
+    }
 
-        for (int i = 0; i < daysAhead; i++) {
-            LocalDate date = today.plusDays(i);
-            DayOfWeek day = date.getDayOfWeek();
+    public boolean isHourAvailable(Long fieldId, LocalDate date, int hour) {
+        return availabilityIndex.isAvailable(fieldId, date, hour);
+    }
 
-            TimeSlot timeslot = timeslotRepository.findByFieldIdAndDayOfWeek(fieldId, day);
-            if (timeslot == null) {
-                availability.put(date, List.of());
-                continue;
+    /**
+     * Horas libres entre todas las canchas del dueño en los {@code daysAhead} días desde {@code from}.
+     * Se calcula por cancha y fecha igual que AvailabilityIndex: horas de apertura menos las horas
+     * reservadas o bloqueadas, así una hora bloqueada y reservada, o fuera de horario, no se descuenta dos veces.
+     */
+    public int countAvailableHoursForOwner(Long ownerId, LocalDate from, int daysAhead) {
+        if (daysAhead <= 0) {
+            return 0;
+        }
+        LocalDate to = from.plusDays(daysAhead - 1L);
+        Map<Long, int[]> openMasksByField = new HashMap<>();
+        for (FieldOpenHours open : timeslotRepository.findOpenHoursByOwnerId(ownerId)) {
+            if (open.dayOfWeek() != null) {
+                openMasksByField.computeIfAbsent(open.fieldId(), id -> new int[7])[open.dayOfWeek().ordinal()]
+                        |= AvailabilityIndex.rangeMask(open.openTime(), open.closeTime());
             }
-
-            Set<Integer> reservedHours = bookingRepository
-                    .findByTimeSlot_Field_IdAndActiveTrue(fieldId).stream()
-                    .filter(b -> b.getBookingDate().isEqual(date))
-                    .map(Booking::getBookingHour)
-                    .collect(Collectors.toSet());
-
-            Set<Integer> blockedHours = blockedSlotRepository
-                    .findByFieldIdAndDate(fieldId, date).stream()
-                    .map(BlockedSlot::getHour)
-                    .collect(Collectors.toSet());
-
-            List<Integer> availableHours = new ArrayList<>();
-
-            for (int hour = timeslot.getOpenTime(); hour < timeslot.getCloseTime(); hour++) {
-                if (!reservedHours.contains(hour) && !blockedHours.contains(hour)) {
-                    availableHours.add(hour);
-                }
+        }
+        Map<Long, Map<LocalDate, Integer>> takenByField = new HashMap<>();
+        List<FieldHour> taken = new ArrayList<>(bookingRepository.findActiveFieldHoursByOwnerIdBetween(ownerId, from, to));
+        taken.addAll(blockedSlotRepository.findFieldHoursByOwnerIdBetween(ownerId, from, to));
+        for (FieldHour hour : taken) {
+            if (hour.hour() >= 0 && hour.hour() < 24) {
+                takenByField.computeIfAbsent(hour.fieldId(), id -> new HashMap<>())
+                        .merge(hour.date(), 1 << hour.hour(), (a, b) -> a | b);
             }
-
-            availability.put(date, availableHours);
         }
 
-        return availability;
-    }
-
-    public int countAvailableHoursInDateRange(List<Long> fieldIds, int daysAhead) {
-        int total = 0;
-
-        for (Long fieldId : fieldIds) {
-            Map<LocalDate, List<Integer>> availability = getAvailableHours(fieldId, daysAhead);
-            for (List<Integer> hours : availability.values()) {
-                total += hours.size();
+        long total = 0;
+        for (Map.Entry<Long, int[]> field : openMasksByField.entrySet()) {
+            Map<LocalDate, Integer> takenByDate = takenByField.getOrDefault(field.getKey(), Map.of());
+            for (int i = 0; i < daysAhead; i++) {
+                LocalDate date = from.plusDays(i);
+                int open = field.getValue()[date.getDayOfWeek().ordinal()];
+                total += Integer.bitCount(open & ~takenByDate.getOrDefault(date, 0));
             }
         }
-
-        return total;
+        return (int) total;
     }
 
     public List<TimeSlot> getTimeSlotsByField(Long fieldId) {
@@ -115,6 +114,7 @@ public class TimeSlotService {
                 .toList();
 
         timeslotRepository.saveAll(slots);
+        events.publishEvent(new ScheduleChanged(fieldId));
     }
 
     @Transactional
@@ -132,6 +132,7 @@ public class TimeSlotService {
                 .build();
 
         timeslotRepository.save(slot);
+        events.publishEvent(new ScheduleChanged(fieldId));
     }
 
     private void validateSlot(TimeSlotDTO dto) {
@@ -1,6 +1,9 @@
 package ar.uba.fi.ingsoft1.todo_template.tournament;
 
+import ar.uba.fi.ingsoft1.todo_template.dto.KeysetPagination;
+import ar.uba.fi.ingsoft1.todo_template.dto.PaginatedResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -18,6 +21,7 @@ import org.springframework.web.server.ResponseStatusException;
 
 import ar.uba.fi.ingsoft1.todo_template.config.GlobalControllerExceptionHandler.IncorrectValueResponse;
 import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.TeamRegisteredTournament;
+import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.TeamStandingDTO;
 import ar.uba.fi.ingsoft1.todo_template.tournament.update.TournamentUpdateDTO;
 
 @RestController
@@ -26,9 +30,11 @@ import ar.uba.fi.ingsoft1.todo_template.tournament.update.TournamentUpdateDTO;
 public class TournamentController {
 
     private final TournamentService tournamentService;
+    private final KeysetPagination keysetPagination;
 
-    public TournamentController(TournamentService tournamentService) {
+    public TournamentController(TournamentService tournamentService, KeysetPagination keysetPagination) {
         this.tournamentService = tournamentService;
+        this.keysetPagination = keysetPagination;
     }
 
     @PostMapping("/register_team/{team_id}/{tournament_id}")
@@ -97,9 +103,11 @@ public class TournamentController {
     @ApiResponse(responseCode = "200", description = "List of all tournaments", content = @Content(mediaType = "application/json", schema = @Schema(implementation = TournamentSummaryDTO.class)))
     @ApiResponse(responseCode = "401", description = "User not authenticated", content = @Content(mediaType = "text/plain", schema = @Schema(implementation = String.class)))
     @ApiResponse(responseCode = "404", description = "No tournament found", content = @Content(mediaType = "text/plain", schema = @Schema(implementation = String.class)))
-    public ResponseEntity<List<TournamentSummaryDTO>> getAlltTournaments() {
-        List<TournamentSummaryDTO> allTournaments = tournamentService.getAllTournaments();
-        return ResponseEntity.ok(allTournaments);
+    public ResponseEntity<PaginatedResponse<TournamentSummaryDTO>> getAlltTournaments(
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of results per page") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Include the total number of results") @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(tournamentService.getTournaments(keysetPagination.request(cursor, limit, includeTotal)));
     }
 
     @GetMapping("/all/open_to_registration")
@@ -234,8 +242,8 @@ public class TournamentController {
             @ApiResponse(responseCode = "200", description = "Tournament standings retrieved successfully"),
             @ApiResponse(responseCode = "404", description = "Tournament not found", content = @Content(mediaType = "text/plain", schema = @Schema(implementation = String.class)))
     })
-    public ResponseEntity<List<TeamRegisteredTournament>> getTournamentStandings(@PathVariable Long id) {
-        List<TeamRegisteredTournament> standings = tournamentService.getTournamentSortedStandings(id);
+    public ResponseEntity<List<TeamStandingDTO>> getTournamentStandings(@PathVariable Long id) {
+        List<TeamStandingDTO> standings = tournamentService.getTournamentSortedStandings(id);
         return ResponseEntity.ok(standings);
     }
 
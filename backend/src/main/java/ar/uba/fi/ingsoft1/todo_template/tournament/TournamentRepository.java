@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import ar.uba.fi.ingsoft1.todo_template.user.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface TournamentRepository extends JpaRepository<Tournament, Long> {
@@ -12,4 +13,6 @@ public interface TournamentRepository extends JpaRepository<Tournament, Long> {
     Optional<Tournament> findByName(String name);
 
     List<Tournament> findByOrganizer(User organizer);
+
+    List<Tournament> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
 }
@@ -1,16 +1,23 @@
 package ar.uba.fi.ingsoft1.todo_template.tournament;
 
+import ar.uba.fi.ingsoft1.todo_template.dto.KeysetPage;
+import ar.uba.fi.ingsoft1.todo_template.dto.KeysetPagination;
+import ar.uba.fi.ingsoft1.todo_template.dto.PaginatedResponse;
 import ar.uba.fi.ingsoft1.todo_template.common.HelperAuthenticatedUser;
 import ar.uba.fi.ingsoft1.todo_template.team.Team;
 import ar.uba.fi.ingsoft1.todo_template.team.TeamRepository;
+import ar.uba.fi.ingsoft1.todo_template.tournament.fixture.TournamentStatisticsService;
 import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.TeamRegisteredTournament;
-import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.TeamRegisteredTournamentHelper;
 import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.TeamRegisteredTournamentRepository;
+import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.TeamStandingDTO;
 import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.TeamTournamentId;
+import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.StandingsInvalidated;
+import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.TournamentStandings;
 import ar.uba.fi.ingsoft1.todo_template.tournament.update.TournamentUpdateCommand;
+import ar.uba.fi.ingsoft1.todo_template.user.PrincipalCache;
 import ar.uba.fi.ingsoft1.todo_template.user.User;
-import ar.uba.fi.ingsoft1.todo_template.user.UserRepository;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,18 +30,24 @@ import java.util.List;
 @Transactional
 public class TournamentService {
     private final TournamentRepository tournamentRepository;
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
     private final TeamRepository teamRepository;
     private final TeamRegisteredTournamentRepository teamRegisteredTournamentRepository;
-    private final TeamRegisteredTournamentHelper teamRegisteredTournamentHelper;
-
-    public TournamentService(TournamentRepository tournamentRepository, UserRepository userRepository,
-            TeamRepository teamRepository, TeamRegisteredTournamentRepository teamRegisteredTournamentRepository) {
+    private final TournamentStandings tournamentStandings;
+    private final ApplicationEventPublisher events;
+    private final TournamentStatisticsService tournamentStatisticsService;
+
+    public TournamentService(TournamentRepository tournamentRepository, PrincipalCache principalCache,
+            TeamRepository teamRepository, TeamRegisteredTournamentRepository teamRegisteredTournamentRepository,
+            TournamentStandings tournamentStandings, TournamentStatisticsService tournamentStatisticsService,
+            ApplicationEventPublisher events) {
         this.tournamentRepository = tournamentRepository;
-        this.userRepository = userRepository;
+        this.principalCache = principalCache;
         this.teamRepository = teamRepository;
         this.teamRegisteredTournamentRepository = teamRegisteredTournamentRepository;
-        this.teamRegisteredTournamentHelper = new TeamRegisteredTournamentHelper(teamRegisteredTournamentRepository);
+        this.tournamentStandings = tournamentStandings;
+        this.tournamentStatisticsService = tournamentStatisticsService;
+        this.events = events;
     }
 
     public boolean isTeamAlreadyRegistered(Long teamId, Long tournamentId) {
@@ -74,6 +87,8 @@ public class TournamentService {
                 .build();
 
         teamRegisteredTournamentRepository.save(registration);
+        events.publishEvent(new StandingsInvalidated(tournament.getId()));
+        tournamentStatisticsService.evictStatistics(tournament.getId());
     }
 
     public Tournament createTournament(TournamentCreateDTO dto) {
@@ -88,7 +103,7 @@ public class TournamentService {
         tournament.setFormat(dto.format());
         tournament.setStartDate(dto.startDate());
         tournament.setMaxTeams(dto.maxTeams());
-        tournament.setOrganizer(userRepository.findByUsername(username).get());
+        tournament.setOrganizer(principalCache.findByUsername(username).get());
         tournament.setOpenInscription(true);
 
         if (dto.endDate() != null) {
@@ -125,6 +140,8 @@ public class TournamentService {
         teamRegisteredTournamentRepository.deleteAll(teamRegisteredTournamentRepository.findByTournament(tournament));
 
         tournamentRepository.delete(tournament);
+        events.publishEvent(new StandingsInvalidated(id));
+        tournamentStatisticsService.evictStatistics(id);
         return true;
     }
 
@@ -148,6 +165,8 @@ public class TournamentService {
             current = command.apply(current);
         }
         tournamentRepository.save(current);
+        events.publishEvent(new StandingsInvalidated(id_tournament));
+        tournamentStatisticsService.evictStatistics(id_tournament);
         return current;
     }
 
@@ -160,13 +179,15 @@ public class TournamentService {
         }
 
         tournament.setOpenInscription(active);
-        return tournamentRepository.save(tournament);
+        Tournament saved = tournamentRepository.save(tournament);
+        tournamentStatisticsService.evictStatistics(id);
+        return saved;
     }
 
-    public List<TournamentSummaryDTO> getAllTournaments() {
-        return tournamentRepository.findAll().stream()
-                .map(this::toDTO)
-                .toList();
+    public PaginatedResponse<TournamentSummaryDTO> getTournaments(KeysetPage page) {
+        return KeysetPagination.response(
+                tournamentRepository.findByIdGreaterThanOrderByIdAsc(page.afterId(), page.fetchLimit()),
+                page, Tournament::getId, this::toDTO, tournamentRepository::count);
     }
 
     public List<TournamentSummaryDTO> getFilteredByStateTournaments(TournamentState state) {
@@ -196,7 +217,7 @@ public class TournamentService {
 
     public List<TournamentSummaryDTO> getTournamentsByOrganizer() {
         String username = HelperAuthenticatedUser.getAuthenticatedUsername();
-        User organizer = userRepository.findByUsername(username)
+        User organizer = principalCache.findByUsername(username)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
 
         return tournamentRepository.findByOrganizer(organizer).stream()
@@ -206,7 +227,7 @@ public class TournamentService {
 
     public List<TournamentSummaryDTO> getTournamentsByParticipant() {
         String username = HelperAuthenticatedUser.getAuthenticatedUsername();
-        User user = userRepository.findByUsername(username)
+        User user = principalCache.findByUsername(username)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
 
         List<Team> userTeams = teamRepository.findByMembers(user);
@@ -240,6 +261,7 @@ public class TournamentService {
         }
         tournament.setOpenInscription(false);
         tournamentRepository.save(tournament);
+        tournamentStatisticsService.evictStatistics(id_tournament);
     }
 
     public List<TeamRegisteredTournament> getTournamentTeams(Long tournamentId) {
@@ -247,9 +269,9 @@ public class TournamentService {
         return teamRegisteredTournamentRepository.findByTournament(tournament);
     }
 
-    public List<TeamRegisteredTournament> getTournamentSortedStandings(Long tournamentId) {
+    public List<TeamStandingDTO> getTournamentSortedStandings(Long tournamentId) {
         Tournament tournament = getTournament(tournamentId);
-        return teamRegisteredTournamentHelper.getSortedByStandingsTeamsForTournament(tournament);
+        return tournamentStandings.of(tournament).standings();
     }
 
 }
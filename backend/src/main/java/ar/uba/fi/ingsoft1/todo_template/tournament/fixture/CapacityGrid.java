@@ -0,0 +1,76 @@
+package ar.uba.fi.ingsoft1.todo_template.tournament.fixture;
+
+import ar.uba.fi.ingsoft1.todo_template.field.Field;
+import ar.uba.fi.ingsoft1.todo_template.timeslot.AvailabilityIndex;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Capacidad libre cancha × fecha × hora para armar un fixture.
+ * Cada fecha se arma una sola vez a partir del índice de disponibilidad (franjas horarias menos
+ * reservas y bloqueos) recortado a la ventana horaria de partidos, y después solo se consume
+ * en memoria a medida que el scheduler ubica partidos. No reserva nada en el índice.
+ */
+final class CapacityGrid {
+
+    private final AvailabilityIndex availabilityIndex;
+    private final List<Field> fields;
+    private final int windowMask;
+    private final LocalDateTime now;
+    private final Map<LocalDate, int[]> freeByDate = new HashMap<>();
+
+    CapacityGrid(AvailabilityIndex availabilityIndex, List<Field> fields, int firstHour, int lastHour,
+            LocalDateTime now) {
+        this.availabilityIndex = availabilityIndex;
+        this.fields = List.copyOf(fields);
+        this.windowMask = hoursMask(firstHour, lastHour);
+        this.now = now;
+    }
+
+    int fieldCount() {
+        return fields.size();
+    }
+
+    Field field(int fieldIndex) {
+        return fields.get(fieldIndex);
+    }
+
+    boolean isFree(int fieldIndex, LocalDate date, int hour) {
+        return (masksOf(date)[fieldIndex] & (1 << hour)) != 0;
+    }
+
+    void take(int fieldIndex, LocalDate date, int hour) {
+        masksOf(date)[fieldIndex] &= ~(1 << hour);
+    }
+
+    private int[] masksOf(LocalDate date) {
+        return freeByDate.computeIfAbsent(date, this::load);
+    }
+
+    private int[] load(LocalDate date) {
+        int mask = windowMask;
+        if (date.isBefore(now.toLocalDate())) {
+            mask = 0;
+        } else if (date.equals(now.toLocalDate())) {
+            // hoy solo quedan las horas que todavía no empezaron
+            mask &= ~hoursMask(0, now.getHour() + 1);
+        }
+        int[] masks = new int[fields.size()];
+        for (int i = 0; i < masks.length; i++) {
+            masks[i] = mask == 0 ? 0 : availabilityIndex.freeHoursMask(fields.get(i).getId(), date) & mask;
+        }
+        return masks;
+    }
+
+    private static int hoursMask(int fromHour, int toHour) {
+        int mask = 0;
+        for (int hour = Math.max(fromHour, 0); hour < Math.min(toHour, 24); hour++) {
+            mask |= 1 << hour;
+        }
+        return mask;
+    }
+}
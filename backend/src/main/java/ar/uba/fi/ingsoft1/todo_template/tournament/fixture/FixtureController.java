@@ -5,8 +5,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -85,9 +88,15 @@ public class FixtureController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Estadísticas del torneo obtenidas exitosamente", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json", schema = @io.swagger.v3.oas.annotations.media.Schema(implementation = TournamentStatisticsDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Las estadísticas no cambiaron desde el ETag enviado en If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Torneo no encontrado")
     })
-    public ResponseEntity<TournamentStatisticsDTO> getTournamentStatistics(@PathVariable Long tournamentId) {
-        return ResponseEntity.ok(fixtureService.getTournamentStatisticsDTO(tournamentId));
+    public ResponseEntity<TournamentStatisticsDTO> getTournamentStatistics(@PathVariable Long tournamentId,
+            WebRequest request) {
+        TournamentStatisticsSnapshot snapshot = fixtureService.getTournamentStatisticsSnapshot(tournamentId);
+        if (request.checkNotModified(snapshot.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.etag()).cacheControl(CacheControl.noCache()).build();
+        }
+        return ResponseEntity.ok().eTag(snapshot.etag()).cacheControl(CacheControl.noCache()).body(snapshot.statistics());
     }
 }
\ No newline at end of file
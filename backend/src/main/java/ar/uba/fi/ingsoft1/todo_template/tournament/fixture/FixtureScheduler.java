@@ -0,0 +1,111 @@
+package ar.uba.fi.ingsoft1.todo_template.tournament.fixture;
+
+import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.TeamRegisteredTournament;
+import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.TeamTournamentId;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Asigna cancha y horario a todos los partidos de un fixture en una sola pasada sobre la grilla
+ * de capacidad. Las fechas se recorren en orden y en cada hora se llenan todas las canchas libres
+ * a la vez. Cada ronda empieza el día siguiente al último partido de la anterior y un equipo
+ * juega a lo sumo un partido por día, así que tampoco juega dos veces en la misma ronda.
+ */
+final class FixtureScheduler {
+
+    static final int FIRST_MATCH_HOUR = 18;
+    static final int LAST_MATCH_HOUR = 23;
+    static final int MAX_SCHEDULING_DAYS = 3650;
+
+    private final CapacityGrid grid;
+
+    FixtureScheduler(CapacityGrid grid) {
+        this.grid = grid;
+    }
+
+    void schedule(List<TournamentMatch> matches, LocalDate startDate) {
+        Map<Integer, List<TournamentMatch>> rounds = new TreeMap<>();
+        for (TournamentMatch match : matches) {
+            rounds.computeIfAbsent(match.getRoundNumber(), round -> new ArrayList<>()).add(match);
+        }
+
+        LocalDate limit = startDate.plusDays(MAX_SCHEDULING_DAYS);
+        LocalDate roundStart = startDate;
+        for (List<TournamentMatch> round : rounds.values()) {
+            LocalDate lastDay = scheduleRound(round, roundStart, limit);
+            roundStart = lastDay.plusDays(1);
+        }
+    }
+
+    private LocalDate scheduleRound(List<TournamentMatch> round, LocalDate from, LocalDate limit) {
+        List<TournamentMatch> pending = new ArrayList<>(round);
+        LocalDate date = from;
+        LocalDate lastDay = from;
+        while (!pending.isEmpty()) {
+            if (date.isAfter(limit)) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Could not find an available time slot for match.");
+            }
+            if (fillDay(pending, date)) {
+                lastDay = date;
+            }
+            date = date.plusDays(1);
+        }
+        return lastDay;
+    }
+
+    private boolean fillDay(List<TournamentMatch> pending, LocalDate date) {
+        Set<TeamTournamentId> playingToday = new HashSet<>();
+        boolean scheduled = false;
+        for (int hour = FIRST_MATCH_HOUR; hour < LAST_MATCH_HOUR && !pending.isEmpty(); hour++) {
+            for (int field = 0; field < grid.fieldCount() && !pending.isEmpty(); field++) {
+                if (!grid.isFree(field, date, hour)) {
+                    continue;
+                }
+                TournamentMatch match = nextPlayable(pending, playingToday);
+                if (match == null) {
+                    return scheduled;
+                }
+                grid.take(field, date, hour);
+                match.setField(grid.field(field));
+                match.setScheduledDateTime(date.atTime(hour, 0));
+                scheduled = true;
+            }
+        }
+        return scheduled;
+    }
+
+    // Primer partido pendiente cuyos equipos todavía no juegan en el día; lo saca de la lista
+    private static TournamentMatch nextPlayable(List<TournamentMatch> pending, Set<TeamTournamentId> playingToday) {
+        Iterator<TournamentMatch> it = pending.iterator();
+        while (it.hasNext()) {
+            TournamentMatch match = it.next();
+            if (isFree(match.getHomeTeam(), playingToday) && isFree(match.getAwayTeam(), playingToday)) {
+                it.remove();
+                markPlaying(match.getHomeTeam(), playingToday);
+                markPlaying(match.getAwayTeam(), playingToday);
+                return match;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isFree(TeamRegisteredTournament team, Set<TeamTournamentId> playingToday) {
+        return team == null || !playingToday.contains(team.getId());
+    }
+
+    private static void markPlaying(TeamRegisteredTournament team, Set<TeamTournamentId> playingToday) {
+        if (team != null) {
+            playingToday.add(team.getId());
+        }
+    }
+}
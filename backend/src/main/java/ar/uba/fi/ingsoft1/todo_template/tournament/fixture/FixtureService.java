@@ -7,9 +7,12 @@ import ar.uba.fi.ingsoft1.todo_template.tournament.fixture.generator.*;
 import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.TeamRegisteredTournament;
 import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.TeamRegisteredTournamentRepository;
 import ar.uba.fi.ingsoft1.todo_template.common.HelperAuthenticatedUser;
+import ar.uba.fi.ingsoft1.todo_template.common.event.SlotReserved;
 import ar.uba.fi.ingsoft1.todo_template.field.Field;
 import ar.uba.fi.ingsoft1.todo_template.field.FieldRepository;
 
+import io.micrometer.observation.annotation.Observed;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,13 +21,15 @@ import ar.uba.fi.ingsoft1.todo_template.match.CloseMatch;
 import ar.uba.fi.ingsoft1.todo_template.match.CloseMatchRepository;
 import ar.uba.fi.ingsoft1.todo_template.booking.Booking;
 import ar.uba.fi.ingsoft1.todo_template.booking.BookingRepository;
+import ar.uba.fi.ingsoft1.todo_template.timeslot.AvailabilityIndex;
 import ar.uba.fi.ingsoft1.todo_template.timeslot.TimeSlotService;
 import ar.uba.fi.ingsoft1.todo_template.timeslot.TimeSlot;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -41,10 +46,8 @@ public class FixtureService {
     private final BookingRepository bookingRepository;
     private final TimeSlotService timeSlotService;
     private final TournamentStatisticsService tournamentStatisticsService;
-
-    private static final LocalTime MATCH_START_TIME = LocalTime.of(18, 0);
-    private static final LocalTime MATCH_END_TIME = LocalTime.of(23, 0);
-    private static final int MATCH_DURATION_MINUTES = 90; // 90 minutos
+    private final AvailabilityIndex availabilityIndex;
+    private final ApplicationEventPublisher events;
 
     public FixtureService(
             TournamentRepository tournamentRepository,
@@ -55,7 +58,9 @@ public class FixtureService {
             CloseMatchRepository closeMatchRepository,
             BookingRepository bookingRepository,
             TimeSlotService timeSlotService,
-            TournamentStatisticsService tournamentStatisticsService) {
+            TournamentStatisticsService tournamentStatisticsService,
+            AvailabilityIndex availabilityIndex,
+            ApplicationEventPublisher events) {
         this.tournamentRepository = tournamentRepository;
         this.teamRegisteredTournamentRepository = teamRegisteredTournamentRepository;
         this.tournamentMatchRepository = tournamentMatchRepository;
@@ -64,6 +69,8 @@ public class FixtureService {
         this.bookingRepository = bookingRepository;
         this.timeSlotService = timeSlotService;
         this.tournamentStatisticsService = tournamentStatisticsService;
+        this.availabilityIndex = availabilityIndex;
+        this.events = events;
 
         RoundRobinGenerator roundRobinGenerator = new RoundRobinGenerator();
         SingleEliminationGenerator singleEliminationGenerator = new SingleEliminationGenerator();
@@ -77,15 +84,21 @@ public class FixtureService {
     }
 
     @Transactional
+    @Observed(name = "fixture.generate", contextualName = "generate-fixture")
     public List<TournamentMatch> generateFixture(Long tournamentId) {
         Tournament tournament = validateAndGetTournament(tournamentId);
         List<TeamRegisteredTournament> teams = validateAndGetTeams(tournament);
         List<TournamentMatch> matches = generateMatches(tournament, teams);
-        assignFieldsToMatches(matches);
-        scheduleMatches(matches, tournament);
-        createBookingsAndMatches(matches, tournament);
-
-        return tournamentMatchRepository.saveAll(matches);
+        List<Field> fields = findAvailableFields();
+        scheduleMatches(matches, tournament, fields);
+        Map<Long, Map<DayOfWeek, TimeSlot>> timeSlots = loadWeeklyTimeSlots(fields);
+        createBookingsAndMatches(matches, tournament, timeSlots);
+
+        // Cada partido se persiste antes que los que apuntan a él como nextMatch,
+        // así la FK se inserta directo en el lote y no hace falta un UPDATE posterior
+        tournamentMatchRepository.saveAllAndFlush(matches.reversed());
+        tournamentStatisticsService.evictStatistics(tournamentId);
+        return matches;
     }
 
     private Tournament validateAndGetTournament(Long tournamentId) {
@@ -123,97 +136,77 @@ public class FixtureService {
         return generator.generateFixture(tournament, teams);
     }
 
-    private void assignFieldsToMatches(List<TournamentMatch> matches) {
+    private List<Field> findAvailableFields() {
         List<Field> availableFields = fieldRepository.findByActiveTrue();
         if (availableFields.isEmpty()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No available fields to schedule matches");
         }
-
-        int fieldIndex = 0;
-        for (TournamentMatch match : matches) {
-            match.setField(availableFields.get(fieldIndex));
-            fieldIndex = (fieldIndex + 1) % availableFields.size();
-        }
-    }
-
-    private void scheduleMatches(List<TournamentMatch> matches, Tournament tournament) {
-        LocalDateTime nextAvailableTime = LocalDateTime.of(tournament.getStartDate(), MATCH_START_TIME);
-
-        for (TournamentMatch match : matches) {
-            LocalDateTime scheduledTime = findAvailableTimeSlot(match, nextAvailableTime);
-            match.setScheduledDateTime(scheduledTime);
-            nextAvailableTime = scheduledTime.plusMinutes(MATCH_DURATION_MINUTES);
-        }
+        return availableFields;
     }
 
-    private LocalDateTime findAvailableTimeSlot(TournamentMatch match, LocalDateTime startTime) {
-        LocalDateTime proposedTime = startTime;
-        int attempts = 0;
-        final int MAX_ATTEMPTS = 5000;
-
-        while (attempts < MAX_ATTEMPTS) {
-            if (isTimeWithinMatchWindow(proposedTime)) {
-                if (isTimeSlotAvailable(match.getField(), proposedTime)) {
-                    return proposedTime;
-                }
-            } else {
-                proposedTime = adjustTimeToMatchWindow(proposedTime);
-            }
-            proposedTime = proposedTime.plusMinutes(MATCH_DURATION_MINUTES);
-            attempts++;
+    // Franjas de cada cancha por día para las reservas, leídas una sola vez por fixture
+    private Map<Long, Map<DayOfWeek, TimeSlot>> loadWeeklyTimeSlots(List<Field> fields) {
+        Map<Long, Map<DayOfWeek, TimeSlot>> timeSlots = new HashMap<>();
+        for (Field field : fields) {
+            Map<DayOfWeek, TimeSlot> byDay = new EnumMap<>(DayOfWeek.class);
+            timeSlotService.getTimeSlotsByField(field.getId())
+                    .forEach(slot -> byDay.putIfAbsent(slot.getDayOfWeek(), slot));
+            timeSlots.put(field.getId(), byDay);
         }
-
-        throw new ResponseStatusException(HttpStatus.CONFLICT, "Could not find an available time slot for match.");
+        return timeSlots;
     }
 
-    private boolean isTimeWithinMatchWindow(LocalDateTime time) {
-        LocalTime localTime = time.toLocalTime();
-        return !localTime.isAfter(MATCH_END_TIME) && !localTime.isBefore(MATCH_START_TIME);
+    private void scheduleMatches(List<TournamentMatch> matches, Tournament tournament, List<Field> fields) {
+        // lo que reservaron otras instancias no llegó al índice de esta
+        availabilityIndex.refresh(fields.stream().map(Field::getId).toList());
+        CapacityGrid grid = new CapacityGrid(availabilityIndex, fields,
+                FixtureScheduler.FIRST_MATCH_HOUR, FixtureScheduler.LAST_MATCH_HOUR, LocalDateTime.now());
+        new FixtureScheduler(grid).schedule(matches, tournament.getStartDate());
     }
 
-    private LocalDateTime adjustTimeToMatchWindow(LocalDateTime time) {
-        LocalTime localTime = time.toLocalTime();
-        if (localTime.isAfter(MATCH_END_TIME)) {
-            return time.toLocalDate().plusDays(1).atTime(MATCH_START_TIME);
-        } else {
-            return time.with(MATCH_START_TIME);
+    // Se persiste por fases (reservas, partidos cerrados) con un único flush cada una para que
+    // Hibernate agrupe los INSERT en lotes JDBC
+    private void createBookingsAndMatches(List<TournamentMatch> matches, Tournament tournament,
+            Map<Long, Map<DayOfWeek, TimeSlot>> timeSlots) {
+        List<Booking> bookings = new ArrayList<>(matches.size());
+        for (TournamentMatch match : matches) {
+            bookings.add(createBookingForMatch(match, tournament, timeSlots));
+        }
+        bookingRepository.saveAllAndFlush(bookings);
+        for (int i = 0; i < matches.size(); i++) {
+            Booking booking = bookings.get(i);
+            events.publishEvent(new SlotReserved(matches.get(i).getField().getId(), booking.getBookingDate(), booking.getBookingHour()));
         }
-    }
-
-    private boolean isTimeSlotAvailable(Field field, LocalDateTime time) {
-        DayOfWeek dayOfWeek = time.getDayOfWeek();
-        int hour = time.getHour();
-        TimeSlot timeSlot = timeSlotService.getTimeSlotByFieldAndDay(field.getId(), dayOfWeek);
-
-        return timeSlot != null && hour >= timeSlot.getOpenTime() && hour < timeSlot.getCloseTime();
-    }
 
-    private void createBookingsAndMatches(List<TournamentMatch> matches, Tournament tournament) {
-        for (TournamentMatch match : matches) {
-            Booking booking = createBookingForMatch(match, tournament);
-            createCloseMatchIfNeeded(match, booking);
+        List<CloseMatch> closeMatches = new ArrayList<>();
+        for (int i = 0; i < matches.size(); i++) {
+            CloseMatch closeMatch = createCloseMatchIfNeeded(matches.get(i), bookings.get(i));
+            if (closeMatch != null) {
+                closeMatches.add(closeMatch);
+            }
         }
+        closeMatchRepository.saveAllAndFlush(closeMatches);
     }
 
-    private Booking createBookingForMatch(TournamentMatch match, Tournament tournament) {
-        Booking booking = new Booking(
+    private Booking createBookingForMatch(TournamentMatch match, Tournament tournament,
+            Map<Long, Map<DayOfWeek, TimeSlot>> timeSlots) {
+        return new Booking(
                 tournament.getOrganizer(),
-                timeSlotService.getTimeSlotByFieldAndDay(match.getField().getId(),
-                        match.getScheduledDateTime().getDayOfWeek()),
+                timeSlots.get(match.getField().getId()).get(match.getScheduledDateTime().getDayOfWeek()),
                 match.getScheduledDateTime().toLocalDate(),
                 match.getScheduledDateTime().getHour());
-        return bookingRepository.save(booking);
     }
 
-    private void createCloseMatchIfNeeded(TournamentMatch match, Booking booking) {
-        if (match.getHomeTeam() != null && match.getAwayTeam() != null) {
-            CloseMatch closeMatch = new CloseMatch();
-            closeMatch.setBooking(booking);
-            closeMatch.setTeamOne(match.getHomeTeam().getTeam());
-            closeMatch.setTeamTwo(match.getAwayTeam().getTeam());
-            closeMatchRepository.save(closeMatch);
-            match.setMatch(closeMatch);
+    private CloseMatch createCloseMatchIfNeeded(TournamentMatch match, Booking booking) {
+        if (match.getHomeTeam() == null || match.getAwayTeam() == null) {
+            return null;
         }
+        CloseMatch closeMatch = new CloseMatch();
+        closeMatch.setBooking(booking);
+        closeMatch.setTeamOne(match.getHomeTeam().getTeam());
+        closeMatch.setTeamTwo(match.getAwayTeam().getTeam());
+        match.setMatch(closeMatch);
+        return closeMatch;
     }
 
     @Transactional
@@ -252,7 +245,9 @@ public class FixtureService {
         }
 
         match.setStatus(MatchStatus.CANCELLED);
-        return tournamentMatchRepository.save(match);
+        TournamentMatch saved = tournamentMatchRepository.save(match);
+        tournamentStatisticsService.evictStatistics(match.getTournament().getId());
+        return saved;
     }
 
     public List<TournamentMatch> getFixture(Long tournamentId) {
@@ -262,8 +257,8 @@ public class FixtureService {
         return tournamentMatchRepository.findAllByTournamentOrderByRoundNumberAscMatchNumberAsc(tournament);
     }
 
-    public TournamentStatisticsDTO getTournamentStatisticsDTO(Long tournamentId) {
-        return tournamentStatisticsService.getTournamentStatistics(tournamentId);
+    public TournamentStatisticsSnapshot getTournamentStatisticsSnapshot(Long tournamentId) {
+        return tournamentStatisticsService.getStatisticsSnapshot(tournamentId);
     }
 
     private void updateNextMatch(TournamentMatch completedMatch) {
@@ -351,6 +346,7 @@ public class FixtureService {
                 tournamentMatch.getScheduledDateTime().toLocalDate(),
                 hour);
         bookingRepository.save(booking);
+        events.publishEvent(new SlotReserved(tournamentMatch.getField().getId(), booking.getBookingDate(), hour));
 
         CloseMatch closeMatch = new CloseMatch();
         closeMatch.setBooking(booking);
@@ -4,6 +4,7 @@ import ar.uba.fi.ingsoft1.todo_template.tournament.Tournament;
 import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.TeamRegisteredTournament;
 import ar.uba.fi.ingsoft1.todo_template.field.Field;
 import ar.uba.fi.ingsoft1.todo_template.match.Match;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -18,7 +19,8 @@ import java.time.LocalDateTime;
 public class TournamentMatch {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tournament_match_seq")
+    @SequenceGenerator(name = "tournament_match_seq", sequenceName = "tournament_match_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -69,6 +71,7 @@ public class TournamentMatch {
 
     @ManyToOne
     @JoinColumn(name = "match_id")
+    @JsonIgnoreProperties({"booking", "teamOne", "teamTwo"})
     private Match match;
 
     public MatchStatus getStatus() {
@@ -5,15 +5,25 @@ import java.util.stream.Collectors;
 import ar.uba.fi.ingsoft1.todo_template.tournament.Tournament;
 import ar.uba.fi.ingsoft1.todo_template.tournament.TournamentRepository;
 import ar.uba.fi.ingsoft1.todo_template.tournament.fixture.TournamentStatisticsDTO.TournamentStatisticsDTOBuilder;
+import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.StandingRecorded;
+import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.StandingsTable;
 import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.TeamRegisteredTournament;
-import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.TeamRegisteredTournamentHelper;
 import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.TeamRegisteredTournamentRepository;
+import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.TeamStandingDTO;
+import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.TournamentStandings;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.http.HttpStatus;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 @Transactional
@@ -23,33 +33,81 @@ public class TournamentStatisticsService {
     private final TeamRegisteredTournamentRepository teamRegisteredTournamentRepository;
     private final TournamentMatchRepository tournamentMatchRepository;
     private final TournamentMatchHelper tournamentMatchHelper;
-    private final TeamRegisteredTournamentHelper teamRegisteredTournamentHelper;
+    private final TournamentStandings tournamentStandings;
+    private final ApplicationEventPublisher events;
+
+    private final Map<Long, TournamentStatisticsSnapshot> snapshots = new ConcurrentHashMap<>();
+    // Generación vigente de cada torneo, parte del ETag: cambia en cada invalidación, siempre dentro del
+    // compute de snapshots sobre el mismo torneo
+    private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+    // Arranca en la hora de inicio para que un ETag de una ejecución anterior no coincida por casualidad
+    private final AtomicLong nextGeneration = new AtomicLong(System.currentTimeMillis());
 
     public TournamentStatisticsService(TournamentRepository tournamentRepository,
             TeamRegisteredTournamentRepository teamRegisteredTournamentRepository,
-            TournamentMatchRepository tournamentMatchRepository) {
+            TournamentMatchRepository tournamentMatchRepository,
+            TournamentStandings tournamentStandings,
+            ApplicationEventPublisher events) {
         this.tournamentRepository = tournamentRepository;
         this.teamRegisteredTournamentRepository = teamRegisteredTournamentRepository;
         this.tournamentMatchRepository = tournamentMatchRepository;
         this.tournamentMatchHelper = new TournamentMatchHelper(tournamentMatchRepository);
-        this.teamRegisteredTournamentHelper = new TeamRegisteredTournamentHelper(teamRegisteredTournamentRepository);
+        this.tournamentStandings = tournamentStandings;
+        this.events = events;
+    }
+
+    /**
+     * Devuelve las estadísticas guardadas del torneo y solo las recalcula si se invalidaron
+     * con {@link #evictStatistics(Long)} o si cambió el día. Lo recalculado solo se guarda si la
+     * generación del torneo sigue siendo la que se leyó antes de calcular; si no, se devuelve sin guardar.
+     */
+    public TournamentStatisticsSnapshot getStatisticsSnapshot(Long tournamentId) {
+        LocalDate today = LocalDate.now();
+        TournamentStatisticsSnapshot snapshot = snapshots.get(tournamentId);
+        if (snapshot != null && snapshot.builtOn().equals(today)) {
+            return snapshot;
+        }
+        long generation = generations.computeIfAbsent(tournamentId, id -> nextGeneration.incrementAndGet());
+        TournamentStatisticsSnapshot candidate = new TournamentStatisticsSnapshot(getTournamentStatistics(tournamentId),
+                tournamentId + "-" + Long.toString(generation, 36) + "-" + today, today);
+        snapshots.compute(tournamentId, (id, current) ->
+                generations.getOrDefault(id, 0L) == generation ? candidate : current);
+        return candidate;
+    }
+
+    public void evictStatistics(Long tournamentId) {
+        invalidate(tournamentId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // una lectura concurrente pudo volver a armarlas con datos previos al commit
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(tournamentId);
+                }
+            });
+        }
+    }
+
+    private void invalidate(Long tournamentId) {
+        snapshots.compute(tournamentId, (id, current) -> {
+            generations.put(id, nextGeneration.incrementAndGet());
+            return null;
+        });
     }
 
     public TournamentStatisticsDTO getTournamentStatistics(Long tournamentId) {
         Tournament tournament = tournamentRepository.findById(tournamentId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Tournament not found"));
 
-        List<TeamRegisteredTournament> sortedByStandingsTeamsRegistered = teamRegisteredTournamentHelper
-                .getSortedByStandingsTeamsForTournament(tournament);
-        List<TeamName_Goals> teams_goals_SortedByGoals = teamRegisteredTournamentHelper
-                .getSortedTeamsByGoalsFor(tournament)
+        StandingsTable table = tournamentStandings.of(tournament);
+        List<TeamStandingDTO> sortedByStandingsTeamsRegistered = table.standings();
+        List<TeamName_Goals> teams_goals_SortedByGoals = table.topScorers()
                 .stream()
-                .map(team -> new TeamName_Goals(team.getTeam().getName(), team.getGoalsFor()))
+                .map(team -> new TeamName_Goals(team.team().name(), team.goalsFor()))
                 .collect(Collectors.toList());
         List<TournamentMatch> matchesTournament = tournamentMatchRepository
                 .findAllByTournamentOrderByRoundNumberAscMatchNumberAsc(tournament);
-        Optional<TeamRegisteredTournament> bestDefense = teamRegisteredTournamentHelper
-                .getBestDefensiveTeam(sortedByStandingsTeamsRegistered);
+        Optional<TeamStandingDTO> bestDefense = table.bestDefense();
 
         int completedMatches = (int) matchesTournament.stream()
                 .filter(match -> match.getStatus() == MatchStatus.COMPLETED)
@@ -71,16 +129,16 @@ public class TournamentStatisticsService {
         }
 
         if (bestDefense.isPresent()) {
-            builder.bestDefensiveTeam(bestDefense.get().getTeam().getName());
-            builder.bestDefensiveTeamGoalsAgainst(bestDefense.get().getGoalsAgainst());
+            builder.bestDefensiveTeam(bestDefense.get().team().name());
+            builder.bestDefensiveTeamGoalsAgainst(bestDefense.get().goalsAgainst());
         }
 
         if (!sortedByStandingsTeamsRegistered.isEmpty()) {
 
             if (!matchesTournament.isEmpty() && completedMatches == matchesTournament.size()) {
-                builder.champion(sortedByStandingsTeamsRegistered.get(0).getTeam().getName());
+                builder.champion(sortedByStandingsTeamsRegistered.get(0).team().name());
                 if (sortedByStandingsTeamsRegistered.size() >= 2) {
-                    builder.runnerUp(sortedByStandingsTeamsRegistered.get(1).getTeam().getName());
+                    builder.runnerUp(sortedByStandingsTeamsRegistered.get(1).team().name());
                 }
             }
 
@@ -130,6 +188,18 @@ public class TournamentStatisticsService {
 
         teamRegisteredTournamentRepository.save(homeTeam);
         teamRegisteredTournamentRepository.save(awayTeam);
+        // la tabla en memoria se actualiza después del commit
+        publishStanding(homeTeam);
+        publishStanding(awayTeam);
+        if (match.getTournament() != null) {
+            evictStatistics(match.getTournament().getId());
+        }
+    }
+
+    private void publishStanding(TeamRegisteredTournament registration) {
+        if (registration.getTournament() != null && registration.getTournament().getId() != null) {
+            events.publishEvent(StandingRecorded.of(registration));
+        }
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package ar.uba.fi.ingsoft1.todo_template.tournament.fixture;
+
+import java.time.LocalDate;
+
+/**
+ * Estadísticas ya calculadas de un torneo. {@code etag} sale de la generación del torneo, que cambia con
+ * cada invalidación, y del día; {@code builtOn} las vence al cambiar el día, porque el estado del torneo
+ * depende de la fecha.
+ */
+public record TournamentStatisticsSnapshot(TournamentStatisticsDTO statistics, String etag, LocalDate builtOn) {
+}
@@ -0,0 +1,9 @@
+package ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration;
+
+/** Se cargó un resultado: la fila del equipo queda con estas estadísticas. */
+public record StandingRecorded(Long tournamentId, TeamStandingDTO standing) implements StandingsEvent {
+
+    public static StandingRecorded of(TeamRegisteredTournament registration) {
+        return new StandingRecorded(registration.getTournament().getId(), TeamStandingDTO.of(registration));
+    }
+}
@@ -0,0 +1,11 @@
+package ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration;
+
+/**
+ * Cambio en la tabla de posiciones de un torneo. Los servicios de torneos y resultados los publican con
+ * ApplicationEventPublisher y {@link TournamentStandings} los aplica recién después del commit, así un
+ * resultado que hace rollback nunca llega a la tabla en memoria.
+ */
+public sealed interface StandingsEvent permits StandingRecorded, StandingsInvalidated {
+
+    Long tournamentId();
+}
@@ -0,0 +1,5 @@
+package ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration;
+
+/** Cambiaron los inscriptos o los datos del torneo; la tabla se vuelve a leer cuando se pida. */
+public record StandingsInvalidated(Long tournamentId) implements StandingsEvent {
+}
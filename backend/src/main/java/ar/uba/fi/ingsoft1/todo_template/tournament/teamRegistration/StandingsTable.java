@@ -0,0 +1,78 @@
+package ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * Tabla de un torneo mantenida siempre ordenada. Cada equipo figura en tres árboles:
+ * posiciones (puntos, diferencia de gol, goles a favor), goleadores y defensas.
+ * Al cargar un resultado solo se reubican los dos equipos del partido, en O(log n).
+ */
+public class StandingsTable {
+
+    private static final Comparator<TeamStandingDTO> BY_TEAM = Comparator.comparing(TeamStandingDTO::teamId,
+            Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    /**
+     * Criterio estándar de torneos:
+     * 1. Puntos (descendente)
+     * 2. Diferencia de goles (descendente)
+     * 3. Goles a favor (descendente)
+     */
+    static final Comparator<TeamStandingDTO> BY_STANDINGS = Comparator
+            .comparingInt(TeamStandingDTO::points).reversed()
+            .thenComparing(Comparator.comparingInt(TeamStandingDTO::goalDifference).reversed())
+            .thenComparing(Comparator.comparingInt(TeamStandingDTO::goalsFor).reversed())
+            .thenComparing(BY_TEAM);
+
+    // Los empates se resuelven por la posición en la tabla
+    private static final Comparator<TeamStandingDTO> BY_GOALS_FOR = Comparator
+            .comparingInt(TeamStandingDTO::goalsFor).reversed()
+            .thenComparing(BY_STANDINGS);
+
+    private static final Comparator<TeamStandingDTO> BY_GOALS_AGAINST = Comparator
+            .comparingInt(TeamStandingDTO::goalsAgainst)
+            .thenComparing(BY_STANDINGS);
+
+    private final TreeSet<TeamStandingDTO> standings = new TreeSet<>(BY_STANDINGS);
+    private final TreeSet<TeamStandingDTO> goalsFor = new TreeSet<>(BY_GOALS_FOR);
+    private final TreeSet<TeamStandingDTO> goalsAgainst = new TreeSet<>(BY_GOALS_AGAINST);
+    private final Map<Long, TeamStandingDTO> byTeam = new HashMap<>();
+
+    StandingsTable(List<TeamStandingDTO> rows) {
+        rows.forEach(this::put);
+    }
+
+    public synchronized List<TeamStandingDTO> standings() {
+        return List.copyOf(standings);
+    }
+
+    /** Equipos ordenados por goles a favor, de más goles a menos. */
+    public synchronized List<TeamStandingDTO> topScorers() {
+        return List.copyOf(goalsFor);
+    }
+
+    public synchronized Optional<TeamStandingDTO> bestDefense() {
+        return goalsAgainst.isEmpty() ? Optional.empty() : Optional.of(goalsAgainst.first());
+    }
+
+    public synchronized int size() {
+        return byTeam.size();
+    }
+
+    synchronized void put(TeamStandingDTO row) {
+        TeamStandingDTO previous = byTeam.put(row.teamId(), row);
+        if (previous != null) {
+            standings.remove(previous);
+            goalsFor.remove(previous);
+            goalsAgainst.remove(previous);
+        }
+        standings.add(row);
+        goalsFor.add(row);
+        goalsAgainst.add(row);
+    }
+}
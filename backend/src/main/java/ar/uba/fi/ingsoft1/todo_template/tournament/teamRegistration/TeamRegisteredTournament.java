@@ -2,6 +2,7 @@ package ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration;
 
 import ar.uba.fi.ingsoft1.todo_template.team.Team;
 import ar.uba.fi.ingsoft1.todo_template.tournament.Tournament;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -19,9 +20,11 @@ public class TeamRegisteredTournament {
     @JoinColumn(name = "tournament_id")
     private Tournament tournament;
 
+    // En tablas y fixtures el equipo se muestra sin su plantel, que es lazy
     @ManyToOne
     @MapsId("teamId")
     @JoinColumn(name = "team_id")
+    @JsonIgnoreProperties({"members", "memberNames"})
     private Team team;
 
     @Builder.Default
@@ -1,6 +1,8 @@
 package ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import ar.uba.fi.ingsoft1.todo_template.tournament.Tournament;
 
@@ -8,4 +10,8 @@ import java.util.List;
 
 public interface TeamRegisteredTournamentRepository extends JpaRepository<TeamRegisteredTournament, TeamTournamentId> {
     List<TeamRegisteredTournament> findByTournament(Tournament tournament);
+
+    // Torneos en los que está inscripto el equipo; usa el prefijo team_id de la clave primaria
+    @Query("SELECT r.id.tournamentId FROM TeamRegisteredTournament r WHERE r.id.teamId = :teamId")
+    List<Long> findTournamentIdsByTeamId(@Param("teamId") Long teamId);
 }
\ No newline at end of file
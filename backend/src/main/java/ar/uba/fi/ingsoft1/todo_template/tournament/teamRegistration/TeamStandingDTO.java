@@ -0,0 +1,40 @@
+package ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration;
+
+/**
+ * Fila de la tabla de posiciones. Es inmutable: cada resultado cargado reemplaza la fila del equipo.
+ * Mantiene los campos que la tabla mostraba de {@link TeamRegisteredTournament}.
+ */
+public record TeamStandingDTO(
+        TeamTournamentId id,
+        TeamRef team,
+        TournamentRef tournament,
+        int points,
+        int wins,
+        int draws,
+        int losses,
+        int goalsFor,
+        int goalsAgainst,
+        int goalDifference
+) {
+    public record TeamRef(Long id, String name) {}
+
+    public record TournamentRef(Long id, String name) {}
+
+    public static TeamStandingDTO of(TeamRegisteredTournament registration) {
+        return new TeamStandingDTO(
+                registration.getId(),
+                new TeamRef(registration.getTeam().getId(), registration.getTeam().getName()),
+                new TournamentRef(registration.getTournament().getId(), registration.getTournament().getName()),
+                registration.getPoints(),
+                registration.getWins(),
+                registration.getDraws(),
+                registration.getLosses(),
+                registration.getGoalsFor(),
+                registration.getGoalsAgainst(),
+                registration.getGoalDifference());
+    }
+
+    Long teamId() {
+        return team.id();
+    }
+}
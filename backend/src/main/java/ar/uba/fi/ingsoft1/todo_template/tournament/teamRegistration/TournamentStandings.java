@@ -0,0 +1,119 @@
+package ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import ar.uba.fi.ingsoft1.todo_template.tournament.Tournament;
+
+/**
+ * Tablas de posiciones en memoria, una por torneo. Cada tabla se arma con una consulta la primera vez
+ * que se pide y después se actualiza con cada resultado cargado, sin volver a leer ni ordenar las inscripciones.
+ * Los cambios llegan como {@link StandingsEvent} después del commit. Cada evento incrementa la versión del
+ * torneo, y una carga solo se instala si la versión no cambió mientras leía la base; si cambió se vuelve a
+ * cargar, así no se pierde un resultado que se confirmó en el medio.
+ * <p>
+ * Los eventos solo llegan a la instancia que hizo la escritura: cada tabla vence a los
+ * {@code app.standings.ttl-seconds} y se vuelve a leer, así aparecen los resultados cargados en otras.
+ */
+@Component
+public class TournamentStandings {
+
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private record Entry(StandingsTable table, Instant expiresAt) {
+
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+
+    private final TeamRegisteredTournamentRepository teamRegisteredTournamentRepository;
+    private final Duration ttl;
+
+    private final Map<Long, Entry> tables = new ConcurrentHashMap<>();
+    // solo se modifica dentro del compute de tables sobre el mismo torneo
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    public TournamentStandings(TeamRegisteredTournamentRepository teamRegisteredTournamentRepository,
+            @Value("${app.standings.ttl-seconds:300}") long ttlSeconds) {
+        this.teamRegisteredTournamentRepository = teamRegisteredTournamentRepository;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    public StandingsTable of(Tournament tournament) {
+        Long tournamentId = tournament.getId();
+        Instant now = Instant.now();
+        Entry entry = tables.get(tournamentId);
+        if (entry != null && !entry.isExpired(now)) {
+            return entry.table();
+        }
+        StandingsTable table = null;
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            long version = versions.getOrDefault(tournamentId, 0L);
+            // se carga fuera del compute: el lock del bin fijaría el virtual thread durante la consulta
+            StandingsTable candidate = load(tournament);
+            Entry installed = tables.compute(tournamentId, (id, current) -> {
+                if (current != null && !current.isExpired(now)) {
+                    return current;
+                }
+                return versions.getOrDefault(id, 0L) == version ? new Entry(candidate, now.plus(ttl)) : null;
+            });
+            if (installed != null) {
+                return installed.table();
+            }
+            table = candidate;
+        }
+        // el torneo siguió cambiando durante cada carga: se usa la última lectura sin guardarla
+        return table;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(StandingsEvent event) {
+        switch (event) {
+            case StandingRecorded recorded -> record(recorded.tournamentId(), recorded.standing());
+            case StandingsInvalidated invalidated -> evict(invalidated.tournamentId());
+        }
+    }
+
+    /** Reubica al equipo con sus estadísticas actuales si la tabla del torneo ya está armada. */
+    public void record(Long tournamentId, TeamStandingDTO standing) {
+        tables.compute(tournamentId, (id, entry) -> {
+            versions.merge(id, 1L, Long::sum);
+            if (entry != null) {
+                entry.table().put(standing);
+            }
+            return entry;
+        });
+    }
+
+    /** Descarta la tabla, por ejemplo si cambian los inscriptos o el nombre del torneo o de un equipo. */
+    public void evict(Long tournamentId) {
+        tables.compute(tournamentId, (id, entry) -> {
+            versions.merge(id, 1L, Long::sum);
+            return null;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.standings.sweep-interval-ms:3600000}")
+    public void sweep() {
+        Instant now = Instant.now();
+        tables.forEach((tournamentId, entry) -> {
+            if (entry.isExpired(now)) {
+                tables.remove(tournamentId, entry);
+            }
+        });
+    }
+
+    private StandingsTable load(Tournament tournament) {
+        return new StandingsTable(teamRegisteredTournamentRepository.findByTournament(tournament).stream()
+                .map(TeamStandingDTO::of)
+                .toList());
+    }
+}
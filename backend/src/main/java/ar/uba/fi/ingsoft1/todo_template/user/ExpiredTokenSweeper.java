@@ -0,0 +1,67 @@
+package ar.uba.fi.ingsoft1.todo_template.user;
+
+import ar.uba.fi.ingsoft1.todo_template.user.refresh_token.RefreshTokenRepository;
+import ar.uba.fi.ingsoft1.todo_template.user.verification.EmailVerificationTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Borra periódicamente los refresh tokens y tokens de verificación de mail vencidos. Trabaja en lotes:
+ * busca hasta {@code batchSize} ids por el índice de vencimiento y los borra en un DELETE por id, cada
+ * lote en su propia transacción corta, así nunca mantiene locks sobre muchas filas a la vez.
+ */
+@Component
+@ConditionalOnProperty(name = "app.token-sweeper.enabled", havingValue = "true", matchIfMissing = true)
+public class ExpiredTokenSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(ExpiredTokenSweeper.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final EmailVerificationTokenRepository emailVerificationTokenRepository;
+    private final int batchSize;
+
+    public ExpiredTokenSweeper(
+            RefreshTokenRepository refreshTokenRepository,
+            EmailVerificationTokenRepository emailVerificationTokenRepository,
+            @Value("${app.token-sweeper.batch-size:500}") int batchSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.emailVerificationTokenRepository = emailVerificationTokenRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.token-sweeper.interval-ms:600000}",
+            initialDelayString = "${app.token-sweeper.interval-ms:600000}")
+    public void sweep() {
+        Instant now = Instant.now();
+        int refreshTokens = sweep(limit -> refreshTokenRepository.findExpiredContents(now, limit),
+                refreshTokenRepository::deleteAllByIdInBatch);
+        int verificationTokens = sweep(limit -> emailVerificationTokenRepository.findExpiredIds(now, limit),
+                emailVerificationTokenRepository::deleteAllByIdInBatch);
+        if (refreshTokens > 0 || verificationTokens > 0) {
+            log.info("Borrados {} refresh tokens y {} tokens de verificación vencidos", refreshTokens, verificationTokens);
+        }
+    }
+
+    private <ID> int sweep(Function<Limit, List<ID>> findExpired, Consumer<List<ID>> deleteBatch) {
+        int deleted = 0;
+        List<ID> ids;
+        do {
+            ids = findExpired.apply(Limit.of(batchSize));
+            if (!ids.isEmpty()) {
+                deleteBatch.accept(ids);
+                deleted += ids.size();
+            }
+        } while (ids.size() == batchSize);
+        return deleted;
+    }
+}
@@ -0,0 +1,88 @@
+package ar.uba.fi.ingsoft1.todo_template.user;
+
+import ar.uba.fi.ingsoft1.todo_template.common.HelperAuthenticatedUser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Resuelve el username del JWT (o cualquier otro) a su User sin repetir la consulta por username.
+ * En el proceso guarda username → id por un TTL corto en un cache acotado de Caffeine, y el User se lee
+ * por id desde el contexto de persistencia o el cache de segundo nivel. Fuera de una transacción además deja el User cargado en
+ * los atributos del request, así los servicios que se llaman en cadena lo resuelven una sola vez.
+ * Dentro de una transacción siempre devuelve la instancia administrada, para que los cambios y las
+ * comparaciones por identidad (por ejemplo contra los miembros de un equipo) sigan funcionando.
+ */
+@Component
+public class PrincipalCache {
+
+    private static final String REQUEST_ATTRIBUTE = PrincipalCache.class.getName() + ".";
+
+    private final UserRepository userRepository;
+    private final Cache<String, Long> ids;
+
+    public PrincipalCache(UserRepository userRepository,
+            @Value("${app.principal-cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${app.principal-cache.max-entries:10000}") int maxEntries) {
+        this.userRepository = userRepository;
+        this.ids = Caffeine.newBuilder()
+                .maximumSize(Math.max(maxEntries, 0))
+                .expireAfterWrite(Duration.ofSeconds(Math.max(ttlSeconds, 0)))
+                // desalojo y vencimiento se resuelven en el mismo request, no en el ForkJoinPool
+                .executor(Runnable::run)
+                .build();
+    }
+
+    /** El User autenticado en el request actual. */
+    public Optional<User> current() {
+        return findByUsername(HelperAuthenticatedUser.getAuthenticatedUsername());
+    }
+
+    public Optional<User> findByUsername(String username) {
+        RequestAttributes request = TransactionSynchronizationManager.isActualTransactionActive()
+                ? null
+                : RequestContextHolder.getRequestAttributes();
+        if (request != null && request.getAttribute(REQUEST_ATTRIBUTE + username, RequestAttributes.SCOPE_REQUEST) instanceof User user) {
+            return Optional.of(user);
+        }
+        Optional<User> user = load(username);
+        if (request != null) {
+            user.ifPresent(found -> request.setAttribute(REQUEST_ATTRIBUTE + username, found, RequestAttributes.SCOPE_REQUEST));
+        }
+        return user;
+    }
+
+    /** Descarta lo cacheado del usuario; se llama cuando cambian sus datos. */
+    public void evict(String username) {
+        ids.invalidate(username);
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            request.removeAttribute(REQUEST_ATTRIBUTE + username, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private Optional<User> load(String username) {
+        Long id = ids.getIfPresent(username);
+        if (id != null) {
+            // el usuario pudo haberse borrado y recreado con el mismo username desde que se cacheó el id
+            Optional<User> user = userRepository.findById(id).filter(found -> username.equals(found.getUsername()));
+            if (user.isPresent()) {
+                return user;
+            }
+        }
+        Optional<User> user = userRepository.findByUsername(username);
+        if (user.isPresent() && user.get().getId() != null) {
+            ids.put(username, user.get().getId());
+        } else {
+            ids.invalidate(username);
+        }
+        return user;
+    }
+}
@@ -1,10 +1,15 @@
 package ar.uba.fi.ingsoft1.todo_template.user;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+    // Se resuelve en casi todos los requests: el id sale del cache de consultas y el User del de entidades
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByUsername(String username);
 
     boolean existsByUsername(String username);
@@ -21,6 +21,7 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -35,6 +36,7 @@ public class UserService implements UserDetailsService {
     private final UserRepository userRepository;
     private final RefreshTokenService refreshTokenService;
     private final EmailVerificationService emailVerificationService;
+    private final PrincipalCache principalCache;
 
     @Autowired
     UserService(
@@ -42,12 +44,14 @@ public class UserService implements UserDetailsService {
             PasswordEncoder passwordEncoder,
             UserRepository userRepository,
             RefreshTokenService refreshTokenService,
-            EmailVerificationService emailVerificationService) {
+            EmailVerificationService emailVerificationService,
+            PrincipalCache principalCache) {
         this.jwtService = jwtService;
         this.passwordEncoder = passwordEncoder;
         this.userRepository = userRepository;
         this.refreshTokenService = refreshTokenService;
         this.emailVerificationService = emailVerificationService;
+        this.principalCache = principalCache;
     }
 
     @Override
@@ -60,9 +64,10 @@ public class UserService implements UserDetailsService {
                 });
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     User getAuthenticatedUser() {
         String username = HelperAuthenticatedUser.getAuthenticatedUsername();
-        return userRepository.findByUsername(username)
+        return principalCache.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
     }
 
@@ -71,6 +76,7 @@ public class UserService implements UserDetailsService {
         if (!maybeUser.isEmpty()) {
             maybeUser.get().setEmailVerified(true);
             userRepository.save(maybeUser.get());
+            principalCache.evict(maybeUser.get().getUsername());
         }
     }
 
@@ -108,6 +114,8 @@ public class UserService implements UserDetailsService {
     Optional<TokenDTO> refresh(RefreshDTO data) {
         return refreshTokenService.findByValue(data.refreshToken())
                 .map(RefreshToken::user)
+                // Una cuenta dada de baja no renueva la sesión con un refresh token emitido antes
+                .filter(User::isActive)
                 .map(this::generateTokens);
     }
 
@@ -118,13 +126,16 @@ public class UserService implements UserDetailsService {
 
     }
 
+    // SUPPORTS: sin transacción del llamador el User se resuelve una vez por request (ver PrincipalCache)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public User findByUsernameOrThrow(String username) {
-        return userRepository.findByUsername(username)
+        return principalCache.findByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("User not found."));
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public User getByUsername(String username) {
-        return userRepository.findByUsername(username)
+        return principalCache.findByUsername(username)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found."));
     }
 
@@ -0,0 +1,85 @@
+package ar.uba.fi.ingsoft1.todo_template.user.refresh_token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Capa en memoria con los refresh tokens emitidos hace poco, indexada por el hash SHA-256 del token.
+ * La mayoría de los refresh llegan poco después de emitido el token, y así alcanza con el DELETE que lo
+ * consume. Solo se guarda el id del usuario: el User se vuelve a leer al usarlo para ver su estado actual.
+ * Cada entrada vive {@code ttl}; al llenarse se descarta la más vieja.
+ */
+class RecentRefreshTokens {
+
+    record Entry(Long userId, Instant expiresAt, Instant cachedUntil) {}
+
+    private final Duration ttl;
+    private final int maxEntries;
+    private final LinkedHashMap<String, Entry> entries;
+
+    RecentRefreshTokens(Duration ttl, int maxEntries) {
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > RecentRefreshTokens.this.maxEntries;
+            }
+        };
+    }
+
+    void put(String token, Long userId, Instant expiresAt, Instant now) {
+        if (maxEntries <= 0 || userId == null) {
+            return;
+        }
+        String key = hash(token);
+        synchronized (entries) {
+            evictStale(now);
+            entries.put(key, new Entry(userId, expiresAt, now.plus(ttl)));
+        }
+    }
+
+    /** Saca el token de la capa y devuelve su entrada si seguía cacheado y vigente. */
+    Optional<Entry> take(String token, Instant now) {
+        String key = hash(token);
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.remove(key);
+        }
+        if (entry == null || !now.isBefore(entry.cachedUntil()) || !now.isBefore(entry.expiresAt())) {
+            return Optional.empty();
+        }
+        return Optional.of(entry);
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    // Las entradas están en orden de alta, así que las vencidas quedan al principio
+    private void evictStale(Instant now) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext() && !now.isBefore(iterator.next().cachedUntil())) {
+            iterator.remove();
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
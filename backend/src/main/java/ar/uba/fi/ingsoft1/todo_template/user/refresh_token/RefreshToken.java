@@ -4,12 +4,15 @@ import ar.uba.fi.ingsoft1.todo_template.user.User;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 
 import java.time.Instant;
 
 @Entity
+@Table(indexes = @Index(name = "idx_refresh_token_expires", columnList = "expires_at"))
 public class RefreshToken {
     @Id
     private String content;
@@ -37,6 +40,10 @@ public class RefreshToken {
         return this.user;
     }
 
+    public Instant expiresAt() {
+        return this.expiresAt;
+    }
+
     public boolean isValid() {
         return expiresAt.isAfter(Instant.now());
     }
@@ -1,6 +1,23 @@
 package ar.uba.fi.ingsoft1.todo_template.user.refresh_token;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    // Consume el token en una sola sentencia: si dos requests lo usan a la vez, solo uno borra la fila
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.content = :content")
+    int deleteByContent(@Param("content") String content);
+
+    @Query("SELECT t.content FROM RefreshToken t WHERE t.expiresAt < :now")
+    List<String> findExpiredContents(@Param("now") Instant now, Limit limit);
 }
@@ -1,12 +1,14 @@
 package ar.uba.fi.ingsoft1.todo_template.user.refresh_token;
 
 import ar.uba.fi.ingsoft1.todo_template.user.User;
+import ar.uba.fi.ingsoft1.todo_template.user.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.math.BigInteger;
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Optional;
@@ -14,37 +16,63 @@ import java.util.Optional;
 @Service
 public class RefreshTokenService {
 
+    // SecureRandom es thread-safe; crear uno por token lo vuelve a sembrar desde el sistema cada vez
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     private final Long expiration;
     private final Integer byteSize;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final RecentRefreshTokens recentTokens;
 
     @Autowired
     RefreshTokenService(
             @Value("${jwt.refresh.expiration}") Long expiration,
             @Value("${jwt.refresh.bytes}") Integer byteSize,
-            RefreshTokenRepository refreshTokenRepository) {
+            @Value("${app.refresh-tokens.recent-ttl-minutes:15}") long recentTtlMinutes,
+            @Value("${app.refresh-tokens.recent-max-entries:10000}") int recentMaxEntries,
+            RefreshTokenRepository refreshTokenRepository,
+            UserRepository userRepository) {
         this.expiration = expiration;
         this.byteSize = byteSize;
         this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.recentTokens = new RecentRefreshTokens(Duration.ofMinutes(recentTtlMinutes), recentMaxEntries);
     }
 
     public RefreshToken createFor(User user) {
         String value = getRandomString();
-        RefreshToken result = new RefreshToken(value, user, getExpirationFor(Instant.now()));
+        Instant now = Instant.now();
+        RefreshToken result = new RefreshToken(value, user, getExpirationFor(now));
         refreshTokenRepository.save(result);
+        recentTokens.put(value, user.getId(), result.expiresAt(), now);
         return result;
     }
 
+    /** Consume el token (es de un solo uso) y lo devuelve si existía y no estaba vencido. */
     public Optional<RefreshToken> findByValue(String value) {
+        Instant now = Instant.now();
+        Optional<RecentRefreshTokens.Entry> recent = recentTokens.take(value, now);
+        if (recent.isPresent()) {
+            // Otra instancia pudo haberlo consumido: vale solo si el DELETE encontró la fila
+            if (refreshTokenRepository.deleteByContent(value) == 0) {
+                return Optional.empty();
+            }
+            // El User sale del cache de segundo nivel, con su estado actual
+            RecentRefreshTokens.Entry entry = recent.get();
+            return userRepository.findById(entry.userId())
+                    .map(user -> new RefreshToken(value, user, entry.expiresAt()));
+        }
         Optional<RefreshToken> result = refreshTokenRepository.findById(value);
-        result.ifPresent(refreshTokenRepository::delete);
+        if (result.isEmpty() || refreshTokenRepository.deleteByContent(value) == 0) {
+            return Optional.empty();
+        }
         return result.filter(RefreshToken::isValid);
     }
 
     String getRandomString() {
-        SecureRandom random = new SecureRandom();
         byte[] randomBytes = new byte[this.byteSize];
-        random.nextBytes(randomBytes);
+        RANDOM.nextBytes(randomBytes);
         return new BigInteger(1, randomBytes).toString(32);
     }
 
@@ -18,6 +18,8 @@ import java.util.Optional;
 @Transactional
 public class EmailVerificationService {
 
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     private final EmailVerificationTokenRepository tokenRepository;
     private final EmailService emailService;
     private final long tokenExpirationHours;
@@ -62,9 +64,8 @@ public class EmailVerificationService {
     }
 
     private String generateVerificationToken() {
-        SecureRandom random = new SecureRandom();
         byte[] bytes = new byte[32];
-        random.nextBytes(bytes);
+        RANDOM.nextBytes(bytes);
         return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
     }
 }
@@ -5,7 +5,9 @@ import jakarta.persistence.*;
 import java.time.Instant;
 
 @Entity
-@Table(name = "email_verification_tokens")
+@Table(name = "email_verification_tokens", indexes = {
+        @Index(name = "idx_email_verification_tokens_expiry", columnList = "expiry_date")
+})
 public class EmailVerificationToken {
 
     @Id
@@ -1,8 +1,17 @@
 package ar.uba.fi.ingsoft1.todo_template.user.verification;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 public interface EmailVerificationTokenRepository extends JpaRepository<EmailVerificationToken, Long> {
     Optional<EmailVerificationToken> findByToken(String token);
+
+    @Query("SELECT t.id FROM EmailVerificationToken t WHERE t.expiryDate < :now")
+    List<Long> findExpiredIds(@Param("now") Instant now, Limit limit);
 }
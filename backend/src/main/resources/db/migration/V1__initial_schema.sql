@@ -0,0 +1,235 @@
+-- Esquema inicial: el mismo que generaba Hibernate con ddl-auto a partir de las entidades
+
+create sequence booking_seq start with 1 increment by 50;
+create sequence match_seq start with 1 increment by 50;
+create sequence tournament_match_seq start with 1 increment by 50;
+
+create table users (
+    id bigint generated by default as identity primary key,
+    password varchar(255) not null,
+    role varchar(255) not null,
+    username varchar(255) not null,
+    gender varchar(255) not null,
+    birth_year integer not null,
+    zone varchar(255) not null,
+    name varchar(255) not null,
+    last_name varchar(255) not null,
+    is_email_verified boolean default false not null,
+    active boolean not null,
+    profile_picture varchar(255),
+    constraint uk_users_username unique (username)
+);
+
+create table email_verification_tokens (
+    id bigint generated by default as identity primary key,
+    token varchar(255) not null,
+    user_id bigint not null,
+    expiry_date timestamp(6) with time zone not null,
+    verified boolean not null,
+    constraint uk_email_verification_tokens_token unique (token),
+    constraint uk_email_verification_tokens_user unique (user_id),
+    constraint fk_email_verification_tokens_user foreign key (user_id) references users (id)
+);
+
+create table refresh_token (
+    content varchar(255) primary key,
+    user_id bigint not null,
+    expires_at timestamp(6) with time zone not null,
+    constraint fk_refresh_token_user foreign key (user_id) references users (id)
+);
+
+create table field (
+    id bigint generated by default as identity primary key,
+    name varchar(255) not null,
+    grass_type varchar(255) not null,
+    lighting boolean not null,
+    roofing boolean not null,
+    zone varchar(255) not null,
+    address varchar(255) not null,
+    photo_url varchar(255) not null,
+    price float(53) not null,
+    active boolean not null,
+    owner_id bigint not null,
+    constraint fk_field_owner foreign key (owner_id) references users (id)
+);
+
+create table time_slot (
+    id bigint generated by default as identity primary key,
+    day_of_week varchar(20),
+    open_time integer not null,
+    close_time integer not null,
+    field_id bigint not null,
+    constraint fk_time_slot_field foreign key (field_id) references field (id)
+);
+create index idx_time_slot_field_day on time_slot (field_id, day_of_week);
+
+create table blocked_slot (
+    id bigint generated by default as identity primary key,
+    field_id bigint not null,
+    date date,
+    hour integer,
+    constraint fk_blocked_slot_field foreign key (field_id) references field (id)
+);
+
+create table booking (
+    id bigint primary key,
+    user_id bigint not null,
+    time_slot_id bigint not null,
+    booking_date date not null,
+    booking_hour integer not null,
+    active boolean not null,
+    active_field_id bigint,
+    created_at timestamp(6),
+    constraint uk_booking_active_slot unique (active_field_id, booking_date, booking_hour),
+    constraint fk_booking_user foreign key (user_id) references users (id),
+    constraint fk_booking_time_slot foreign key (time_slot_id) references time_slot (id)
+);
+create index idx_booking_slot_date_active on booking (time_slot_id, booking_date, active);
+
+create table team (
+    id bigint generated by default as identity primary key,
+    name varchar(255) not null,
+    captain varchar(255),
+    primary_color varchar(255),
+    secondary_color varchar(255),
+    logo varchar(255),
+    constraint uk_team_name unique (name)
+);
+
+create table team_members (
+    team_id bigint not null,
+    user_id bigint not null,
+    primary key (team_id, user_id),
+    constraint fk_team_members_team foreign key (team_id) references team (id),
+    constraint fk_team_members_user foreign key (user_id) references users (id)
+);
+
+create table invitations (
+    id bigint generated by default as identity primary key,
+    team_id bigint not null,
+    invitee_email varchar(255) not null,
+    token varchar(36) not null,
+    pending boolean not null,
+    constraint uk_invitations_token unique (token),
+    constraint fk_invitations_team foreign key (team_id) references team (id)
+);
+
+create table match (
+    id bigint primary key,
+    booking_id bigint not null,
+    is_active boolean not null,
+    constraint uk_match_booking unique (booking_id),
+    constraint fk_match_booking foreign key (booking_id) references booking (id)
+);
+
+create table open_match_team (
+    id bigint generated by default as identity primary key
+);
+
+create table open_match_team_members (
+    open_match_team_id bigint not null,
+    members_id bigint not null,
+    constraint fk_open_match_team_members_team foreign key (open_match_team_id) references open_match_team (id),
+    constraint fk_open_match_team_members_user foreign key (members_id) references users (id)
+);
+
+create table open_match (
+    id bigint primary key,
+    player_count integer not null,
+    min_players integer not null,
+    max_players integer not null,
+    team_one_id bigint,
+    team_two_id bigint,
+    constraint fk_open_match_match foreign key (id) references match (id),
+    constraint fk_open_match_team_one foreign key (team_one_id) references open_match_team (id),
+    constraint fk_open_match_team_two foreign key (team_two_id) references open_match_team (id)
+);
+
+create table open_match_players (
+    open_match_id bigint not null,
+    players_id bigint not null,
+    primary key (open_match_id, players_id),
+    constraint fk_open_match_players_match foreign key (open_match_id) references open_match (id),
+    constraint fk_open_match_players_user foreign key (players_id) references users (id)
+);
+
+create table close_match (
+    id bigint primary key,
+    team_one_id bigint not null,
+    team_two_id bigint,
+    constraint fk_close_match_match foreign key (id) references match (id),
+    constraint fk_close_match_team_one foreign key (team_one_id) references team (id),
+    constraint fk_close_match_team_two foreign key (team_two_id) references team (id)
+);
+
+create table tournament (
+    id bigint generated by default as identity primary key,
+    name varchar(255) not null,
+    start_date date not null,
+    format varchar not null,
+    max_teams integer not null,
+    end_date date,
+    description text,
+    prizes varchar(255),
+    registration_fee numeric(38, 2),
+    open_inscription boolean not null,
+    registered_teams integer not null,
+    organizer_id bigint not null,
+    constraint uk_tournament_name unique (name),
+    constraint fk_tournament_organizer foreign key (organizer_id) references users (id)
+);
+
+create table team_registered_tournament (
+    team_id bigint not null,
+    tournament_id bigint not null,
+    points integer not null,
+    goals_for integer not null,
+    goals_against integer not null,
+    wins integer not null,
+    draws integer not null,
+    losses integer not null,
+    primary key (team_id, tournament_id),
+    constraint fk_team_registered_tournament_team foreign key (team_id) references team (id),
+    constraint fk_team_registered_tournament_tournament foreign key (tournament_id) references tournament (id)
+);
+
+create table tournament_match (
+    id bigint primary key,
+    tournament_id bigint not null,
+    home_team_id bigint,
+    home_tournament_id bigint,
+    away_team_id bigint,
+    away_tournament_id bigint,
+    field_id bigint,
+    scheduled_date_time timestamp(6) not null,
+    status varchar not null,
+    home_team_score integer,
+    away_team_score integer,
+    round_number integer not null,
+    match_number integer not null,
+    next_match_id bigint,
+    is_home_team_next_match boolean not null,
+    match_id bigint,
+    constraint fk_tournament_match_tournament foreign key (tournament_id) references tournament (id),
+    constraint fk_tournament_match_home foreign key (home_team_id, home_tournament_id)
+        references team_registered_tournament (team_id, tournament_id),
+    constraint fk_tournament_match_away foreign key (away_team_id, away_tournament_id)
+        references team_registered_tournament (team_id, tournament_id),
+    constraint fk_tournament_match_field foreign key (field_id) references field (id),
+    constraint fk_tournament_match_next foreign key (next_match_id) references tournament_match (id),
+    constraint fk_tournament_match_match foreign key (match_id) references match (id)
+);
+
+create table outbound_email (
+    id bigint generated by default as identity primary key,
+    recipient varchar(255) not null,
+    subject varchar(255) not null,
+    html_content varchar(65535) not null,
+    status varchar(20) not null,
+    attempts integer not null,
+    next_attempt_at timestamp(6) with time zone not null,
+    last_error varchar(1000),
+    created_at timestamp(6) with time zone,
+    sent_at timestamp(6) with time zone
+);
+create index idx_outbound_email_status_next on outbound_email (status, next_attempt_at);
@@ -0,0 +1,49 @@
+-- Índices para cada finder de los repositorios y para cada foreign key que no quedó cubierta
+-- por una primary key, unique o índice de V1 (Postgres no indexa las foreign keys solo).
+
+-- users: findByUsername / existsByUsername usan uk_users_username
+
+-- field
+create index idx_field_owner on field (owner_id);                       -- findByOwner, countByOwner, consultas por dueño
+create index idx_field_name_address on field (name, address);           -- existsByNameAndAddress[AndIdNot]
+create index idx_field_active_id on field (id) where active;            -- findByActiveTrue[AndIdGreaterThan...], countByActiveTrue
+
+-- time_slot: findByFieldIdAndDayOfWeek y deleteByFieldId[AndDayOfWeek] usan idx_time_slot_field_day
+create index idx_time_slot_field_open on time_slot (field_id, open_time);  -- findByFieldIdAndOpenTime
+
+-- blocked_slot
+create index idx_blocked_slot_field_date on blocked_slot (field_id, date);  -- findByFieldId[AndDate], countByOwnerIdGroupedByDate
+
+-- booking: las consultas por cancha o dueño entran por time_slot e idx_booking_slot_date_active
+create index idx_booking_user_id on booking (user_id, id);              -- findByUser_Id[AndActiveTrue|AndIdGreaterThan...], countByUser_Id
+create index idx_booking_date_hour on booking (booking_date, booking_hour);  -- partidos próximos y pasados por fecha
+
+-- match / open_match / close_match: findByBooking usa uk_match_booking
+create index idx_open_match_team_one on open_match (team_one_id);
+create index idx_open_match_team_two on open_match (team_two_id);
+create index idx_open_match_players_player on open_match_players (players_id);  -- findPastByPlayerId
+create index idx_open_match_team_members_team on open_match_team_members (open_match_team_id);
+create index idx_open_match_team_members_user on open_match_team_members (members_id);
+create index idx_close_match_teams on close_match (team_one_id, team_two_id);  -- findByTeamOne_IdAndTeamTwo_Id
+create index idx_close_match_team_two on close_match (team_two_id);            -- findPastByMemberId
+
+-- team: findByName usa uk_team_name
+create index idx_team_members_user on team_members (user_id);           -- findByMembers, findAllByMemberIdFetchMembers
+
+-- invitations: findByToken usa uk_invitations_token
+create index idx_invitations_team_email_pending on invitations (team_id, invitee_email, pending);  -- existsByTeamAndInviteeEmailAndPending, findByTeamAndPendingIsTrue
+
+-- tournament: existsByName / findByName usan uk_tournament_name
+create index idx_tournament_organizer on tournament (organizer_id);     -- findByOrganizer
+create index idx_team_registered_tournament_tournament on team_registered_tournament (tournament_id);  -- findByTournament
+
+-- tournament_match
+create index idx_tournament_match_round on tournament_match (tournament_id, round_number, match_number);  -- findAllByTournamentOrderBy...
+create index idx_tournament_match_home on tournament_match (home_team_id, home_tournament_id);
+create index idx_tournament_match_away on tournament_match (away_team_id, away_tournament_id);
+create index idx_tournament_match_field on tournament_match (field_id);
+create index idx_tournament_match_next on tournament_match (next_match_id);
+create index idx_tournament_match_match on tournament_match (match_id);
+
+-- sesiones
+create index idx_refresh_token_user on refresh_token (user_id);
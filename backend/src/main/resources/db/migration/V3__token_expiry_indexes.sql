@@ -0,0 +1,3 @@
+-- El barrido de tokens vencidos busca por fecha de vencimiento
+create index idx_refresh_token_expires on refresh_token (expires_at);
+create index idx_email_verification_tokens_expiry on email_verification_tokens (expiry_date);
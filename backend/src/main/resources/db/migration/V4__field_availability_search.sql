@@ -0,0 +1,4 @@
+-- Búsqueda de canchas libres por zona (findAvailableInZone): el índice filtra por zona solo las
+-- canchas activas y ya devuelve el orden por precio. Las subconsultas por cancha usan
+-- idx_time_slot_field_day, uk_booking_active_slot e idx_blocked_slot_field_date.
+create index idx_field_zone_price on field (zone, price, id) where active;
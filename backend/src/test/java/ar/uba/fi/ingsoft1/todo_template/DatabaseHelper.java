@@ -1,10 +1,15 @@
 package ar.uba.fi.ingsoft1.todo_template;
 
+import java.time.DayOfWeek;
 import java.util.List;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import ar.uba.fi.ingsoft1.todo_template.field.Field;
+import ar.uba.fi.ingsoft1.todo_template.field.FieldRepository;
+import ar.uba.fi.ingsoft1.todo_template.timeslot.TimeSlot;
+import ar.uba.fi.ingsoft1.todo_template.timeslot.TimeSlotRepository;
 import ar.uba.fi.ingsoft1.todo_template.user.User;
 import ar.uba.fi.ingsoft1.todo_template.user.UserCredentials;
 import ar.uba.fi.ingsoft1.todo_template.user.UserRepository;
@@ -19,6 +24,8 @@ public class DatabaseHelper {
     private final PasswordEncoder passwordEncoder;
     private RefreshTokenRepository refreshTokenRepository;
     private EmailVerificationTokenRepository emailVerificationTokenRepository;
+    private final FieldRepository fieldRepository;
+    private final TimeSlotRepository timeSlotRepository;
 
     private List<UserCredentials> defaultVerifiedUsers;
     final String defaultPassword = "123";
@@ -54,6 +61,34 @@ public class DatabaseHelper {
         userRepository.save(user);
     }
 
+    public Field seedField(String name, String zone, User owner) {
+        return seedField(name, zone, 1000.0, true, owner);
+    }
+
+    public Field seedField(String name, String zone, double price, boolean lighting, User owner) {
+        return fieldRepository.save(Field.builder()
+                .name(name)
+                .grassType("Sintético")
+                .lighting(lighting)
+                .roofing(false)
+                .zone(zone)
+                .address("Calle " + name)
+                .photoUrl("https://example.com/field.jpg")
+                .price(price)
+                .active(true)
+                .owner(owner)
+                .build());
+    }
+
+    public TimeSlot seedTimeSlot(Field field, DayOfWeek dayOfWeek, int openTime, int closeTime) {
+        return timeSlotRepository.save(TimeSlot.builder()
+                .dayOfWeek(dayOfWeek)
+                .openTime(openTime)
+                .closeTime(closeTime)
+                .field(field)
+                .build());
+    }
+
     public UserCredentials createCredentials(String username) {
         return new UserCredentials() {
             public String username() {
@@ -68,11 +103,14 @@ public class DatabaseHelper {
 
     public DatabaseHelper(UserRepository userRepository, PasswordEncoder passwordEncoder,
             RefreshTokenRepository refreshTokenRepository,
-            EmailVerificationTokenRepository emailVerificationTokenRepository) {
+            EmailVerificationTokenRepository emailVerificationTokenRepository,
+            FieldRepository fieldRepository, TimeSlotRepository timeSlotRepository) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.refreshTokenRepository = refreshTokenRepository;
         this.emailVerificationTokenRepository = emailVerificationTokenRepository;
+        this.fieldRepository = fieldRepository;
+        this.timeSlotRepository = timeSlotRepository;
 
         this.defaultVerifiedUsers = List.of(createCredentials("leticia@example.com"),
                 createCredentials("seed.elisa@example.com"),
@@ -0,0 +1,17 @@
+package ar.uba.fi.ingsoft1.todo_template;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.test.context.TestPropertySource;
+
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:loadplatform",
+        "spring.threads.virtual.enabled=false"
+})
+public class PlatformThreadsWebTierLoadTest extends WebTierLoadTest {
+
+    @Override
+    protected String mode() {
+        return "plataforma";
+    }
+}
@@ -0,0 +1,110 @@
+package ar.uba.fi.ingsoft1.todo_template;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import ar.uba.fi.ingsoft1.todo_template.field.FieldRepository;
+import ar.uba.fi.ingsoft1.todo_template.tournament.TournamentRepository;
+import ar.uba.fi.ingsoft1.todo_template.user.dto.TokenDTO;
+import ar.uba.fi.ingsoft1.todo_template.user.dto.UserLoginDTO;
+
+/**
+ * Levanta la aplicación con el perfil postgres contra un Postgres en Testcontainers (migraciones, pool
+ * Hikari, prepared statements del servidor y validación de índices incluidos) y mide p50/p99 de los
+ * endpoints de lectura principales sobre los datos del seeder. Sin Docker el test se saltea.
+ * Solo corre a pedido: mvn test -Dtest=PostgresReadEndpointsBenchmarkIntegrationTest -Dloadtest=true
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@Testcontainers(disabledWithoutDocker = true)
+@Import(TestcontainersConfiguration.class)
+@ActiveProfiles("postgres")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "app.email-outbox.enabled=false")
+public class PostgresReadEndpointsBenchmarkIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresReadEndpointsBenchmarkIntegrationTest.class);
+
+    private static final int WARMUP = 50;
+    private static final int SAMPLES = 300;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+    @Autowired
+    private FieldRepository fieldRepository;
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    private HttpEntity<Void> authenticated;
+
+    @BeforeEach
+    void login() {
+        TokenDTO token = restTemplate.postForObject("/users/login",
+                new UserLoginDTO("PLAYER.1@example.com", "abcd"), TokenDTO.class);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token.accessToken());
+        authenticated = new HttpEntity<>(headers);
+    }
+
+    @Test
+    public void readEndpointsLatency() {
+        Long fieldId = fieldRepository.findByActiveTrue().get(0).getId();
+        Long tournamentId = tournamentRepository.findAll().get(0).getId();
+
+        Map<String, String> endpoints = new LinkedHashMap<>();
+        endpoints.put("canchas activas", "/fields/all");
+        endpoints.put("disponibilidad", "/bookings/availability/" + fieldId + "?days=14");
+        endpoints.put("partidos abiertos", "/matches/open");
+        endpoints.put("partidos cerrados", "/matches/close");
+        endpoints.put("torneos", "/tournaments/all");
+        endpoints.put("tabla de posiciones", "/tournaments/" + tournamentId + "/standings");
+        endpoints.put("estadísticas del torneo", "/tournaments/" + tournamentId + "/fixture/statistics");
+
+        endpoints.forEach((name, path) -> {
+            long[] latencies = measure(path);
+            log.info("{} {}: p50 {} ms, p99 {} ms", name, path,
+                    String.format("%.2f", percentile(latencies, 0.50)), String.format("%.2f", percentile(latencies, 0.99)));
+        });
+    }
+
+    private long[] measure(String path) {
+        for (int i = 0; i < WARMUP; i++) {
+            get(path);
+        }
+        long[] latencies = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            ResponseEntity<String> response = get(path);
+            latencies[i] = System.nanoTime() - start;
+            assertEquals(200, response.getStatusCode().value(), path);
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private ResponseEntity<String> get(String path) {
+        return restTemplate.exchange(path, HttpMethod.GET, authenticated, String.class);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+}
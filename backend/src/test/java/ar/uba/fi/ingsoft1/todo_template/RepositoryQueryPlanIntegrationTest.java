@@ -0,0 +1,405 @@
+package ar.uba.fi.ingsoft1.todo_template;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ar.uba.fi.ingsoft1.todo_template.blockedslot.BlockedSlotRepository;
+import ar.uba.fi.ingsoft1.todo_template.booking.Booking;
+import ar.uba.fi.ingsoft1.todo_template.booking.BookingRepository;
+import ar.uba.fi.ingsoft1.todo_template.email.OutboundEmailRepository;
+import ar.uba.fi.ingsoft1.todo_template.email.OutboundEmailStatus;
+import ar.uba.fi.ingsoft1.todo_template.field.FieldRepository;
+import ar.uba.fi.ingsoft1.todo_template.match.CloseMatchRepository;
+import ar.uba.fi.ingsoft1.todo_template.match.OpenMatchRepository;
+import ar.uba.fi.ingsoft1.todo_template.team.Team;
+import ar.uba.fi.ingsoft1.todo_template.team.TeamRepository;
+import ar.uba.fi.ingsoft1.todo_template.timeslot.TimeSlotRepository;
+import ar.uba.fi.ingsoft1.todo_template.tournament.Tournament;
+import ar.uba.fi.ingsoft1.todo_template.tournament.TournamentRepository;
+import ar.uba.fi.ingsoft1.todo_template.tournament.fixture.TournamentMatchRepository;
+import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.TeamRegisteredTournamentRepository;
+import ar.uba.fi.ingsoft1.todo_template.user.User;
+import ar.uba.fi.ingsoft1.todo_template.user.UserRepository;
+import ar.uba.fi.ingsoft1.todo_template.user.refresh_token.RefreshTokenRepository;
+import ar.uba.fi.ingsoft1.todo_template.user.verification.EmailVerificationTokenRepository;
+
+/**
+ * Aplica las migraciones sobre un Postgres en Testcontainers, carga miles de filas por tabla
+ * (query-plan-seed.sql) y corre cada finder de los repositorios capturando el SQL y los parámetros
+ * que manda Hibernate. Cada consulta se vuelve a ejecutar con EXPLAIN y el test falla si el plan
+ * recorre secuencialmente una tabla grande para quedarse con una parte chica: eso es un índice que falta.
+ * Sin Docker el test se saltea.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@Import({ TestcontainersConfiguration.class, RepositoryQueryPlanIntegrationTest.CaptureConfiguration.class })
+@ActiveProfiles("postgres")
+@SpringBootTest(properties = "app.email-outbox.enabled=false")
+@Sql("/query-plan-seed.sql")
+public class RepositoryQueryPlanIntegrationTest {
+
+    private static final long LARGE_TABLE_ROWS = 10_000;
+    // Un Seq Scan que filtra hasta quedarse con menos de esta fracción de la tabla debería ser un Index Scan
+    private static final double SELECTIVE_FRACTION = 0.10;
+
+    private static final long USER = 1000001L;
+    private static final String USERNAME = "plan.user.1@example.com";
+    private static final long FIELD = 1000001L;
+    private static final long TEAM = 1000001L;
+    private static final long TOURNAMENT = 1000001L;
+    private static final long CLOSE_MATCH_BOOKING = 1000001L;
+    private static final long OPEN_MATCH_BOOKING = 1000002L;
+
+    private static final ThreadLocal<List<CapturedQuery>> CAPTURED = new ThreadLocal<>();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ApplicationContext context;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EmailVerificationTokenRepository emailVerificationTokenRepository;
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+    @Autowired
+    private FieldRepository fieldRepository;
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+    @Autowired
+    private BlockedSlotRepository blockedSlotRepository;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private OpenMatchRepository openMatchRepository;
+    @Autowired
+    private CloseMatchRepository closeMatchRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private TournamentRepository tournamentRepository;
+    @Autowired
+    private TeamRegisteredTournamentRepository teamRegisteredTournamentRepository;
+    @Autowired
+    private TournamentMatchRepository tournamentMatchRepository;
+    @Autowired
+    private OutboundEmailRepository outboundEmailRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void repositoryFindersDoNotScanLargeTables() throws Exception {
+        Map<String, Long> largeTables = largeTables();
+        List<String> violations = new ArrayList<>();
+
+        for (Map.Entry<String, Runnable> finder : finders().entrySet()) {
+            for (CapturedQuery query : capture(finder.getValue())) {
+                String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + query.sql(), String.class,
+                        query.parameters().toArray());
+                collectSequentialScans(objectMapper.readTree(plan).get(0).get("Plan"), largeTables,
+                        finder.getKey(), violations);
+            }
+        }
+
+        assertTrue(violations.isEmpty(), "Seq Scan sobre tablas grandes:\n" + String.join("\n", violations));
+    }
+
+    private Map<String, Runnable> finders() {
+        User owner = userRepository.findById(USER).orElseThrow();
+        Team team = teamRepository.findById(TEAM).orElseThrow();
+        Tournament tournament = tournamentRepository.findById(TOURNAMENT).orElseThrow();
+        Booking closeMatchBooking = bookingRepository.findById(CLOSE_MATCH_BOOKING).orElseThrow();
+        Booking openMatchBooking = bookingRepository.findById(OPEN_MATCH_BOOKING).orElseThrow();
+        Object invitationRepository = context.getBean("invitationRepository");
+        LocalDate today = LocalDate.now();
+        PageRequest page = PageRequest.of(0, 20);
+
+        // findByActiveTrue, countByActiveTrue y findAllWithMembersBy no se listan: devuelven casi toda la tabla
+        Map<String, Runnable> finders = new LinkedHashMap<>();
+        finders.put("UserRepository.findByUsername", () -> userRepository.findByUsername(USERNAME));
+        finders.put("UserRepository.existsByUsername", () -> userRepository.existsByUsername(USERNAME));
+        finders.put("EmailVerificationTokenRepository.findByToken",
+                () -> emailVerificationTokenRepository.findByToken("plan-verify-1"));
+        finders.put("EmailVerificationTokenRepository.findExpiredIds",
+                () -> emailVerificationTokenRepository.findExpiredIds(Instant.now(), Limit.of(500)));
+        finders.put("RefreshTokenRepository.findExpiredContents",
+                () -> refreshTokenRepository.findExpiredContents(Instant.now(), Limit.of(500)));
+
+        finders.put("FieldRepository.existsByNameAndAddress",
+                () -> fieldRepository.existsByNameAndAddress("plan field 1", "addr 1"));
+        finders.put("FieldRepository.existsByNameAndAddressAndIdNot",
+                () -> fieldRepository.existsByNameAndAddressAndIdNot("plan field 1", "addr 1", FIELD));
+        finders.put("FieldRepository.findByIdAndOwner", () -> fieldRepository.findByIdAndOwner(FIELD, owner));
+        finders.put("FieldRepository.findByOwner", () -> fieldRepository.findByOwner(owner));
+        finders.put("FieldRepository.countByOwner", () -> fieldRepository.countByOwner(owner));
+        finders.put("FieldRepository.findByActiveTrueAndIdGreaterThanOrderByIdAsc",
+                () -> fieldRepository.findByActiveTrueAndIdGreaterThanOrderByIdAsc(FIELD, Limit.of(20)));
+        finders.put("FieldRepository.findAvailableInZone",
+                () -> fieldRepository.findAvailableInZone("CABA", today, today.getDayOfWeek(), 10,
+                        null, null, null, null, Limit.of(20)));
+
+        finders.put("TimeSlotRepository.findByFieldIdOrderByDayOfWeekAscOpenTimeAsc",
+                () -> timeSlotRepository.findByFieldIdOrderByDayOfWeekAscOpenTimeAsc(FIELD));
+        finders.put("TimeSlotRepository.findByFieldIdAndDayOfWeek",
+                () -> timeSlotRepository.findByFieldIdAndDayOfWeek(FIELD, DayOfWeek.MONDAY));
+        finders.put("TimeSlotRepository.findByFieldIdAndOpenTime",
+                () -> timeSlotRepository.findByFieldIdAndOpenTime(FIELD, 8));
+        finders.put("TimeSlotRepository.findOpenHoursByOwnerId",
+                () -> timeSlotRepository.findOpenHoursByOwnerId(USER));
+
+        finders.put("BlockedSlotRepository.findByFieldIdAndDate",
+                () -> blockedSlotRepository.findByFieldIdAndDate(FIELD, today));
+        finders.put("BlockedSlotRepository.findByFieldId", () -> blockedSlotRepository.findByFieldId(FIELD));
+        finders.put("BlockedSlotRepository.findFieldHoursByOwnerIdBetween",
+                () -> blockedSlotRepository.findFieldHoursByOwnerIdBetween(USER, today, today.plusDays(14)));
+        finders.put("BlockedSlotRepository.findBlockedDatesByFieldIdAndHourBetween",
+                () -> blockedSlotRepository.findBlockedDatesByFieldIdAndHourBetween(FIELD, 10, today, today.plusWeeks(26)));
+
+        finders.put("BookingRepository.findDetailedById",
+                () -> bookingRepository.findDetailedById(CLOSE_MATCH_BOOKING));
+        finders.put("BookingRepository.findByTimeSlot_Field_IdAndActiveTrue",
+                () -> bookingRepository.findByTimeSlot_Field_IdAndActiveTrue(FIELD));
+        finders.put("BookingRepository.findByUser_IdAndActiveTrue",
+                () -> bookingRepository.findByUser_IdAndActiveTrue(USER));
+        finders.put("BookingRepository.findByTimeSlot_Field_Owner_UsernameAndActiveTrue",
+                () -> bookingRepository.findByTimeSlot_Field_Owner_UsernameAndActiveTrue(USERNAME));
+        finders.put("BookingRepository.findByTimeSlot_Field_IdInAndActiveTrue",
+                () -> bookingRepository.findByTimeSlot_Field_IdInAndActiveTrue(List.of(FIELD, FIELD + 1)));
+        finders.put("BookingRepository.findByUser_Id", () -> bookingRepository.findByUser_Id(USER));
+        finders.put("BookingRepository.findByTimeSlot_Field_Owner_UsernameAndActiveTrueAndIdGreaterThanOrderByIdAsc",
+                () -> bookingRepository.findByTimeSlot_Field_Owner_UsernameAndActiveTrueAndIdGreaterThanOrderByIdAsc(
+                        USERNAME, 0L, Limit.of(20)));
+        finders.put("BookingRepository.countByTimeSlot_Field_Owner_UsernameAndActiveTrue",
+                () -> bookingRepository.countByTimeSlot_Field_Owner_UsernameAndActiveTrue(USERNAME));
+        finders.put("BookingRepository.findByUser_IdAndIdGreaterThanOrderByIdAsc",
+                () -> bookingRepository.findByUser_IdAndIdGreaterThanOrderByIdAsc(USER, 0L, Limit.of(20)));
+        finders.put("BookingRepository.countByUser_Id", () -> bookingRepository.countByUser_Id(USER));
+        finders.put("BookingRepository.countActiveByOwnerIdGroupedByDate",
+                () -> bookingRepository.countActiveByOwnerIdGroupedByDate(USER, today, today.plusDays(14)));
+        finders.put("BookingRepository.findActiveFieldHoursByOwnerIdBetween",
+                () -> bookingRepository.findActiveFieldHoursByOwnerIdBetween(USER, today, today.plusDays(14)));
+        finders.put("BookingRepository.findActiveHoursByFieldIdAndDate",
+                () -> bookingRepository.findActiveHoursByFieldIdAndDate(FIELD, today));
+        finders.put("BookingRepository.findActiveBookedHoursByFieldIdFrom",
+                () -> bookingRepository.findActiveBookedHoursByFieldIdFrom(FIELD, today));
+        finders.put("BookingRepository.findActiveBookingDatesByFieldIdAndHourBetween",
+                () -> bookingRepository.findActiveBookingDatesByFieldIdAndHourBetween(FIELD, 10, today, today.plusWeeks(26)));
+
+        finders.put("OpenMatchRepository.findByBooking", () -> openMatchRepository.findByBooking(openMatchBooking));
+        finders.put("OpenMatchRepository.findDetailedById",
+                () -> openMatchRepository.findDetailedById(OPEN_MATCH_BOOKING));
+        finders.put("OpenMatchRepository.hasPlayer", () -> openMatchRepository.hasPlayer(OPEN_MATCH_BOOKING, USER));
+        finders.put("OpenMatchRepository.findUpcomingWithFreeSpots",
+                () -> openMatchRepository.findUpcomingWithFreeSpots(today));
+        finders.put("OpenMatchRepository.findUpcomingById",
+                () -> openMatchRepository.findUpcomingById(OPEN_MATCH_BOOKING, today));
+        finders.put("OpenMatchRepository.findUpcomingWithFreeSpotsByIdIn",
+                () -> openMatchRepository.findUpcomingWithFreeSpotsByIdIn(List.of(OPEN_MATCH_BOOKING), today));
+        finders.put("OpenMatchRepository.findUpcomingByPlayerIdAfterId",
+                () -> openMatchRepository.findUpcomingByPlayerIdAfterId(USER, today, 0L, Limit.of(20)));
+        finders.put("OpenMatchRepository.countUpcomingByPlayerId",
+                () -> openMatchRepository.countUpcomingByPlayerId(USER, today));
+        finders.put("OpenMatchRepository.findPastByPlayerId",
+                () -> openMatchRepository.findPastByPlayerId(USER, today, page));
+        finders.put("OpenMatchRepository.findPastByFieldOwnerId",
+                () -> openMatchRepository.findPastByFieldOwnerId(USER, today, page));
+
+        finders.put("CloseMatchRepository.findByTeamOne_IdAndTeamTwo_Id",
+                () -> closeMatchRepository.findByTeamOne_IdAndTeamTwo_Id(TEAM, TEAM + 1));
+        finders.put("CloseMatchRepository.findByBooking", () -> closeMatchRepository.findByBooking(closeMatchBooking));
+        finders.put("CloseMatchRepository.findDetailedById",
+                () -> closeMatchRepository.findDetailedById(CLOSE_MATCH_BOOKING));
+        finders.put("CloseMatchRepository.findActiveFromDateAfterId",
+                () -> closeMatchRepository.findActiveFromDateAfterId(today, 0L, Limit.of(20)));
+        finders.put("CloseMatchRepository.countActiveFromDate", () -> closeMatchRepository.countActiveFromDate(today));
+        finders.put("CloseMatchRepository.findUpcomingByMemberIdAfterId",
+                () -> closeMatchRepository.findUpcomingByMemberIdAfterId(USER, today, 0L, Limit.of(20)));
+        finders.put("CloseMatchRepository.countUpcomingByMemberId",
+                () -> closeMatchRepository.countUpcomingByMemberId(USER, today));
+        finders.put("CloseMatchRepository.findPastByMemberId",
+                () -> closeMatchRepository.findPastByMemberId(USER, today, page));
+        finders.put("CloseMatchRepository.findPastByFieldOwnerId",
+                () -> closeMatchRepository.findPastByFieldOwnerId(USER, today, page));
+
+        finders.put("TeamRepository.findByName", () -> teamRepository.findByName("plan team 1"));
+        finders.put("TeamRepository.findWithMembersById", () -> teamRepository.findWithMembersById(TEAM));
+        finders.put("TeamRepository.findByMembers", () -> teamRepository.findByMembers(owner));
+        finders.put("TeamRepository.findByIdGreaterThanOrderByIdAsc",
+                () -> teamRepository.findByIdGreaterThanOrderByIdAsc(TEAM, Limit.of(20)));
+        finders.put("TeamRepository.findAllByMemberIdFetchMembers",
+                () -> teamRepository.findAllByMemberIdFetchMembers(USER));
+        finders.put("TeamRepository.existsByIdAndMemberUsername",
+                () -> teamRepository.existsByIdAndMemberUsername(TEAM, USERNAME));
+
+        // InvitationRepository es package-private
+        finders.put("InvitationRepository.findByToken",
+                () -> ReflectionTestUtils.invokeMethod(invitationRepository, "findByToken", "plan-token"));
+        finders.put("InvitationRepository.existsByTeamAndInviteeEmailAndPending",
+                () -> ReflectionTestUtils.invokeMethod(invitationRepository, "existsByTeamAndInviteeEmailAndPending",
+                        team, "invitee.1@example.com", true));
+        finders.put("InvitationRepository.findByTeamAndPendingIsTrue",
+                () -> ReflectionTestUtils.invokeMethod(invitationRepository, "findByTeamAndPendingIsTrue", team));
+
+        finders.put("TournamentRepository.existsByName", () -> tournamentRepository.existsByName("plan tournament 1"));
+        finders.put("TournamentRepository.findByName", () -> tournamentRepository.findByName("plan tournament 1"));
+        finders.put("TournamentRepository.findByOrganizer", () -> tournamentRepository.findByOrganizer(owner));
+        finders.put("TournamentRepository.findByIdGreaterThanOrderByIdAsc",
+                () -> tournamentRepository.findByIdGreaterThanOrderByIdAsc(TOURNAMENT, Limit.of(20)));
+        finders.put("TeamRegisteredTournamentRepository.findByTournament",
+                () -> teamRegisteredTournamentRepository.findByTournament(tournament));
+        finders.put("TeamRegisteredTournamentRepository.findTournamentIdsByTeamId",
+                () -> teamRegisteredTournamentRepository.findTournamentIdsByTeamId(TEAM));
+        finders.put("TournamentMatchRepository.findAllByTournamentOrderByRoundNumberAscMatchNumberAsc",
+                () -> tournamentMatchRepository.findAllByTournamentOrderByRoundNumberAscMatchNumberAsc(tournament));
+
+        finders.put("OutboundEmailRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc",
+                () -> outboundEmailRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                        OutboundEmailStatus.PENDING, Instant.now(), page));
+        return finders;
+    }
+
+    private Map<String, Long> largeTables() {
+        Map<String, Long> tables = new LinkedHashMap<>();
+        jdbcTemplate.query("""
+                    SELECT c.relname, c.reltuples::bigint AS row_count
+                    FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace
+                    WHERE c.relkind = 'r' AND n.nspname = current_schema() AND c.reltuples >= ?
+                """, rs -> {
+            tables.put(rs.getString("relname"), rs.getLong("row_count"));
+        }, LARGE_TABLE_ROWS);
+        return tables;
+    }
+
+    private static void collectSequentialScans(JsonNode node, Map<String, Long> largeTables, String finder,
+            List<String> violations) {
+        String relation = node.path("Relation Name").asText();
+        if ("Seq Scan".equals(node.path("Node Type").asText()) && largeTables.containsKey(relation)
+                && node.has("Filter")
+                && node.path("Plan Rows").asDouble() < largeTables.get(relation) * SELECTIVE_FRACTION) {
+            violations.add(finder + ": " + relation + " (" + node.path("Filter").asText() + ")");
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSequentialScans(child, largeTables, finder, violations);
+        }
+    }
+
+    private static List<CapturedQuery> capture(Runnable finder) {
+        List<CapturedQuery> queries = new ArrayList<>();
+        CAPTURED.set(queries);
+        try {
+            finder.run();
+        } finally {
+            CAPTURED.remove();
+        }
+        return queries;
+    }
+
+    private record CapturedQuery(String sql, List<Object> parameters) {
+    }
+
+    /** Envuelve el DataSource para registrar el SQL y los parámetros de las consultas del thread que captura. */
+    @TestConfiguration(proxyBeanMethods = false)
+    static class CaptureConfiguration {
+
+        @Bean
+        static BeanPostProcessor capturingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? new CapturingDataSource(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    private static final class CapturingDataSource extends DelegatingDataSource {
+
+        private CapturingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return capturing(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return capturing(super.getConnection(username, password));
+        }
+    }
+
+    private static Connection capturing(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class },
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")
+                            && CAPTURED.get() != null) {
+                        return capturing(statement, (String) args[0]);
+                    }
+                    return result;
+                });
+    }
+
+    private static PreparedStatement capturing(PreparedStatement statement, String sql) {
+        Map<Integer, Object> parameters = new TreeMap<>();
+        return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                new Class<?>[] { PreparedStatement.class }, (proxy, method, args) -> {
+                    if (method.getName().startsWith("set") && args != null && args.length >= 2
+                            && args[0] instanceof Integer index) {
+                        parameters.put(index, method.getName().equals("setNull") ? null : args[1]);
+                    } else if (method.getName().startsWith("execute") && (args == null || args.length == 0)) {
+                        List<CapturedQuery> captured = CAPTURED.get();
+                        if (captured != null) {
+                            captured.add(new CapturedQuery(sql, new ArrayList<>(parameters.values())));
+                        }
+                    } else if (method.getName().equals("clearParameters")) {
+                        parameters.clear();
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package ar.uba.fi.ingsoft1.todo_template;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import ar.uba.fi.ingsoft1.todo_template.field.Field;
+import ar.uba.fi.ingsoft1.todo_template.field.FieldRepository;
+import ar.uba.fi.ingsoft1.todo_template.field.FieldService;
+import ar.uba.fi.ingsoft1.todo_template.field.FieldUpdateDTO;
+import jakarta.persistence.EntityManagerFactory;
+
+public class SecondLevelCacheIntegrationTest extends BaseIntegrationTest {
+
+    private static final String OWNER = "leticia@example.com";
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private FieldRepository fieldRepository;
+    @Autowired
+    private FieldService fieldService;
+
+    private Statistics statistics;
+    private Field field;
+
+    @BeforeEach
+    void seedField() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        field = dataBaseController.seedField("Cancha cacheada", "CABA", userRepository.findByUsername(OWNER).orElseThrow());
+    }
+
+    @AfterEach
+    void removeField() {
+        fieldRepository.deleteById(field.getId());
+    }
+
+    @Test
+    public void fieldIsReadFromTheCacheAndRefreshedOnUpdates() {
+        fieldRepository.findById(field.getId());
+        long hits = statistics.getDomainDataRegionStatistics("fields").getHitCount();
+        fieldRepository.findById(field.getId());
+        assertTrue(statistics.getDomainDataRegionStatistics("fields").getHitCount() > hits);
+
+        fieldService.setFieldActiveStatus(field.getId(), OWNER, false);
+        assertFalse(fieldRepository.findById(field.getId()).orElseThrow().getActive());
+
+        fieldService.updateField(field.getId(), new FieldUpdateDTO("Cancha renombrada", "Natural", false,
+                "Palermo", "Av. Siempre Viva 744", "https://example.com/field.jpg", 1500.0), OWNER);
+        Field updated = fieldRepository.findById(field.getId()).orElseThrow();
+        assertEquals("Cancha renombrada", updated.getName());
+        assertEquals("Palermo", updated.getZone());
+        assertEquals(1500.0, updated.getPrice());
+    }
+
+    @Test
+    public void usernameLookupIsServedFromTheQueryCache() {
+        userRepository.findByUsername(OWNER);
+        long hits = statistics.getQueryCacheHitCount();
+
+        userRepository.findByUsername(OWNER);
+
+        assertTrue(statistics.getQueryCacheHitCount() > hits);
+    }
+}
@@ -0,0 +1,155 @@
+package ar.uba.fi.ingsoft1.todo_template;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ar.uba.fi.ingsoft1.todo_template.field.FieldRepository;
+
+/**
+ * Carga sobre el web tier con 1000 clientes concurrentes sobre /bookings/availability/{fieldId}
+ * (lectura con JDBC) y /users/login (BCrypt); informa throughput, p50 y p99. Cada subclase levanta
+ * la aplicación en un modo (pool de threads de plataforma de Tomcat o virtual threads) para comparar.
+ * Es lenta, así que solo corre a pedido: mvn test -Dtest='*WebTierLoadTest' -Dloadtest=true
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "app.email-outbox.enabled=false"
+})
+public abstract class WebTierLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(WebTierLoadTest.class);
+
+    private static final int CLIENTS = 1000;
+    private static final int REQUESTS_PER_CLIENT = 3;
+    private static final String USERNAME = "PLAYER.1@example.com";
+    private static final String PASSWORD = "abcd";
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private FieldRepository fieldRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+
+    /** Nombre del modo de ejecución para el reporte. */
+    protected abstract String mode();
+
+    @Test
+    public void availabilityAndLoginUnderLoad() throws Exception {
+        String baseUrl = "http://localhost:" + port;
+        Long fieldId = fieldRepository.findByActiveTrue().get(0).getId();
+        String loginBody = objectMapper.writeValueAsString(new Credentials(USERNAME, PASSWORD));
+        String token = objectMapper.readTree(send(login(baseUrl, loginBody)).body()).get("accessToken").asText();
+
+        Result availability = run(() -> HttpRequest.newBuilder(
+                URI.create(baseUrl + "/bookings/availability/" + fieldId + "?days=14"))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build());
+        availability.report(mode(), "GET /bookings/availability/{fieldId}");
+        Result logins = run(() -> login(baseUrl, loginBody));
+        logins.report(mode(), "POST /users/login");
+
+        assertEquals(0, availability.errors());
+        assertEquals(0, logins.errors());
+    }
+
+    private HttpRequest login(String baseUrl, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/users/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws Exception {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private Result run(RequestFactory requests) throws Exception {
+        long[] latencies = new long[CLIENTS * REQUESTS_PER_CLIENT];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> clients = new ArrayList<>(CLIENTS);
+
+        long began;
+        long elapsed;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.add(executor.submit(() -> {
+                    start.await();
+                    for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                        long sent = System.nanoTime();
+                        try {
+                            if (send(requests.create()).statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[next.getAndIncrement()] = System.nanoTime() - sent;
+                    }
+                    return null;
+                }));
+            }
+            began = System.nanoTime();
+            start.countDown();
+            for (Future<?> client : clients) {
+                client.get();
+            }
+            elapsed = System.nanoTime() - began;
+        }
+        Arrays.sort(latencies);
+        return new Result(latencies, elapsed, errors.get());
+    }
+
+    @FunctionalInterface
+    private interface RequestFactory {
+        HttpRequest create() throws Exception;
+    }
+
+    private record Credentials(String username, String password) {
+    }
+
+    private record Result(long[] sortedLatencies, long elapsedNanos, int errors) {
+
+        long percentileMillis(double percentile) {
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(index, 0)] / 1_000_000;
+        }
+
+        void report(String mode, String endpoint) {
+            double seconds = elapsedNanos / 1e9;
+            log.info("[{}] {}: {} requests en {} s ({} req/s), p50 {} ms, p99 {} ms, {} errores",
+                    mode, endpoint, sortedLatencies.length, String.format("%.1f", seconds),
+                    String.format("%.0f", sortedLatencies.length / seconds),
+                    percentileMillis(0.50), percentileMillis(0.99), errors);
+        }
+    }
+}
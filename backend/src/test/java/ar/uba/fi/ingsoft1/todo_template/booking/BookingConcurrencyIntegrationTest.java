@@ -0,0 +1,88 @@
+package ar.uba.fi.ingsoft1.todo_template.booking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+import ar.uba.fi.ingsoft1.todo_template.BaseIntegrationTest;
+import ar.uba.fi.ingsoft1.todo_template.field.Field;
+import ar.uba.fi.ingsoft1.todo_template.field.FieldRepository;
+import ar.uba.fi.ingsoft1.todo_template.timeslot.TimeSlot;
+import ar.uba.fi.ingsoft1.todo_template.timeslot.TimeSlotRepository;
+
+public class BookingConcurrencyIntegrationTest extends BaseIntegrationTest {
+
+    private static final int REQUESTS = 200;
+    private static final int THREADS = 32;
+    private static final int HOUR = 10;
+
+    @Autowired
+    private FieldRepository fieldRepository;
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private Field field;
+    private TimeSlot timeSlot;
+    private LocalDate date;
+
+    @BeforeEach
+    void seedField() {
+        date = LocalDate.now().plusDays(1);
+        var owner = userRepository.findByUsername("leticia@example.com").orElseThrow();
+        field = dataBaseController.seedField("Cancha concurrencia", "CABA", owner);
+        timeSlot = dataBaseController.seedTimeSlot(field, date.getDayOfWeek(), 8, 12);
+    }
+
+    @AfterEach
+    void removeField() {
+        bookingRepository.deleteAll(bookingRepository.findByTimeSlot_Field_IdAndActiveTrue(field.getId()));
+        timeSlotRepository.delete(timeSlot);
+        fieldRepository.delete(field);
+    }
+
+    @Test
+    public void onlyOneOfManyConcurrentBookingsForTheSameSlotSucceeds() throws Exception {
+        String path = "/bookings?timeslotId=" + timeSlot.getId() + "&date=" + date + "&hour=" + HOUR;
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<HttpStatusCode>> results = new ArrayList<>();
+
+        for (int i = 0; i < REQUESTS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return authenticatedPost(path, null, String.class).getStatusCode();
+            }));
+        }
+        start.countDown();
+
+        int created = 0;
+        for (Future<HttpStatusCode> result : results) {
+            HttpStatusCode status = result.get(30, TimeUnit.SECONDS);
+            if (status.equals(HttpStatus.CREATED)) {
+                created++;
+            } else {
+                assertEquals(HttpStatus.CONFLICT, status);
+            }
+        }
+        executor.shutdown();
+
+        assertEquals(1, created);
+        assertEquals(List.of(HOUR), bookingRepository.findActiveHoursByFieldIdAndDate(field.getId(), date));
+    }
+}
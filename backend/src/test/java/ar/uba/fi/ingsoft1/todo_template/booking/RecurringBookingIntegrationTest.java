@@ -0,0 +1,115 @@
+package ar.uba.fi.ingsoft1.todo_template.booking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import ar.uba.fi.ingsoft1.todo_template.BaseIntegrationTest;
+import ar.uba.fi.ingsoft1.todo_template.blockedslot.BlockedSlot;
+import ar.uba.fi.ingsoft1.todo_template.blockedslot.BlockedSlotRepository;
+import ar.uba.fi.ingsoft1.todo_template.field.Field;
+import ar.uba.fi.ingsoft1.todo_template.field.FieldRepository;
+import ar.uba.fi.ingsoft1.todo_template.timeslot.TimeSlot;
+import ar.uba.fi.ingsoft1.todo_template.timeslot.TimeSlotRepository;
+
+public class RecurringBookingIntegrationTest extends BaseIntegrationTest {
+
+    private static final int HOUR = 10;
+    private static final int WEEKS = 6;
+
+    @Autowired
+    private FieldRepository fieldRepository;
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private BlockedSlotRepository blockedSlotRepository;
+
+    private Field field;
+    private TimeSlot timeSlot;
+    private LocalDate start;
+
+    @BeforeEach
+    void seedField() {
+        start = LocalDate.now().plusDays(1);
+        var owner = userRepository.findByUsername("leticia@example.com").orElseThrow();
+        field = dataBaseController.seedField("Cancha recurrente", "CABA", owner);
+        timeSlot = dataBaseController.seedTimeSlot(field, start.getDayOfWeek(), 8, 12);
+    }
+
+    @AfterEach
+    void removeField() {
+        bookingRepository.deleteAll(bookingRepository.findByTimeSlot_Field_IdAndActiveTrue(field.getId()));
+        blockedSlotRepository.deleteAll(blockedSlotRepository.findByFieldId(field.getId()));
+        timeSlotRepository.delete(timeSlot);
+        fieldRepository.delete(field);
+    }
+
+    @Test
+    public void booksFreeWeeksAndReportsTheTakenOnes() {
+        LocalDate booked = start.plusWeeks(1);
+        LocalDate blocked = start.plusWeeks(3);
+        assertEquals(HttpStatus.CREATED, authenticatedPost(
+                "/bookings?timeslotId=" + timeSlot.getId() + "&date=" + booked + "&hour=" + HOUR,
+                null, BookingDTO.class).getStatusCode());
+        blockedSlotRepository.save(BlockedSlot.builder().field(field).date(blocked).hour(HOUR).build());
+
+        ResponseEntity<RecurringBookingDTO> response = authenticatedPost(recurringPath(WEEKS), null, RecurringBookingDTO.class);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        RecurringBookingDTO result = response.getBody();
+        assertEquals(List.of(start, start.plusWeeks(2), start.plusWeeks(4), start.plusWeeks(5)),
+                result.created().stream().map(BookingDTO::bookingDate).toList());
+        assertEquals(List.of(booked, blocked), result.conflicts().stream().map(BookingConflictDTO::date).toList());
+        assertEquals(List.of(HOUR), bookingRepository.findActiveHoursByFieldIdAndDate(field.getId(), start.plusWeeks(5)));
+    }
+
+    @Test
+    public void repeatingTheSeriesConflictsOnEveryDate() {
+        authenticatedPost(recurringPath(WEEKS), null, RecurringBookingDTO.class);
+
+        ResponseEntity<RecurringBookingDTO> response = authenticatedPost(recurringPath(WEEKS), null, RecurringBookingDTO.class);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertTrue(response.getBody().created().isEmpty());
+        assertEquals(WEEKS, response.getBody().conflicts().size());
+    }
+
+    @Test
+    public void theHourThatAlreadyStartedTodayIsAConflict() {
+        LocalDate today = LocalDate.now();
+        int hour = LocalTime.now().getHour();
+        TimeSlot todaySlot = dataBaseController.seedTimeSlot(field, today.getDayOfWeek(), 0, 24);
+        try {
+            ResponseEntity<RecurringBookingDTO> response = authenticatedPost(
+                    "/bookings/recurring?timeslotId=" + todaySlot.getId() + "&startDate=" + today
+                            + "&hour=" + hour + "&weeks=2",
+                    null, RecurringBookingDTO.class);
+
+            assertEquals(HttpStatus.CREATED, response.getStatusCode());
+            assertEquals(List.of(today.plusWeeks(1)),
+                    response.getBody().created().stream().map(BookingDTO::bookingDate).toList());
+            assertEquals(List.of(new BookingConflictDTO(today, "Hour has already started.")),
+                    response.getBody().conflicts());
+        } finally {
+            bookingRepository.deleteAll(bookingRepository.findByTimeSlot_Field_IdAndActiveTrue(field.getId()));
+            timeSlotRepository.delete(todaySlot);
+        }
+    }
+
+    private String recurringPath(int weeks) {
+        return "/bookings/recurring?timeslotId=" + timeSlot.getId() + "&startDate=" + start
+                + "&hour=" + HOUR + "&weeks=" + weeks;
+    }
+}
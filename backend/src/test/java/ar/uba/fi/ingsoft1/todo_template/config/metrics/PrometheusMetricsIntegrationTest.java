@@ -0,0 +1,52 @@
+package ar.uba.fi.ingsoft1.todo_template.config.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import ar.uba.fi.ingsoft1.todo_template.BaseIntegrationTest;
+import ar.uba.fi.ingsoft1.todo_template.user.dto.UserProfileDTO;
+
+// Los tests de Spring Boot apagan el export de métricas salvo que se pida explícitamente
+@AutoConfigureObservability
+public class PrometheusMetricsIntegrationTest extends BaseIntegrationTest {
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Test
+    public void shouldExposeAuthAndQueryMetricsPerEndpoint() {
+        assertEquals(HttpStatus.OK, authenticatedGet("/users/me", UserProfileDTO.class).getStatusCode());
+
+        ResponseEntity<String> response = restTemplate.getForEntity(managementUrl("/actuator/prometheus"), String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        String body = response.getBody();
+        assertTrue(body.contains("auth_jwt_seconds_count{"));
+        assertTrue(body.contains("result=\"authenticated\""));
+        assertTrue(body.contains("hibernate_request_statements_count{"));
+        assertTrue(body.contains("uri=\"/users/me\""));
+        assertTrue(body.contains("hibernate_request_statement_time_seconds_bucket{"));
+        assertTrue(body.contains("hibernate_second_level_cache_requests_total{"));
+        assertTrue(body.contains("region=\"users\""));
+    }
+
+    @Test
+    public void shouldNotServeActuatorOnThePublicPort() {
+        assertNotEquals(HttpStatus.OK,
+                restTemplate.getForEntity(buildUrl("/actuator/prometheus"), String.class).getStatusCode());
+        assertNotEquals(HttpStatus.OK, authenticatedGet("/actuator/prometheus", String.class).getStatusCode());
+        assertEquals(HttpStatus.OK,
+                restTemplate.getForEntity(managementUrl("/actuator/health"), String.class).getStatusCode());
+    }
+
+    private String managementUrl(String path) {
+        return "http://localhost:" + managementPort + path;
+    }
+}
@@ -0,0 +1,62 @@
+package ar.uba.fi.ingsoft1.todo_template.config.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "0000000000000000000000000000000000000000000000000000000000000000";
+
+    private final JwtService jwtService = new JwtService(SECRET, 1800000L, 100);
+
+    @Test
+    void extractVerifiedUserDetails_returnsClaimsOfValidToken() {
+        String token = jwtService.createToken(new JwtUserDetails("user@example.com", "USER"));
+
+        Optional<JwtUserDetails> first = jwtService.extractVerifiedUserDetails(token);
+        Optional<JwtUserDetails> cached = jwtService.extractVerifiedUserDetails(token);
+
+        assertEquals(Optional.of(new JwtUserDetails("user@example.com", "USER")), first);
+        assertEquals(first, cached);
+    }
+
+    @Test
+    void extractVerifiedUserDetails_rejectsTamperedToken() {
+        String token = jwtService.createToken(new JwtUserDetails("user@example.com", "USER"));
+        jwtService.extractVerifiedUserDetails(token);
+
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertTrue(jwtService.extractVerifiedUserDetails(tampered).isEmpty());
+    }
+
+    @Test
+    void extractVerifiedUserDetails_rejectsExpiredToken() {
+        JwtService expiredIssuer = new JwtService(SECRET, -1000L, 100);
+        String token = expiredIssuer.createToken(new JwtUserDetails("user@example.com", "USER"));
+
+        assertTrue(jwtService.extractVerifiedUserDetails(token).isEmpty());
+    }
+
+    @Test
+    void verifiedTokenCache_evictsEntriesAtExpiryAndWhenFull() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2, Duration.ofMinutes(30));
+        Instant now = Instant.now();
+        JwtUserDetails details = new JwtUserDetails("user@example.com", "USER");
+
+        cache.put("a", details, now.plusSeconds(1));
+        assertEquals(Optional.of(details), cache.get("a", now));
+        assertTrue(cache.get("a", now.plusSeconds(1)).isEmpty());
+
+        cache.put("b", details, now.plusSeconds(60));
+        cache.put("c", details, now.plusSeconds(60));
+        cache.put("d", details, now.plusSeconds(60));
+        assertEquals(2, cache.size());
+    }
+}
@@ -0,0 +1,108 @@
+package ar.uba.fi.ingsoft1.todo_template.config.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Carga sobre la verificación de access tokens: 1000 clientes concurrentes validan tokens de 500 usuarios
+ * con el cache de tokens verificados y sin él (tamaño 0, siempre se verifica la firma HMAC); informa
+ * throughput, p50 y p99 de cada modo. Es lenta, así que solo corre a pedido:
+ * mvn test -Dtest=JwtVerificationLoadTest -Dloadtest=true
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class JwtVerificationLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtVerificationLoadTest.class);
+
+    private static final String SECRET = "0000000000000000000000000000000000000000000000000000000000000000";
+    private static final int CLIENTS = 1000;
+    private static final int REQUESTS_PER_CLIENT = 200;
+    private static final int USERS = 500;
+
+    @Test
+    void verificationUnderLoad() throws Exception {
+        JwtService cached = new JwtService(SECRET, 1800000L, 10000);
+        JwtService uncached = new JwtService(SECRET, 1800000L, 0);
+        List<String> tokens = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            tokens.add(cached.createToken(new JwtUserDetails("player." + i + "@example.com", "USER")));
+        }
+
+        // calentamiento del JIT para los dos caminos
+        run(uncached, tokens);
+        run(cached, tokens);
+
+        Result withoutCache = run(uncached, tokens);
+        withoutCache.report("sin cache");
+        Result withCache = run(cached, tokens);
+        withCache.report("con cache");
+
+        assertEquals(0, withoutCache.errors());
+        assertEquals(0, withCache.errors());
+    }
+
+    private Result run(JwtService jwtService, List<String> tokens) throws Exception {
+        long[] latencies = new long[CLIENTS * REQUESTS_PER_CLIENT];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> clients = new ArrayList<>(CLIENTS);
+
+        long elapsed;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.add(executor.submit(() -> {
+                    start.await();
+                    for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                        // cada request trae su propio String, como el header que arma Tomcat
+                        String token = new String(tokens.get(ThreadLocalRandom.current().nextInt(tokens.size())));
+                        long sent = System.nanoTime();
+                        if (jwtService.extractVerifiedUserDetails(token).isEmpty()) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[next.getAndIncrement()] = System.nanoTime() - sent;
+                    }
+                    return null;
+                }));
+            }
+            long began = System.nanoTime();
+            start.countDown();
+            for (Future<?> client : clients) {
+                client.get();
+            }
+            elapsed = System.nanoTime() - began;
+        }
+        Arrays.sort(latencies);
+        return new Result(latencies, elapsed, errors.get());
+    }
+
+    private record Result(long[] sortedLatencies, long elapsedNanos, int errors) {
+
+        long percentileMicros(double percentile) {
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(index, 0)] / 1_000;
+        }
+
+        void report(String mode) {
+            double seconds = elapsedNanos / 1e9;
+            log.info("[{}] verificación de tokens: {} verificaciones en {} s ({} por segundo), p50 {} µs, p99 {} µs, {} errores",
+                    mode, sortedLatencies.length, String.format("%.2f", seconds),
+                    String.format("%.0f", sortedLatencies.length / seconds),
+                    percentileMicros(0.50), percentileMicros(0.99), errors);
+        }
+    }
+}
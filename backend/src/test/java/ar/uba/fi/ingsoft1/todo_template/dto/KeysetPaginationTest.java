@@ -0,0 +1,40 @@
+package ar.uba.fi.ingsoft1.todo_template.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+class KeysetPaginationTest {
+
+    private final KeysetPagination pagination = new KeysetPagination(2, 5);
+
+    @Test
+    void nextCursorResumesAfterLastIdOfThePage() {
+        KeysetPage first = pagination.request(null, null, true);
+        PaginatedResponse<Long> response = KeysetPagination.response(List.of(1L, 2L, 3L), first,
+                Function.identity(), () -> 3L);
+
+        assertEquals(List.of(1L, 2L), response.results());
+        assertEquals(3L, response.pagination().totalResults());
+        assertEquals(2, response.pagination().totalPages());
+
+        KeysetPage second = pagination.request(response.pagination().nextCursor(), null, false);
+        assertEquals(2L, second.afterId());
+
+        PaginatedResponse<Long> last = KeysetPagination.response(List.of(3L), second, Function.identity(), () -> 3L);
+        assertNull(last.pagination().nextCursor());
+        assertNull(last.pagination().totalResults());
+    }
+
+    @Test
+    void rejectsLimitAboveMaximumAndMalformedCursors() {
+        assertThrows(ResponseStatusException.class, () -> pagination.request(null, 6, false));
+        assertThrows(ResponseStatusException.class, () -> pagination.request("not-a-cursor", null, false));
+    }
+}
@@ -0,0 +1,175 @@
+package ar.uba.fi.ingsoft1.todo_template.email;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxWorkerTest {
+
+    private static final int MAX_ATTEMPTS = 2;
+    private static final long LEASE_SECONDS = 300;
+
+    @Mock
+    private OutboundEmailRepository outboundEmailRepository;
+
+    private FakeMailSender mailSender;
+    private EmailOutboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = new FakeMailSender();
+        worker = worker(TransactionOperations.withoutTransaction());
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    void drain_sendsDueEmailsInBatchesAndMarksThemSent() {
+        List<OutboundEmail> due = List.of(email("a@example.com"), email("b@example.com"), email("c@example.com"));
+        givenDue(due);
+
+        worker.drain();
+
+        assertEquals(Set.of("a@example.com", "b@example.com", "c@example.com"), Set.copyOf(mailSender.delivered));
+        assertTrue(mailSender.connections <= 2);
+        due.forEach(email -> {
+            assertEquals(OutboundEmailStatus.SENT, email.getStatus());
+            assertNotNull(email.getSentAt());
+        });
+        verify(outboundEmailRepository).saveAll(due);
+    }
+
+    @Test
+    void drain_retriesFailedEmailWithBackoffAndThenDeadLetters() {
+        OutboundEmail ok = email("ok@example.com");
+        OutboundEmail broken = email("broken@example.com");
+        mailSender.failingRecipients.add("broken@example.com");
+        givenDue(List.of(ok, broken));
+
+        Instant before = Instant.now();
+        worker.drain();
+
+        assertEquals(OutboundEmailStatus.SENT, ok.getStatus());
+        assertEquals(OutboundEmailStatus.PENDING, broken.getStatus());
+        assertEquals(1, broken.getAttempts());
+        assertTrue(broken.getNextAttemptAt().isAfter(before.plusSeconds(29)));
+
+        givenDue(List.of(broken));
+        worker.drain();
+
+        assertEquals(OutboundEmailStatus.DEAD, broken.getStatus());
+        assertEquals(MAX_ATTEMPTS, broken.getAttempts());
+    }
+
+    @Test
+    void drain_claimsTheBatchInATransactionAndLeasesItBeforeSending() {
+        OutboundEmail email = email("a@example.com");
+        AtomicBoolean inTransaction = new AtomicBoolean();
+        List<Instant> leasedUntil = new ArrayList<>();
+        worker.shutdown();
+        worker = worker(new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                inTransaction.set(true);
+                try {
+                    return action.doInTransaction(null);
+                } finally {
+                    inTransaction.set(false);
+                    leasedUntil.add(email.getNextAttemptAt());
+                }
+            }
+        });
+        when(outboundEmailRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                eq(OutboundEmailStatus.PENDING), any(Instant.class), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    assertTrue(inTransaction.get());
+                    return List.of(email);
+                });
+
+        Instant before = Instant.now();
+        worker.drain();
+
+        assertTrue(leasedUntil.getFirst().isAfter(before.plusSeconds(LEASE_SECONDS - 1)));
+        assertEquals(OutboundEmailStatus.SENT, email.getStatus());
+    }
+
+    private EmailOutboxWorker worker(TransactionOperations transactions) {
+        return new EmailOutboxWorker(outboundEmailRepository, transactions, mailSender, "from@example.com", 10, 2,
+                MAX_ATTEMPTS, 30, LEASE_SECONDS, new SimpleMeterRegistry());
+    }
+
+    private void givenDue(List<OutboundEmail> due) {
+        when(outboundEmailRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                eq(OutboundEmailStatus.PENDING), any(Instant.class), any(Pageable.class)))
+                .thenReturn(due);
+    }
+
+    private static OutboundEmail email(String to) {
+        return new OutboundEmail(to, "Asunto", "<p>Hola</p>");
+    }
+
+    /** JavaMailSender local que registra los envíos en lugar de hablar con un servidor SMTP. */
+    private static class FakeMailSender extends JavaMailSenderImpl {
+
+        private final List<String> delivered = new ArrayList<>();
+        private final List<String> failingRecipients = new ArrayList<>();
+        private int connections;
+
+        @Override
+        protected synchronized void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+            connections++;
+            Map<Object, Exception> failed = new LinkedHashMap<>();
+            for (MimeMessage message : mimeMessages) {
+                String to = recipientOf(message);
+                if (failingRecipients.contains(to)) {
+                    failed.put(message, new MessagingException("Mailbox unavailable: " + to));
+                } else {
+                    delivered.add(to);
+                }
+            }
+            if (!failed.isEmpty()) {
+                throw new MailSendException(failed);
+            }
+        }
+
+        private static String recipientOf(MimeMessage message) {
+            try {
+                return message.getAllRecipients()[0].toString();
+            } catch (MessagingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
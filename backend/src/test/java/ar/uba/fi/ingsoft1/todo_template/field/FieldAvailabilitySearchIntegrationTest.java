@@ -0,0 +1,101 @@
+package ar.uba.fi.ingsoft1.todo_template.field;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import ar.uba.fi.ingsoft1.todo_template.BaseIntegrationTest;
+import ar.uba.fi.ingsoft1.todo_template.blockedslot.BlockedSlot;
+import ar.uba.fi.ingsoft1.todo_template.blockedslot.BlockedSlotRepository;
+import ar.uba.fi.ingsoft1.todo_template.booking.Booking;
+import ar.uba.fi.ingsoft1.todo_template.booking.BookingRepository;
+import ar.uba.fi.ingsoft1.todo_template.timeslot.TimeSlot;
+import ar.uba.fi.ingsoft1.todo_template.timeslot.TimeSlotRepository;
+import ar.uba.fi.ingsoft1.todo_template.user.User;
+
+public class FieldAvailabilitySearchIntegrationTest extends BaseIntegrationTest {
+
+    private static final String ZONE = "Zona búsqueda";
+    private static final int HOUR = 20;
+
+    @Autowired
+    private FieldRepository fieldRepository;
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private BlockedSlotRepository blockedSlotRepository;
+
+    private final List<Field> fields = new ArrayList<>();
+    private final List<TimeSlot> timeSlots = new ArrayList<>();
+    private LocalDate date;
+    private User owner;
+
+    @BeforeEach
+    void seedFields() {
+        date = LocalDate.now().plusDays(1);
+        owner = userRepository.findByUsername("leticia@example.com").orElseThrow();
+
+        createField("Libre con luz", 500.0, true, true);
+        createField("Libre sin luz", 800.0, false, true);
+        createField("Cerrada a la noche", 100.0, true, false);
+        TimeSlot booked = createField("Reservada", 200.0, true, true);
+        bookingRepository.save(new Booking(owner, booked, date, HOUR));
+        TimeSlot blocked = createField("Bloqueada", 300.0, true, true);
+        blockedSlotRepository.save(BlockedSlot.builder().field(blocked.getField()).date(date).hour(HOUR).build());
+        Field inactive = createField("Inactiva", 50.0, true, true).getField();
+        inactive.setActive(false);
+        fieldRepository.save(inactive);
+    }
+
+    @AfterEach
+    void removeFields() {
+        for (Field field : fields) {
+            bookingRepository.deleteAll(bookingRepository.findByTimeSlot_Field_IdAndActiveTrue(field.getId()));
+            blockedSlotRepository.deleteAll(blockedSlotRepository.findByFieldId(field.getId()));
+        }
+        timeSlotRepository.deleteAll(timeSlots);
+        fieldRepository.deleteAll(fields);
+    }
+
+    @Test
+    public void returnsOnlyFreeFieldsCheapestFirst() {
+        assertEquals(List.of("Libre con luz", "Libre sin luz"), search(""));
+    }
+
+    @Test
+    public void appliesTheOptionalFilters() {
+        assertEquals(List.of("Libre con luz"), search("&lighting=true"));
+        assertEquals(List.of("Libre con luz"), search("&maxPrice=600"));
+        assertEquals(List.of(), search("&grassType=Natural"));
+    }
+
+    private List<String> search(String filters) {
+        ResponseEntity<JsonNode> response = authenticatedGet(
+                "/fields/available?zone=" + ZONE + "&date=" + date + "&hour=" + HOUR + filters, JsonNode.class);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        List<String> names = new ArrayList<>();
+        response.getBody().forEach(field -> names.add(field.get("name").asText()));
+        return names;
+    }
+
+    private TimeSlot createField(String name, double price, boolean lighting, boolean openAtNight) {
+        Field field = dataBaseController.seedField(name, ZONE, price, lighting, owner);
+        fields.add(field);
+        TimeSlot timeSlot = dataBaseController.seedTimeSlot(field, date.getDayOfWeek(), 8, openAtNight ? 23 : 18);
+        timeSlots.add(timeSlot);
+        return timeSlot;
+    }
+}
@@ -0,0 +1,153 @@
+package ar.uba.fi.ingsoft1.todo_template.match;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import ar.uba.fi.ingsoft1.todo_template.DatabaseHelper;
+import ar.uba.fi.ingsoft1.todo_template.blockedslot.BlockedSlotRepository;
+import ar.uba.fi.ingsoft1.todo_template.blockedslot.BlockedSlotService;
+import ar.uba.fi.ingsoft1.todo_template.booking.Booking;
+import ar.uba.fi.ingsoft1.todo_template.booking.BookingRepository;
+import ar.uba.fi.ingsoft1.todo_template.field.Field;
+import ar.uba.fi.ingsoft1.todo_template.field.FieldRepository;
+import ar.uba.fi.ingsoft1.todo_template.timeslot.AvailabilityIndex;
+import ar.uba.fi.ingsoft1.todo_template.timeslot.TimeSlot;
+import ar.uba.fi.ingsoft1.todo_template.timeslot.TimeSlotRepository;
+import ar.uba.fi.ingsoft1.todo_template.user.User;
+import ar.uba.fi.ingsoft1.todo_template.user.UserRepository;
+
+/**
+ * Los índices en memoria se enteran de las escrituras por eventos que escuchan después del commit:
+ * una transacción que hace rollback no tiene que dejar rastro en ellos.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:indexrollback",
+        "app.email-outbox.enabled=false"
+})
+public class IndexEventsRollbackIntegrationTest {
+
+    private static final int HOUR = 10;
+
+    @Autowired
+    private MatchService matchService;
+    @Autowired
+    private OpenMatchIndex openMatchIndex;
+    @Autowired
+    private BlockedSlotService blockedSlotService;
+    @Autowired
+    private AvailabilityIndex availabilityIndex;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private DatabaseHelper databaseHelper;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private FieldRepository fieldRepository;
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private BlockedSlotRepository blockedSlotRepository;
+    @Autowired
+    private OpenMatchRepository openMatchRepository;
+    @Autowired
+    private OpenMatchTeamRepository openMatchTeamRepository;
+
+    private final LocalDate date = LocalDate.now().plusDays(1);
+    private User owner;
+    private User joiner;
+    private Field field;
+    private TimeSlot timeSlot;
+    private Booking booking;
+    private OpenMatch match;
+
+    @BeforeEach
+    void seedMatch() {
+        owner = saveUser("rollback.owner@example.com");
+        joiner = saveUser("rollback.joiner@example.com");
+        field = databaseHelper.seedField("Cancha rollback", "CABA", owner);
+        timeSlot = databaseHelper.seedTimeSlot(field, date.getDayOfWeek(), 8, 23);
+        booking = bookingRepository.save(new Booking(owner, timeSlot, date, 20));
+
+        // Con un solo lugar libre, el join lo llena y el partido sale del índice
+        OpenMatch openMatch = new OpenMatch();
+        openMatch.setBooking(booking);
+        openMatch.setPlayers(new LinkedHashSet<>(List.of(owner)));
+        openMatch.setMinPlayers(2);
+        openMatch.setMaxPlayers(2);
+        openMatch.setTeamOne(openMatchTeamRepository.save(new OpenMatchTeam()));
+        openMatch.setTeamTwo(openMatchTeamRepository.save(new OpenMatchTeam()));
+        match = openMatchRepository.save(openMatch);
+        openMatchIndex.invalidate();
+    }
+
+    @AfterEach
+    void removeMatch() {
+        blockedSlotRepository.deleteAll(blockedSlotRepository.findByFieldIdAndDate(field.getId(), date));
+        openMatchRepository.deleteById(match.getId());
+        openMatchTeamRepository.deleteById(match.getTeamOne().getId());
+        openMatchTeamRepository.deleteById(match.getTeamTwo().getId());
+        bookingRepository.deleteById(booking.getId());
+        timeSlotRepository.deleteById(timeSlot.getId());
+        fieldRepository.deleteById(field.getId());
+        userRepository.deleteById(joiner.getId());
+        userRepository.deleteById(owner.getId());
+        openMatchIndex.invalidate();
+        availabilityIndex.evict(field.getId());
+    }
+
+    @Test
+    public void rolledBackJoinDoesNotReachTheOpenMatchIndex() {
+        assertTrue(isIndexed(match));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            matchService.joinOpenMatch(match.getId(), joiner.getUsername());
+            status.setRollbackOnly();
+        });
+
+        assertTrue(isIndexed(match));
+
+        matchService.joinOpenMatch(match.getId(), joiner.getUsername());
+
+        assertFalse(isIndexed(match));
+    }
+
+    @Test
+    public void rolledBackBlockDoesNotReachTheAvailabilityIndex() {
+        assertTrue(availabilityIndex.isAvailable(field.getId(), date, HOUR));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            blockedSlotService.setBlockedSlot(field.getId(), date, HOUR, owner.getUsername());
+            status.setRollbackOnly();
+        });
+
+        assertTrue(availabilityIndex.isAvailable(field.getId(), date, HOUR));
+
+        blockedSlotService.setBlockedSlot(field.getId(), date, HOUR, owner.getUsername());
+
+        assertFalse(availabilityIndex.isAvailable(field.getId(), date, HOUR));
+    }
+
+    private boolean isIndexed(OpenMatch openMatch) {
+        return openMatchIndex.find(null, date, date, null, 100).stream()
+                .anyMatch(position -> position.matchId() == openMatch.getId());
+    }
+
+    private User saveUser(String username) {
+        return userRepository.save(new User(username, "secret", "USER", "male", "25", "CABA",
+                "Nombre", "Apellido", "https://example.com/profile.jpg"));
+    }
+}
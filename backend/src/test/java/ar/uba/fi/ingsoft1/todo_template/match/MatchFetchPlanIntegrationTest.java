@@ -0,0 +1,219 @@
+package ar.uba.fi.ingsoft1.todo_template.match;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ar.uba.fi.ingsoft1.todo_template.DatabaseHelper;
+import ar.uba.fi.ingsoft1.todo_template.booking.Booking;
+import ar.uba.fi.ingsoft1.todo_template.booking.BookingRepository;
+import ar.uba.fi.ingsoft1.todo_template.dto.KeysetPage;
+import ar.uba.fi.ingsoft1.todo_template.dto.SortKeyPage;
+import ar.uba.fi.ingsoft1.todo_template.field.Field;
+import ar.uba.fi.ingsoft1.todo_template.field.FieldRepository;
+import ar.uba.fi.ingsoft1.todo_template.team.Team;
+import ar.uba.fi.ingsoft1.todo_template.team.TeamRepository;
+import ar.uba.fi.ingsoft1.todo_template.timeslot.TimeSlot;
+import ar.uba.fi.ingsoft1.todo_template.timeslot.TimeSlotRepository;
+import ar.uba.fi.ingsoft1.todo_template.user.User;
+import ar.uba.fi.ingsoft1.todo_template.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Cuenta las consultas SQL que ejecuta cada endpoint de partidos, incluyendo la serialización
+ * de la respuesta fuera de la transacción. Si una asociación vuelve a ser EAGER o un fetch plan
+ * deja de cubrir lo que se serializa, el conteo crece (o la serialización falla) y el test se rompe.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.email-outbox.enabled=false"
+})
+public class MatchFetchPlanIntegrationTest {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private MatchService matchService;
+    @Autowired
+    private OpenMatchIndex openMatchIndex;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DatabaseHelper databaseHelper;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private FieldRepository fieldRepository;
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private OpenMatchRepository openMatchRepository;
+    @Autowired
+    private OpenMatchTeamRepository openMatchTeamRepository;
+    @Autowired
+    private CloseMatchRepository closeMatchRepository;
+
+    private Statistics statistics;
+
+    private final List<User> users = new ArrayList<>();
+    private final List<Booking> bookings = new ArrayList<>();
+    private final List<OpenMatch> openMatches = new ArrayList<>();
+    private final List<CloseMatch> closeMatches = new ArrayList<>();
+    private Field field;
+    private TimeSlot timeSlot;
+    private Team teamA;
+    private Team teamB;
+    private User owner;
+    private User player;
+
+    @BeforeEach
+    void seedMatches() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        owner = saveUser("fetchplan.owner@example.com");
+        player = saveUser("fetchplan.player1@example.com");
+        List<User> players = List.of(player,
+                saveUser("fetchplan.player2@example.com"),
+                saveUser("fetchplan.player3@example.com"),
+                saveUser("fetchplan.player4@example.com"));
+
+        field = databaseHelper.seedField("Cancha fetch plan", "CABA", owner);
+        timeSlot = databaseHelper.seedTimeSlot(field, DayOfWeek.MONDAY, 8, 23);
+
+        teamA = Team.builder().name("Fetch plan A").captain(player.getUsername()).build();
+        players.subList(0, 2).forEach(teamA::addMember);
+        teamA = teamRepository.save(teamA);
+        teamB = Team.builder().name("Fetch plan B").captain(players.get(2).getUsername()).build();
+        players.subList(2, 4).forEach(teamB::addMember);
+        teamB = teamRepository.save(teamB);
+
+        for (LocalDate date : List.of(LocalDate.now().plusDays(1), LocalDate.now().minusDays(1))) {
+            for (int hour = 10; hour < 12; hour++) {
+                openMatches.add(saveOpenMatch(saveBooking(date, hour), players));
+            }
+            for (int hour = 12; hour < 14; hour++) {
+                closeMatches.add(saveCloseMatch(saveBooking(date, hour)));
+            }
+        }
+        // los partidos se guardan directo en los repositorios; el índice se vuelve a cargar fuera de la medición
+        openMatchIndex.invalidate();
+        openMatchIndex.count(null, LocalDate.now(), null);
+    }
+
+    @AfterEach
+    void removeMatches() {
+        closeMatches.forEach(match -> closeMatchRepository.deleteById(match.getId()));
+        openMatches.forEach(match -> {
+            openMatchRepository.deleteById(match.getId());
+            openMatchTeamRepository.deleteById(match.getTeamOne().getId());
+            openMatchTeamRepository.deleteById(match.getTeamTwo().getId());
+        });
+        bookings.forEach(booking -> bookingRepository.deleteById(booking.getId()));
+        teamRepository.deleteById(teamA.getId());
+        teamRepository.deleteById(teamB.getId());
+        timeSlotRepository.deleteById(timeSlot.getId());
+        fieldRepository.deleteById(field.getId());
+        users.forEach(user -> userRepository.deleteById(user.getId()));
+    }
+
+    @Test
+    public void openMatchDetailLoadsInTwoQueries() throws Exception {
+        assertAtMost(2, () -> matchService.getOpenMatch(openMatches.get(0).getId()));
+    }
+
+    @Test
+    public void closeMatchDetailLoadsInOneQuery() throws Exception {
+        assertAtMost(1, () -> matchService.getCloseMatch(closeMatches.get(0).getId()));
+    }
+
+    @Test
+    public void closeMatchesBetweenTeamsLoadInOneQuery() throws Exception {
+        assertAtMost(1, () -> matchService.getCloseMatchesByTeams(teamA.getId(), teamB.getId()));
+    }
+
+    @Test
+    public void activeOpenMatchesPageDoesNotGrowWithRows() throws Exception {
+        // página + jugadores en lote + planteles de OpenMatchTeam en lote
+        assertAtMost(3, () -> matchService.listActiveOpenMatches(null, null, null, new SortKeyPage(null, PAGE_SIZE, false)));
+    }
+
+    @Test
+    public void activeCloseMatchesPageDoesNotGrowWithRows() throws Exception {
+        // página + miembros de los equipos en lote
+        assertAtMost(2, () -> matchService.listActiveCloseMatches(new KeysetPage(0L, PAGE_SIZE, false)));
+    }
+
+    @Test
+    public void pastMatchesOfPlayerDoNotGrowWithRows() throws Exception {
+        // usuario + página + total + colecciones en lote
+        assertAtMost(5, () -> matchService.getPastOpenMatchesForUser(player.getUsername(), 1, PAGE_SIZE));
+        assertAtMost(4, () -> matchService.getPastCloseMatchesForUser(player.getUsername(), 1, PAGE_SIZE));
+    }
+
+    @Test
+    public void pastMatchesOfOwnerDoNotGrowWithRows() throws Exception {
+        assertAtMost(5, () -> matchService.getPastOpenMatchesForOwner(owner.getUsername(), 1, PAGE_SIZE));
+        assertAtMost(4, () -> matchService.getPastCloseMatchesForOwner(owner.getUsername(), 1, PAGE_SIZE));
+    }
+
+    private void assertAtMost(long expected, Supplier<?> endpoint) throws Exception {
+        statistics.clear();
+        objectMapper.writeValueAsString(endpoint.get());
+        long queries = statistics.getPrepareStatementCount();
+        assertTrue(queries <= expected, "Expected at most " + expected + " queries but ran " + queries);
+    }
+
+    private User saveUser(String username) {
+        User user = userRepository.save(new User(username, "secret", "USER", "female", "25", "CABA",
+                "Nombre", "Apellido", "https://example.com/profile.jpg"));
+        users.add(user);
+        return user;
+    }
+
+    private Booking saveBooking(LocalDate date, int hour) {
+        Booking booking = bookingRepository.save(new Booking(player, timeSlot, date, hour));
+        bookings.add(booking);
+        return booking;
+    }
+
+    private OpenMatch saveOpenMatch(Booking booking, List<User> players) {
+        OpenMatch match = new OpenMatch();
+        match.setBooking(booking);
+        match.setPlayers(new LinkedHashSet<>(players));
+        match.setMinPlayers(10);
+        match.setMaxPlayers(12);
+        match.setTeamOne(openMatchTeamRepository.save(new OpenMatchTeam()));
+        match.setTeamTwo(openMatchTeamRepository.save(new OpenMatchTeam()));
+        return openMatchRepository.save(match);
+    }
+
+    private CloseMatch saveCloseMatch(Booking booking) {
+        CloseMatch match = new CloseMatch();
+        match.setBooking(booking);
+        match.setTeamOne(teamA);
+        match.setTeamTwo(teamB);
+        return closeMatchRepository.save(match);
+    }
+}
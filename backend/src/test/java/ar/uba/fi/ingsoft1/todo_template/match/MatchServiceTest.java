@@ -2,6 +2,9 @@ package ar.uba.fi.ingsoft1.todo_template.match;
 
 import ar.uba.fi.ingsoft1.todo_template.booking.Booking;
 import ar.uba.fi.ingsoft1.todo_template.booking.BookingRepository;
+import ar.uba.fi.ingsoft1.todo_template.dto.KeysetPage;
+import ar.uba.fi.ingsoft1.todo_template.dto.PaginatedResponse;
+import ar.uba.fi.ingsoft1.todo_template.dto.SortKeyPage;
 import ar.uba.fi.ingsoft1.todo_template.email.EmailService;
 import ar.uba.fi.ingsoft1.todo_template.field.Field;
 import ar.uba.fi.ingsoft1.todo_template.team.Team;
@@ -14,6 +17,12 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -46,6 +55,12 @@ public class MatchServiceTest {
     @Mock
     private OpenMatchTeamRepository openMatchTeamRepo;
 
+    @Mock
+    private OpenMatchIndex openMatchIndex;
+
+    @Mock
+    private ApplicationEventPublisher events;
+
     @InjectMocks
     private MatchService matchService;
 
@@ -118,7 +133,7 @@ public class MatchServiceTest {
         dto.setMaxPlayers(12);
 
         when(userService.findByUsernameOrThrow(user.getUsername())).thenReturn(user);
-        when(bookingRepo.findById(1L)).thenReturn(Optional.of(booking));
+        when(bookingRepo.findDetailedById(1L)).thenReturn(Optional.of(booking));
         when(openMatchTeamRepo.save(any())).thenAnswer(inv -> inv.getArgument(0));
         when(openMatchRepo.save(any())).thenAnswer(inv -> {
             OpenMatch match = inv.getArgument(0);
@@ -130,12 +145,13 @@ public class MatchServiceTest {
 
         assertNotNull(match.getId());
         assertEquals(1, match.getPlayers().size());
-        assertEquals(user, match.getPlayers().get(0));
+        assertEquals(user, match.getPlayers().iterator().next());
         assertEquals(10, match.getMinPlayers());
         assertEquals(12, match.getMaxPlayers());
         assertEquals(booking, match.getBooking());
         assertNotNull(match.getTeamOne());
         assertNotNull(match.getTeamTwo());
+        verify(events).publishEvent(new OpenMatchChanged(1L));
     }
 
     @Test
@@ -146,7 +162,7 @@ public class MatchServiceTest {
         dto.setMaxPlayers(12);
 
         when(userService.findByUsernameOrThrow(user.getUsername())).thenReturn(user);
-        when(bookingRepo.findById(1L)).thenReturn(Optional.of(booking));
+        when(bookingRepo.findDetailedById(1L)).thenReturn(Optional.of(booking));
 
         ResponseStatusException exception = assertThrows(ResponseStatusException.class,
                 () -> matchService.createOpenMatch(dto, user.getUsername()));
@@ -163,7 +179,7 @@ public class MatchServiceTest {
         dto.setMaxPlayers(10);
 
         when(userService.findByUsernameOrThrow(user.getUsername())).thenReturn(user);
-        when(bookingRepo.findById(1L)).thenReturn(Optional.of(booking));
+        when(bookingRepo.findDetailedById(1L)).thenReturn(Optional.of(booking));
 
         ResponseStatusException exception = assertThrows(ResponseStatusException.class,
                 () -> matchService.createOpenMatch(dto, user.getUsername()));
@@ -179,9 +195,9 @@ public class MatchServiceTest {
         dto.setTeamOneId(1L);
         dto.setTeamTwoId(2L);
 
-        when(bookingRepo.findById(1L)).thenReturn(Optional.of(booking));
-        when(teamRepo.findById(1L)).thenReturn(Optional.of(teamA));
-        when(teamRepo.findById(2L)).thenReturn(Optional.of(teamB));
+        when(bookingRepo.findDetailedById(1L)).thenReturn(Optional.of(booking));
+        when(teamRepo.findWithMembersById(1L)).thenReturn(Optional.of(teamA));
+        when(teamRepo.findWithMembersById(2L)).thenReturn(Optional.of(teamB));
         when(closeMatchRepo.save(any())).thenAnswer(inv -> {
             CloseMatch match = inv.getArgument(0);
             match.setId(1L);
@@ -203,8 +219,8 @@ public class MatchServiceTest {
         dto.setTeamOneId(1L);
         // teamTwoId es null
 
-        when(bookingRepo.findById(1L)).thenReturn(Optional.of(booking));
-        when(teamRepo.findById(1L)).thenReturn(Optional.of(teamA));
+        when(bookingRepo.findDetailedById(1L)).thenReturn(Optional.of(booking));
+        when(teamRepo.findWithMembersById(1L)).thenReturn(Optional.of(teamA));
         when(closeMatchRepo.save(any())).thenAnswer(inv -> {
             CloseMatch match = inv.getArgument(0);
             match.setId(1L);
@@ -220,57 +236,65 @@ public class MatchServiceTest {
 
     @Test
     void unirseAPartidoAbierto_correctamente() {
-        OpenMatch match = new OpenMatch();
-        match.setId(1L);
-        match.setBooking(booking);
-        match.setPlayers(new ArrayList<>(List.of(user)));
-        match.setMinPlayers(10);
-        match.setMaxPlayers(12);
+        OpenMatch joined = new OpenMatch();
+        joined.setId(1L);
+        joined.setPlayers(new LinkedHashSet<>(List.of(user, user2)));
 
-        when(openMatchRepo.findById(1L)).thenReturn(Optional.of(match));
+        when(openMatchRepo.existsById(1L)).thenReturn(true);
         when(userService.findByUsernameOrThrow(user2.getUsername())).thenReturn(user2);
-        when(openMatchRepo.save(any())).thenReturn(match);
+        when(openMatchRepo.hasPlayer(1L, 2L)).thenReturn(false);
+        when(openMatchRepo.reserveSpot(1L)).thenReturn(1);
+        when(openMatchRepo.findDetailedById(1L)).thenReturn(Optional.of(joined));
 
         OpenMatch result = matchService.joinOpenMatch(1L, user2.getUsername());
 
+        verify(openMatchRepo).addPlayer(1L, 2L);
+        verify(events).publishEvent(new OpenMatchChanged(1L));
+        verifyNoInteractions(openMatchIndex);
         assertEquals(2, result.getPlayers().size());
         assertTrue(result.getPlayers().contains(user2));
     }
 
     @Test
     void unirseAPartidoAbierto_usuarioYaEnPartido_lanzaExcepcion() {
-        OpenMatch match = new OpenMatch();
-        match.setId(1L);
-        match.setBooking(booking);
-        match.setPlayers(new ArrayList<>(List.of(user)));
-        match.setMinPlayers(10);
-        match.setMaxPlayers(12);
-
-        when(openMatchRepo.findById(1L)).thenReturn(Optional.of(match));
+        when(openMatchRepo.existsById(1L)).thenReturn(true);
         when(userService.findByUsernameOrThrow(user.getUsername())).thenReturn(user);
+        when(openMatchRepo.hasPlayer(1L, 1L)).thenReturn(true);
 
         IllegalStateException exception = assertThrows(IllegalStateException.class,
                 () -> matchService.joinOpenMatch(1L, user.getUsername()));
 
         assertEquals("User is already in the match.", exception.getMessage());
+        verify(openMatchRepo, never()).reserveSpot(any());
     }
 
     @Test
     void unirseAPartidoAbierto_partidoLleno_lanzaExcepcion() {
-        OpenMatch match = new OpenMatch();
-        match.setId(1L);
-        match.setBooking(booking);
-        match.setPlayers(new ArrayList<>(List.of(user)));
-        match.setMinPlayers(10);
-        match.setMaxPlayers(1); // Solo 1 jugador máximo
-
-        when(openMatchRepo.findById(1L)).thenReturn(Optional.of(match));
+        when(openMatchRepo.existsById(1L)).thenReturn(true);
         when(userService.findByUsernameOrThrow(user2.getUsername())).thenReturn(user2);
+        when(openMatchRepo.hasPlayer(1L, 2L)).thenReturn(false);
+        when(openMatchRepo.reserveSpot(1L)).thenReturn(0);
 
         IllegalStateException exception = assertThrows(IllegalStateException.class,
                 () -> matchService.joinOpenMatch(1L, user2.getUsername()));
 
         assertEquals("Match is already full.", exception.getMessage());
+        verify(openMatchRepo, never()).addPlayer(any(), any());
+        verify(events, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void unirseAPartidoAbierto_altaSimultaneaDelMismoUsuario_lanzaExcepcion() {
+        when(openMatchRepo.existsById(1L)).thenReturn(true);
+        when(userService.findByUsernameOrThrow(user2.getUsername())).thenReturn(user2);
+        when(openMatchRepo.hasPlayer(1L, 2L)).thenReturn(false);
+        when(openMatchRepo.reserveSpot(1L)).thenReturn(1);
+        doThrow(new DataIntegrityViolationException("duplicate key open_match_players")).when(openMatchRepo).addPlayer(1L, 2L);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> matchService.joinOpenMatch(1L, user2.getUsername()));
+
+        assertEquals("User is already in the match.", exception.getMessage());
     }
 
     @Test
@@ -278,16 +302,19 @@ public class MatchServiceTest {
         OpenMatch match = new OpenMatch();
         match.setId(1L);
         match.setBooking(booking);
-        match.setPlayers(new ArrayList<>(List.of(user, user2)));
-        match.setMinPlayers(10);
-        match.setMaxPlayers(12);
+        match.setPlayers(new LinkedHashSet<>(List.of(user, user2)));
+        OpenMatch left = new OpenMatch();
+        left.setId(1L);
+        left.setPlayers(new LinkedHashSet<>(List.of(user)));
 
-        when(openMatchRepo.findById(1L)).thenReturn(Optional.of(match));
+        when(openMatchRepo.findDetailedById(1L)).thenReturn(Optional.of(match), Optional.of(left));
         when(userService.findByUsernameOrThrow(user2.getUsername())).thenReturn(user2);
-        when(openMatchRepo.save(any())).thenReturn(match);
+        when(openMatchRepo.removePlayer(1L, 2L)).thenReturn(1);
+        when(openMatchRepo.releaseSpot(1L)).thenReturn(1);
 
         OpenMatch result = matchService.leaveOpenMatch(1L, user2.getUsername());
 
+        verify(events).publishEvent(new OpenMatchChanged(1L));
         assertEquals(1, result.getPlayers().size());
         assertFalse(result.getPlayers().contains(user2));
     }
@@ -297,17 +324,16 @@ public class MatchServiceTest {
         OpenMatch match = new OpenMatch();
         match.setId(1L);
         match.setBooking(booking);
-        match.setPlayers(new ArrayList<>(List.of(user)));
-        match.setMinPlayers(10);
-        match.setMaxPlayers(12);
 
-        when(openMatchRepo.findById(1L)).thenReturn(Optional.of(match));
+        when(openMatchRepo.findDetailedById(1L)).thenReturn(Optional.of(match));
         when(userService.findByUsernameOrThrow(user2.getUsername())).thenReturn(user2);
+        when(openMatchRepo.removePlayer(1L, 2L)).thenReturn(0);
 
         IllegalStateException exception = assertThrows(IllegalStateException.class,
                 () -> matchService.leaveOpenMatch(1L, user2.getUsername()));
 
         assertEquals("User does not belong to match.", exception.getMessage());
+        verify(openMatchRepo, never()).releaseSpot(any());
     }
 
     @Test
@@ -315,12 +341,11 @@ public class MatchServiceTest {
         OpenMatch match = new OpenMatch();
         match.setId(1L);
         match.setBooking(booking);
-        match.setPlayers(new ArrayList<>(List.of(user, user2)));
-        match.setMinPlayers(2); // Mínimo 2 jugadores
-        match.setMaxPlayers(12);
 
-        when(openMatchRepo.findById(1L)).thenReturn(Optional.of(match));
+        when(openMatchRepo.findDetailedById(1L)).thenReturn(Optional.of(match));
         when(userService.findByUsernameOrThrow(user2.getUsername())).thenReturn(user2);
+        when(openMatchRepo.removePlayer(1L, 2L)).thenReturn(1);
+        when(openMatchRepo.releaseSpot(1L)).thenReturn(0);
 
         IllegalStateException exception = assertThrows(IllegalStateException.class,
                 () -> matchService.leaveOpenMatch(1L, user2.getUsername()));
@@ -333,48 +358,100 @@ public class MatchServiceTest {
         OpenMatch match = new OpenMatch();
         match.setId(1L);
         match.setBooking(booking);
-        match.setPlayers(new ArrayList<>(List.of(user, user2)));
-        match.setMinPlayers(10);
-        match.setMaxPlayers(12);
 
-        when(openMatchRepo.findById(1L)).thenReturn(Optional.of(match));
+        when(openMatchRepo.findDetailedById(1L)).thenReturn(Optional.of(match));
         when(userService.findByUsernameOrThrow(user.getUsername())).thenReturn(user);
 
         IllegalStateException exception = assertThrows(IllegalStateException.class,
                 () -> matchService.leaveOpenMatch(1L, user.getUsername()));
 
         assertEquals("Match owner can't leave an open match.", exception.getMessage());
+        verify(openMatchRepo, never()).removePlayer(any(), any());
     }
 
     @Test
     void listarPartidosAbiertosActivos() {
         OpenMatch match = new OpenMatch();
         match.setId(1L);
-        when(openMatchRepo.findByIsActiveTrue()).thenReturn(List.of(match));
+        match.setBooking(booking);
+        OpenMatchIndex.Position position = OpenMatchIndex.Position.of(match);
+        SortKeyPage page = new SortKeyPage(null, 20, true);
+        when(openMatchIndex.find("Zona Norte", LocalDate.now(), null, null, 21)).thenReturn(List.of(position));
+        when(openMatchIndex.count("Zona Norte", LocalDate.now(), null)).thenReturn(1L);
+        when(openMatchRepo.findUpcomingWithFreeSpotsByIdIn(List.of(1L), LocalDate.now())).thenReturn(List.of(match));
+
+        PaginatedResponse<OpenMatch> matches = matchService.listActiveOpenMatches("Zona Norte", null, null, page);
+        assertEquals(1, matches.results().size());
+        assertEquals(1L, matches.results().get(0).getId());
+        assertEquals(1L, matches.pagination().totalResults());
+        assertNull(matches.pagination().nextCursor());
+    }
 
-        List<OpenMatch> matches = matchService.listActiveOpenMatches();
-        assertFalse(matches.isEmpty());
-        assertEquals(1, matches.size());
-        assertEquals(1L, matches.get(0).getId());
+    @Test
+    void listarPartidosAbiertosActivos_vuelveALeerLasEntradasVencidasDelIndice() {
+        OpenMatch match = new OpenMatch();
+        match.setId(1L);
+        match.setBooking(booking);
+        OpenMatchIndex.Position stale = new OpenMatchIndex.Position(booking.getBookingDate(), 10, 2L);
+        when(openMatchIndex.find(null, LocalDate.now(), null, null, 21))
+                .thenReturn(List.of(stale, OpenMatchIndex.Position.of(match)));
+        when(openMatchRepo.findUpcomingWithFreeSpotsByIdIn(List.of(2L, 1L), LocalDate.now())).thenReturn(List.of(match));
+
+        PaginatedResponse<OpenMatch> matches = matchService.listActiveOpenMatches(null, null, null,
+                new SortKeyPage(null, 20, false));
+        assertEquals(List.of(match), matches.results());
+        verify(openMatchIndex).refresh(2L);
+        verify(openMatchIndex, never()).remove(any());
     }
 
     @Test
     void listarPartidosCerradosActivos() {
         CloseMatch match = new CloseMatch();
         match.setId(1L);
-        when(closeMatchRepo.findByIsActiveTrue()).thenReturn(List.of(match));
+        KeysetPage page = new KeysetPage(0L, 20, false);
+        when(closeMatchRepo.findActiveFromDateAfterId(eq(LocalDate.now()), eq(0L), any(Limit.class))).thenReturn(List.of(match));
+
+        PaginatedResponse<CloseMatch> matches = matchService.listActiveCloseMatches(page);
+        assertEquals(1, matches.results().size());
+        assertEquals(1L, matches.results().get(0).getId());
+    }
+
+    @Test
+    void listarPartidosAbiertosProximosDelUsuario_incluyeLosLlenos() {
+        OpenMatch full = new OpenMatch();
+        full.setId(1L);
+        full.setMaxPlayers(10);
+        full.setPlayerCount(10);
+        KeysetPage page = new KeysetPage(0L, 20, true);
+        when(userService.findByUsernameOrThrow(user.getUsername())).thenReturn(user);
+        when(openMatchRepo.findUpcomingByPlayerIdAfterId(eq(user.getId()), eq(LocalDate.now()), eq(0L), any(Limit.class)))
+                .thenReturn(List.of(full));
+        when(openMatchRepo.countUpcomingByPlayerId(user.getId(), LocalDate.now())).thenReturn(1L);
+
+        PaginatedResponse<OpenMatch> matches = matchService.listUpcomingOpenMatchesForUser(user.getUsername(), page);
+        assertEquals(List.of(full), matches.results());
+        assertEquals(1L, matches.pagination().totalResults());
+        assertNull(matches.pagination().nextCursor());
+    }
+
+    @Test
+    void listarPartidosCerradosProximosDelUsuario() {
+        CloseMatch match = new CloseMatch();
+        match.setId(1L);
+        when(userService.findByUsernameOrThrow(user.getUsername())).thenReturn(user);
+        when(closeMatchRepo.findUpcomingByMemberIdAfterId(eq(user.getId()), eq(LocalDate.now()), eq(0L), any(Limit.class)))
+                .thenReturn(List.of(match));
 
-        List<CloseMatch> matches = matchService.listActiveCloseMatches();
-        assertFalse(matches.isEmpty());
-        assertEquals(1, matches.size());
-        assertEquals(1L, matches.get(0).getId());
+        PaginatedResponse<CloseMatch> matches = matchService.listUpcomingCloseMatchesForUser(user.getUsername(),
+                new KeysetPage(0L, 20, false));
+        assertEquals(List.of(match), matches.results());
     }
 
     @Test
     void obtenerPartidoAbiertoPorId() {
         OpenMatch match = new OpenMatch();
         match.setId(1L);
-        when(openMatchRepo.findById(1L)).thenReturn(Optional.of(match));
+        when(openMatchRepo.findDetailedById(1L)).thenReturn(Optional.of(match));
 
         OpenMatch result = matchService.getOpenMatch(1L);
         assertEquals(1L, result.getId());
@@ -382,7 +459,7 @@ public class MatchServiceTest {
 
     @Test
     void obtenerPartidoAbiertoPorId_noExiste_lanzaExcepcion() {
-        when(openMatchRepo.findById(1L)).thenReturn(Optional.empty());
+        when(openMatchRepo.findDetailedById(1L)).thenReturn(Optional.empty());
 
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                 () -> matchService.getOpenMatch(1L));
@@ -394,7 +471,7 @@ public class MatchServiceTest {
     void obtenerPartidoCerradoPorId() {
         CloseMatch match = new CloseMatch();
         match.setId(1L);
-        when(closeMatchRepo.findById(1L)).thenReturn(Optional.of(match));
+        when(closeMatchRepo.findDetailedById(1L)).thenReturn(Optional.of(match));
 
         CloseMatch result = matchService.getCloseMatch(1L);
         assertEquals(1L, result.getId());
@@ -402,7 +479,7 @@ public class MatchServiceTest {
 
     @Test
     void obtenerPartidoCerradoPorId_noExiste_lanzaExcepcion() {
-        when(closeMatchRepo.findById(1L)).thenReturn(Optional.empty());
+        when(closeMatchRepo.findDetailedById(1L)).thenReturn(Optional.empty());
 
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                 () -> matchService.getCloseMatch(1L));
@@ -419,13 +496,15 @@ public class MatchServiceTest {
 
         OpenMatch match = new OpenMatch();
         match.setBooking(pastBooking);
-        match.setPlayers(List.of(user));
+        match.setPlayers(Set.of(user));
 
-        when(openMatchRepo.findByIsActiveTrue()).thenReturn(List.of(match));
+        when(openMatchRepo.findPastByPlayerId(eq(user.getId()), eq(LocalDate.now()), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(match), PageRequest.of(0, 20), 1));
 
-        List<OpenMatch> result = matchService.getPastOpenMatchesForUser(user.getUsername());
-        assertFalse(result.isEmpty());
-        assertEquals(1, result.size());
+        PaginatedResponse<OpenMatch> result = matchService.getPastOpenMatchesForUser(user.getUsername(), 1, 20);
+        assertEquals(1, result.results().size());
+        assertEquals(1, result.pagination().page());
+        assertEquals(1, result.pagination().totalResults());
     }
 
     @Test
@@ -439,11 +518,12 @@ public class MatchServiceTest {
         match.setBooking(pastBooking);
         match.setTeamOne(teamA);
 
-        when(closeMatchRepo.findByIsActiveTrue()).thenReturn(List.of(match));
+        when(closeMatchRepo.findPastByMemberId(eq(user.getId()), eq(LocalDate.now()), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(match), PageRequest.of(0, 20), 1));
 
-        List<CloseMatch> result = matchService.getPastCloseMatchesForUser(user.getUsername());
-        assertFalse(result.isEmpty());
-        assertEquals(1, result.size());
+        PaginatedResponse<CloseMatch> result = matchService.getPastCloseMatchesForUser(user.getUsername(), 1, 20);
+        assertEquals(1, result.results().size());
+        assertEquals(1, result.pagination().totalPages());
     }
 
     @Test
@@ -466,7 +546,7 @@ public class MatchServiceTest {
         OpenMatch match = new OpenMatch();
         match.setId(1L);
         match.setBooking(booking);
-        match.setPlayers(new ArrayList<>(List.of(user, user2)));
+        match.setPlayers(new LinkedHashSet<>(List.of(user, user2)));
         match.setMinPlayers(2);
         match.setMaxPlayers(12);
 
@@ -477,7 +557,7 @@ public class MatchServiceTest {
         match.setTeamOne(teamOne);
         match.setTeamTwo(teamTwo);
 
-        when(openMatchRepo.findById(1L)).thenReturn(Optional.of(match));
+        when(openMatchRepo.findDetailedById(1L)).thenReturn(Optional.of(match));
         when(openMatchRepo.save(any())).thenReturn(match);
 
         OpenMatch result = matchService.assignTeams(1L, "age", Collections.emptyMap());
@@ -491,7 +571,7 @@ public class MatchServiceTest {
         OpenMatch match = new OpenMatch();
         match.setId(1L);
         match.setBooking(booking);
-        match.setPlayers(new ArrayList<>(List.of(user, user2)));
+        match.setPlayers(new LinkedHashSet<>(List.of(user, user2)));
         match.setMinPlayers(2);
         match.setMaxPlayers(12);
 
@@ -502,7 +582,7 @@ public class MatchServiceTest {
         match.setTeamOne(teamOne);
         match.setTeamTwo(teamTwo);
 
-        when(openMatchRepo.findById(1L)).thenReturn(Optional.of(match));
+        when(openMatchRepo.findDetailedById(1L)).thenReturn(Optional.of(match));
         when(openMatchRepo.save(any())).thenReturn(match);
 
         OpenMatch result = matchService.assignTeams(1L, "random", Collections.emptyMap());
@@ -524,7 +604,7 @@ public class MatchServiceTest {
         OpenMatch match = new OpenMatch();
         match.setId(1L);
         match.setBooking(booking);
-        match.setPlayers(new ArrayList<>(List.of(user, user2, user3, user4))); // 4 jugadores
+        match.setPlayers(new LinkedHashSet<>(List.of(user, user2, user3, user4))); // 4 jugadores
         match.setMinPlayers(2);
         match.setMaxPlayers(12);
 
@@ -541,7 +621,7 @@ public class MatchServiceTest {
         manualMap.put(3L, 1); // user3 en equipo 1 (teamOne)
         manualMap.put(4L, 2); // user4 en equipo 2 (teamTwo)
 
-        when(openMatchRepo.findById(1L)).thenReturn(Optional.of(match));
+        when(openMatchRepo.findDetailedById(1L)).thenReturn(Optional.of(match));
         when(openMatchRepo.save(any())).thenReturn(match);
 
         OpenMatch result = matchService.assignTeams(1L, "manual", manualMap);
@@ -554,7 +634,7 @@ public class MatchServiceTest {
     void asignarEquipos_estrategiaDesconocida_lanzaExcepcion() {
         OpenMatch match = new OpenMatch();
         match.setId(1L);
-        when(openMatchRepo.findById(1L)).thenReturn(Optional.of(match));
+        when(openMatchRepo.findDetailedById(1L)).thenReturn(Optional.of(match));
 
         ResponseStatusException exception = assertThrows(ResponseStatusException.class,
                 () -> matchService.assignTeams(1L, "desconocida", Collections.emptyMap()));
@@ -565,7 +645,7 @@ public class MatchServiceTest {
 
     @Test
     void asignarEquipos_partidoNoExiste_lanzaExcepcion() {
-        when(openMatchRepo.findById(1L)).thenReturn(Optional.empty());
+        when(openMatchRepo.findDetailedById(1L)).thenReturn(Optional.empty());
 
         ResponseStatusException exception = assertThrows(ResponseStatusException.class,
                 () -> matchService.assignTeams(1L, "age", Collections.emptyMap()));
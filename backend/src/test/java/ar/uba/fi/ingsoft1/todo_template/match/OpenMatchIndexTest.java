@@ -0,0 +1,153 @@
+package ar.uba.fi.ingsoft1.todo_template.match;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OpenMatchIndexTest {
+
+    @Mock
+    private OpenMatchRepository openMatchRepository;
+
+    private OpenMatchIndex index;
+
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        index = new OpenMatchIndex(openMatchRepository, 300);
+        when(openMatchRepository.findUpcomingWithFreeSpots(today)).thenReturn(List.of(
+                new UpcomingOpenMatch(1L, "Zona Norte", today, 20, 10, 12),
+                new UpcomingOpenMatch(2L, "Zona Sur", today, 18, 10, 12),
+                new UpcomingOpenMatch(3L, "zona norte ", today.plusDays(1), 9, 4, 10),
+                new UpcomingOpenMatch(4L, "Zona Norte", today.plusDays(3), 21, 11, 12)));
+    }
+
+    @Test
+    void find_ordersByStartAndFiltersByZoneAndDates() {
+        assertEquals(List.of(2L, 1L, 3L, 4L), ids(index.find(null, today, null, null, 10)));
+        assertEquals(List.of(1L, 3L, 4L), ids(index.find("ZONA NORTE", today, null, null, 10)));
+        assertEquals(List.of(1L, 3L), ids(index.find("Zona Norte", today, today.plusDays(1), null, 10)));
+        assertEquals(List.of(), ids(index.find("Zona Oeste", today, null, null, 10)));
+        assertEquals(3, index.count("Zona Norte", today, null));
+    }
+
+    @Test
+    void find_resumesAfterTheCursorPosition() {
+        List<OpenMatchIndex.Position> first = index.find(null, today, null, null, 2);
+        assertEquals(List.of(2L, 1L), ids(first));
+
+        OpenMatchIndex.Position after = OpenMatchIndex.Position.parse(first.getLast().sortKey());
+        assertEquals(List.of(3L, 4L), ids(index.find(null, today, null, after, 2)));
+        assertThrows(ResponseStatusException.class, () -> OpenMatchIndex.Position.parse("2025-01-01,x"));
+    }
+
+    @Test
+    void put_removesFullMatchesAndAddsThemBackWhenASpotOpens() {
+        index.find(null, today, null, null, 10);
+
+        index.put(new UpcomingOpenMatch(4L, "Zona Norte", today.plusDays(3), 21, 12, 12));
+        assertEquals(List.of(2L, 1L, 3L), ids(index.find(null, today, null, null, 10)));
+
+        index.put(new UpcomingOpenMatch(4L, "Zona Norte", today.plusDays(3), 21, 11, 12));
+        index.put(new UpcomingOpenMatch(5L, "Zona Sur", today.plusDays(2), 19, 1, 12));
+        index.remove(1L);
+        assertEquals(List.of(2L, 3L, 5L, 4L), ids(index.find(null, today, null, null, 10)));
+
+        verify(openMatchRepository, times(1)).findUpcomingWithFreeSpots(today);
+    }
+
+    @Test
+    void refresh_putsBackTheCurrentStateReadFromTheDatabase() {
+        index.find(null, today, null, null, 10);
+        when(openMatchRepository.findUpcomingById(1L, today))
+                .thenReturn(Optional.of(new UpcomingOpenMatch(1L, "Zona Norte", today, 20, 11, 12)));
+        when(openMatchRepository.findUpcomingById(2L, today)).thenReturn(Optional.empty());
+
+        index.on(new OpenMatchChanged(1L));
+        index.on(new OpenMatchChanged(2L));
+        assertEquals(List.of(1L, 3L, 4L), ids(index.find(null, today, null, null, 10)));
+
+        when(openMatchRepository.findUpcomingById(1L, today))
+                .thenReturn(Optional.of(new UpcomingOpenMatch(1L, "Zona Norte", today, 20, 12, 12)));
+        index.refresh(1L);
+        assertEquals(List.of(3L, 4L), ids(index.find(null, today, null, null, 10)));
+    }
+
+    @Test
+    void refresh_beforeTheFirstQueryLeavesItToTheInitialLoad() {
+        index.refresh(1L);
+        assertEquals(List.of(2L, 1L, 3L, 4L), ids(index.find(null, today, null, null, 10)));
+
+        verify(openMatchRepository, never()).findUpcomingById(any(), any());
+    }
+
+    @Test
+    void refresh_olderReadIsDroppedWhenANewerOneStarted() {
+        index.find(null, today, null, null, 10);
+        when(openMatchRepository.findUpcomingById(1L, today))
+                .thenAnswer(invocation -> {
+                    // el partido se llena mientras se lee y su relectura empieza después que esta
+                    index.refresh(1L);
+                    return Optional.of(new UpcomingOpenMatch(1L, "Zona Norte", today, 20, 11, 12));
+                })
+                .thenReturn(Optional.of(new UpcomingOpenMatch(1L, "Zona Norte", today, 20, 12, 12)));
+
+        index.refresh(1L);
+
+        assertEquals(List.of(2L, 3L, 4L), ids(index.find(null, today, null, null, 10)));
+    }
+
+    @Test
+    void changeDuringLoad_discardsTheStaleRead() {
+        index.find(null, today, null, null, 10);
+        index.invalidate();
+        when(openMatchRepository.findUpcomingWithFreeSpots(today))
+                .thenAnswer(invocation -> {
+                    // el partido 4 se llena mientras se lee la base: esta lectura todavía lo trae con lugar
+                    index.on(new OpenMatchChanged(4L));
+                    return List.of(new UpcomingOpenMatch(1L, "Zona Norte", today, 20, 10, 12),
+                            new UpcomingOpenMatch(4L, "Zona Norte", today.plusDays(3), 21, 11, 12));
+                })
+                .thenReturn(List.of(new UpcomingOpenMatch(1L, "Zona Norte", today, 20, 10, 12)));
+
+        assertEquals(List.of(1L), ids(index.find(null, today, null, null, 10)));
+        verify(openMatchRepository, times(3)).findUpcomingWithFreeSpots(today);
+        verify(openMatchRepository, never()).findUpcomingById(any(), any());
+    }
+
+    @Test
+    void expiredIndex_isReloadedFromDatabase() {
+        OpenMatchIndex noTtl = new OpenMatchIndex(openMatchRepository, 0);
+
+        noTtl.find(null, today, null, null, 10);
+        noTtl.find(null, today, null, null, 10);
+
+        verify(openMatchRepository, times(2)).findUpcomingWithFreeSpots(today);
+    }
+
+    @Test
+    void invalidate_reloadsOnNextQuery() {
+        index.find(null, today, null, null, 10);
+        index.invalidate();
+        index.find(null, today, null, null, 10);
+
+        verify(openMatchRepository, times(2)).findUpcomingWithFreeSpots(today);
+    }
+
+    private static List<Long> ids(List<OpenMatchIndex.Position> positions) {
+        return positions.stream().map(OpenMatchIndex.Position::matchId).toList();
+    }
+}
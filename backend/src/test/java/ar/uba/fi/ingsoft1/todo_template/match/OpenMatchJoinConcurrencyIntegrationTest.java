@@ -0,0 +1,156 @@
+package ar.uba.fi.ingsoft1.todo_template.match;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import ar.uba.fi.ingsoft1.todo_template.DatabaseHelper;
+import ar.uba.fi.ingsoft1.todo_template.booking.Booking;
+import ar.uba.fi.ingsoft1.todo_template.booking.BookingRepository;
+import ar.uba.fi.ingsoft1.todo_template.field.Field;
+import ar.uba.fi.ingsoft1.todo_template.field.FieldRepository;
+import ar.uba.fi.ingsoft1.todo_template.timeslot.TimeSlot;
+import ar.uba.fi.ingsoft1.todo_template.timeslot.TimeSlotRepository;
+import ar.uba.fi.ingsoft1.todo_template.user.User;
+import ar.uba.fi.ingsoft1.todo_template.user.UserRepository;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:openmatchjoin;LOCK_TIMEOUT=10000",
+        "app.email-outbox.enabled=false"
+})
+public class OpenMatchJoinConcurrencyIntegrationTest {
+
+    private static final int JOINS = 200;
+    private static final int THREADS = 32;
+    private static final int MAX_PLAYERS = 12;
+
+    @Autowired
+    private MatchService matchService;
+    @Autowired
+    private DatabaseHelper databaseHelper;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private FieldRepository fieldRepository;
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private OpenMatchRepository openMatchRepository;
+    @Autowired
+    private OpenMatchTeamRepository openMatchTeamRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<User> joiners = new ArrayList<>();
+    private User organizer;
+    private Field field;
+    private TimeSlot timeSlot;
+    private Booking booking;
+    private OpenMatch match;
+
+    @BeforeEach
+    void seedMatch() {
+        organizer = saveUser("join.organizer@example.com");
+        for (int i = 0; i < JOINS; i++) {
+            joiners.add(saveUser("join.player" + i + "@example.com"));
+        }
+        field = databaseHelper.seedField("Cancha cupos", "CABA", organizer);
+        timeSlot = databaseHelper.seedTimeSlot(field, DayOfWeek.MONDAY, 8, 23);
+        booking = bookingRepository.save(new Booking(organizer, timeSlot, LocalDate.now().plusDays(1), 20));
+
+        OpenMatch openMatch = new OpenMatch();
+        openMatch.setBooking(booking);
+        openMatch.setPlayers(new LinkedHashSet<>(List.of(organizer)));
+        openMatch.setMinPlayers(10);
+        openMatch.setMaxPlayers(MAX_PLAYERS);
+        openMatch.setTeamOne(openMatchTeamRepository.save(new OpenMatchTeam()));
+        openMatch.setTeamTwo(openMatchTeamRepository.save(new OpenMatchTeam()));
+        match = openMatchRepository.save(openMatch);
+    }
+
+    @AfterEach
+    void removeMatch() {
+        openMatchRepository.deleteById(match.getId());
+        openMatchTeamRepository.deleteById(match.getTeamOne().getId());
+        openMatchTeamRepository.deleteById(match.getTeamTwo().getId());
+        bookingRepository.deleteById(booking.getId());
+        timeSlotRepository.deleteById(timeSlot.getId());
+        fieldRepository.deleteById(field.getId());
+        joiners.forEach(user -> userRepository.deleteById(user.getId()));
+        userRepository.deleteById(organizer.getId());
+    }
+
+    @Test
+    public void parallelJoinsNeverExceedMaxPlayers() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<OpenMatch>> results = new ArrayList<>();
+
+        for (User joiner : joiners) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return matchService.joinOpenMatch(match.getId(), joiner.getUsername());
+            }));
+        }
+        start.countDown();
+
+        int joined = 0;
+        for (Future<OpenMatch> result : results) {
+            try {
+                result.get(30, TimeUnit.SECONDS);
+                joined++;
+            } catch (ExecutionException e) {
+                assertEquals(IllegalStateException.class, e.getCause().getClass());
+                assertEquals("Match is already full.", e.getCause().getMessage());
+            }
+        }
+        executor.shutdown();
+
+        OpenMatch stored = openMatchRepository.findDetailedById(match.getId()).orElseThrow();
+        assertEquals(MAX_PLAYERS - 1, joined);
+        assertEquals(MAX_PLAYERS, stored.getPlayers().size());
+        assertEquals(MAX_PLAYERS, stored.getPlayerCount());
+    }
+
+    @Test
+    public void joinKeepsUsersInTheSecondLevelCache() {
+        User joiner = joiners.get(0);
+        userRepository.findById(organizer.getId());
+        userRepository.findById(joiner.getId());
+        Cache cache = entityManagerFactory.getCache();
+        assertTrue(cache.contains(User.class, organizer.getId()));
+
+        matchService.joinOpenMatch(match.getId(), joiner.getUsername());
+        matchService.leaveOpenMatch(match.getId(), joiner.getUsername());
+
+        // las sentencias nativas declaran sus tablas, así que la región users no se vacía
+        assertTrue(cache.contains(User.class, organizer.getId()));
+        assertTrue(cache.contains(User.class, joiner.getId()));
+    }
+
+    private User saveUser(String username) {
+        return userRepository.save(new User(username, "secret", "USER", "male", "25", "CABA",
+                "Nombre", "Apellido", "https://example.com/profile.jpg"));
+    }
+}
@@ -1,9 +1,16 @@
 package ar.uba.fi.ingsoft1.todo_template.team;
 
+import ar.uba.fi.ingsoft1.todo_template.dto.KeysetPage;
+import ar.uba.fi.ingsoft1.todo_template.dto.PaginatedResponse;
 import ar.uba.fi.ingsoft1.todo_template.team.DTO.TeamCreateDTO;
+import ar.uba.fi.ingsoft1.todo_template.team.DTO.TeamDetailsDTO;
 import ar.uba.fi.ingsoft1.todo_template.team.DTO.TeamUpdateDTO;
 import ar.uba.fi.ingsoft1.todo_template.team.invitation.Invitation;
 import ar.uba.fi.ingsoft1.todo_template.team.invitation.InvitationService;
+import ar.uba.fi.ingsoft1.todo_template.tournament.fixture.TournamentStatisticsService;
+import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.StandingsInvalidated;
+import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.TeamRegisteredTournamentRepository;
+import ar.uba.fi.ingsoft1.todo_template.user.PrincipalCache;
 import ar.uba.fi.ingsoft1.todo_template.user.User;
 import ar.uba.fi.ingsoft1.todo_template.user.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,10 +18,13 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
@@ -31,6 +41,12 @@ public class TeamServiceTest {
     @Mock
     private InvitationService invitationService;
     @Mock
+    private TeamRegisteredTournamentRepository teamRegisteredTournamentRepository;
+    @Mock
+    private TournamentStatisticsService tournamentStatisticsService;
+    @Mock
+    private ApplicationEventPublisher events;
+    @Mock
     private Authentication authentication;
     @InjectMocks
     private TeamService teamService;
@@ -41,6 +57,7 @@ public class TeamServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(teamService, "principalCache", new PrincipalCache(userRepository, 60, 100));
         user = new User();
         user.setUsername(username);
         SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -49,10 +66,19 @@ public class TeamServiceTest {
     }
 
     @Test
-    void getAllTeams_returnsTeams() {
-        when(teamRepository.findAllWithMembers()).thenReturn(List.of(new Team()));
-        List<Team> result = teamService.getAllTeams();
-        assertFalse(result.isEmpty());
+    void getTeams_returnsFirstPageWithCursor() {
+        Team first = new Team();
+        first.setId(1L);
+        Team second = new Team();
+        second.setId(2L);
+        KeysetPage page = new KeysetPage(0L, 1, false);
+        when(teamRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class))).thenReturn(List.of(first, second));
+
+        PaginatedResponse<TeamDetailsDTO> result = teamService.getTeams(page);
+
+        assertEquals(1, result.results().size());
+        assertNotNull(result.pagination().nextCursor());
+        assertNull(result.pagination().totalResults());
     }
 
     @Test
@@ -97,19 +123,39 @@ public class TeamServiceTest {
         Team team = new Team();
         team.setCaptain(username);
         team.setName("A");
-        when(teamRepository.findById(1L)).thenReturn(Optional.of(team));
+        when(teamRepository.findWithMembersById(1L)).thenReturn(Optional.of(team));
         when(dto.getName()).thenReturn("A");
         when(teamRepository.save(any())).thenReturn(team);
         Optional<Team> result = teamService.updateTeam(1L, dto);
         assertTrue(result.isPresent());
     }
 
+    @Test
+    void updateTeam_rename_invalidatesTheStandingsAndStatisticsOfItsTournaments() {
+        TeamUpdateDTO dto = new TeamUpdateDTO();
+        dto.setName("B");
+        Team team = new Team();
+        team.setCaptain(username);
+        team.setName("A");
+        when(teamRepository.findWithMembersById(1L)).thenReturn(Optional.of(team));
+        when(teamRepository.findByName("B")).thenReturn(Optional.empty());
+        when(teamRepository.save(team)).thenReturn(team);
+        when(teamRegisteredTournamentRepository.findTournamentIdsByTeamId(1L)).thenReturn(List.of(5L, 6L));
+
+        teamService.updateTeam(1L, dto);
+
+        verify(events).publishEvent(new StandingsInvalidated(5L));
+        verify(events).publishEvent(new StandingsInvalidated(6L));
+        verify(tournamentStatisticsService).evictStatistics(5L);
+        verify(tournamentStatisticsService).evictStatistics(6L);
+    }
+
     @Test
     void updateTeam_notCaptain_throws() {
         TeamUpdateDTO dto = mock(TeamUpdateDTO.class);
         Team team = new Team();
         team.setCaptain("otro");
-        when(teamRepository.findById(1L)).thenReturn(Optional.of(team));
+        when(teamRepository.findWithMembersById(1L)).thenReturn(Optional.of(team));
         assertThrows(ResponseStatusException.class, () -> teamService.updateTeam(1L, dto));
     }
 
@@ -119,7 +165,7 @@ public class TeamServiceTest {
         Team team = new Team();
         team.setCaptain(username);
         team.setName("A");
-        when(teamRepository.findById(1L)).thenReturn(Optional.of(team));
+        when(teamRepository.findWithMembersById(1L)).thenReturn(Optional.of(team));
         when(dto.getName()).thenReturn("B");
         when(teamRepository.findByName("B")).thenReturn(Optional.of(new Team()));
         assertThrows(ResponseStatusException.class, () -> teamService.updateTeam(1L, dto));
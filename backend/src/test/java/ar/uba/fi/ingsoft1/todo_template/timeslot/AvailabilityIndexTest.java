@@ -0,0 +1,153 @@
+package ar.uba.fi.ingsoft1.todo_template.timeslot;
+
+import ar.uba.fi.ingsoft1.todo_template.blockedslot.BlockedSlot;
+import ar.uba.fi.ingsoft1.todo_template.blockedslot.BlockedSlotRepository;
+import ar.uba.fi.ingsoft1.todo_template.booking.BookedHour;
+import ar.uba.fi.ingsoft1.todo_template.booking.BookingRepository;
+import ar.uba.fi.ingsoft1.todo_template.common.event.ScheduleChanged;
+import ar.uba.fi.ingsoft1.todo_template.common.event.SlotBlocked;
+import ar.uba.fi.ingsoft1.todo_template.common.event.SlotReserved;
+import ar.uba.fi.ingsoft1.todo_template.common.event.SlotUnblocked;
+import ar.uba.fi.ingsoft1.todo_template.field.Field;
+import ar.uba.fi.ingsoft1.todo_template.field.FieldRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilityIndexTest {
+
+    @Mock
+    private TimeSlotRepository timeSlotRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private BlockedSlotRepository blockedSlotRepository;
+
+    @Mock
+    private FieldRepository fieldRepository;
+
+    private AvailabilityIndex index;
+
+    private static final Long FIELD_ID = 1L;
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        index = new AvailabilityIndex(timeSlotRepository, bookingRepository, blockedSlotRepository, fieldRepository, 300);
+
+        Field field = Field.builder().id(FIELD_ID).build();
+        TimeSlot slot = TimeSlot.builder()
+                .field(field)
+                .dayOfWeek(today.getDayOfWeek())
+                .openTime(18)
+                .closeTime(22)
+                .build();
+
+        when(fieldRepository.existsById(FIELD_ID)).thenReturn(true);
+        when(timeSlotRepository.findByFieldIdOrderByDayOfWeekAscOpenTimeAsc(FIELD_ID)).thenReturn(List.of(slot));
+        when(bookingRepository.findActiveBookedHoursByFieldIdFrom(FIELD_ID, today))
+                .thenReturn(List.of(new BookedHour(today, 19)));
+        when(blockedSlotRepository.findByFieldId(FIELD_ID))
+                .thenReturn(List.of(BlockedSlot.builder().field(field).date(today).hour(21).build()));
+    }
+
+    @Test
+    void getAvailableHours_excludesBookedAndBlockedHours() {
+        Map<LocalDate, List<Integer>> availability = index.getAvailableHours(FIELD_ID, today, 7);
+
+        assertEquals(7, availability.size());
+        assertEquals(List.of(18, 20), availability.get(today));
+        assertEquals(List.of(), availability.get(today.plusDays(1)));
+    }
+
+    @Test
+    void reserveAndRelease_updateAvailabilityWithoutQueries() {
+        index.getAvailableHours(FIELD_ID, today, 1);
+
+        index.reserve(FIELD_ID, today, 18);
+        assertFalse(index.isAvailable(FIELD_ID, today, 18));
+
+        index.release(FIELD_ID, today, 19);
+        assertTrue(index.isAvailable(FIELD_ID, today, 19));
+
+        index.unblock(FIELD_ID, today, 21);
+        assertEquals(2, index.countAvailableHours(FIELD_ID, today, 1));
+
+        verify(bookingRepository, times(1)).findActiveBookedHoursByFieldIdFrom(FIELD_ID, today);
+        verify(blockedSlotRepository, times(1)).findByFieldId(FIELD_ID);
+    }
+
+    @Test
+    void updateSchedule_changesOpenHoursForThatDay() {
+        index.getAvailableHours(FIELD_ID, today, 1);
+
+        index.updateSchedule(FIELD_ID, today.getDayOfWeek(), 8, 10);
+
+        assertEquals(List.of(8, 9), index.getAvailableHours(FIELD_ID, today, 1).get(today));
+    }
+
+    @Test
+    void on_appliesSlotEventsAndReloadsChangedSchedules() {
+        index.getAvailableHours(FIELD_ID, today, 1);
+
+        index.on(new SlotReserved(FIELD_ID, today, 18));
+        index.on(new SlotBlocked(FIELD_ID, today, 20));
+        index.on(new SlotUnblocked(FIELD_ID, today, 21));
+        assertEquals(List.of(21), index.getAvailableHours(FIELD_ID, today, 1).get(today));
+
+        when(timeSlotRepository.findByFieldIdOrderByDayOfWeekAscOpenTimeAsc(FIELD_ID)).thenReturn(List.of(
+                TimeSlot.builder().dayOfWeek(today.getDayOfWeek()).openTime(8).closeTime(10).build()));
+        index.on(new ScheduleChanged(FIELD_ID));
+        assertEquals(List.of(8, 9), index.getAvailableHours(FIELD_ID, today, 1).get(today));
+    }
+
+    @Test
+    void eventDuringLoad_isNotLostByTheLoadedSnapshot() {
+        // la reserva de las 20 se confirma mientras se lee la base: la primera lectura no la trae
+        when(bookingRepository.findActiveBookedHoursByFieldIdFrom(FIELD_ID, today))
+                .thenAnswer(invocation -> {
+                    index.on(new SlotReserved(FIELD_ID, today, 20));
+                    return List.of(new BookedHour(today, 19));
+                })
+                .thenReturn(List.of(new BookedHour(today, 19), new BookedHour(today, 20)));
+
+        assertEquals(List.of(18), index.getAvailableHours(FIELD_ID, today, 1).get(today));
+        verify(bookingRepository, times(2)).findActiveBookedHoursByFieldIdFrom(FIELD_ID, today);
+    }
+
+    @Test
+    void expiredField_isReloadedFromDatabase() {
+        AvailabilityIndex noTtl = new AvailabilityIndex(timeSlotRepository, bookingRepository, blockedSlotRepository,
+                fieldRepository, 0);
+
+        noTtl.getAvailableHours(FIELD_ID, today, 1);
+        noTtl.getAvailableHours(FIELD_ID, today, 1);
+
+        verify(bookingRepository, times(2)).findActiveBookedHoursByFieldIdFrom(FIELD_ID, today);
+    }
+
+    @Test
+    void sweep_dropsDatesBeforeToday() {
+        LocalDate lastWeek = today.minusWeeks(1);
+        index.getAvailableHours(FIELD_ID, today, 1);
+        index.reserve(FIELD_ID, lastWeek, 18);
+        assertFalse(index.isAvailable(FIELD_ID, lastWeek, 18));
+
+        index.sweep();
+
+        assertTrue(index.isAvailable(FIELD_ID, lastWeek, 18));
+        assertEquals(List.of(18, 20), index.getAvailableHours(FIELD_ID, today, 1).get(today));
+    }
+}
@@ -0,0 +1,88 @@
+package ar.uba.fi.ingsoft1.todo_template.timeslot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import ar.uba.fi.ingsoft1.todo_template.BaseIntegrationTest;
+import ar.uba.fi.ingsoft1.todo_template.blockedslot.BlockedSlot;
+import ar.uba.fi.ingsoft1.todo_template.blockedslot.BlockedSlotRepository;
+import ar.uba.fi.ingsoft1.todo_template.booking.Booking;
+import ar.uba.fi.ingsoft1.todo_template.booking.BookingRepository;
+import ar.uba.fi.ingsoft1.todo_template.field.Field;
+import ar.uba.fi.ingsoft1.todo_template.field.FieldRepository;
+import ar.uba.fi.ingsoft1.todo_template.user.User;
+
+public class OwnerAvailableHoursIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private TimeSlotService timeSlotService;
+    @Autowired
+    private FieldRepository fieldRepository;
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private BlockedSlotRepository blockedSlotRepository;
+
+    private final List<Field> fields = new ArrayList<>();
+    private final List<TimeSlot> timeSlots = new ArrayList<>();
+    private LocalDate date;
+    private User owner;
+
+    @BeforeEach
+    void seedFields() {
+        date = LocalDate.now().plusDays(1);
+        owner = userRepository.findByUsername("test@user.com").orElseThrow();
+
+        // 10 a 18: ocho horas
+        TimeSlot first = createField("Primera", 10, 18);
+        bookingRepository.save(new Booking(owner, first, date, 10));
+        bookingRepository.save(new Booking(owner, first, date, 11));
+        // reservada y bloqueada a la vez, y un bloqueo fuera de horario
+        blockedSlotRepository.save(BlockedSlot.builder().field(first.getField()).date(date).hour(11).build());
+        blockedSlotRepository.save(BlockedSlot.builder().field(first.getField()).date(date).hour(22).build());
+
+        // 20 a 22: dos horas, una bloqueada
+        TimeSlot second = createField("Segunda", 20, 22);
+        blockedSlotRepository.save(BlockedSlot.builder().field(second.getField()).date(date).hour(20).build());
+    }
+
+    @AfterEach
+    void removeFields() {
+        for (Field field : fields) {
+            bookingRepository.deleteAll(bookingRepository.findByTimeSlot_Field_IdAndActiveTrue(field.getId()));
+            blockedSlotRepository.deleteAll(blockedSlotRepository.findByFieldId(field.getId()));
+        }
+        timeSlotRepository.deleteAll(timeSlots);
+        fieldRepository.deleteAll(fields);
+    }
+
+    @Test
+    public void countsFreeHoursPerFieldWithoutDoubleSubtracting() {
+        assertEquals((8 - 2) + (2 - 1), timeSlotService.countAvailableHoursForOwner(owner.getId(), date, 1));
+    }
+
+    @Test
+    public void onlyCountsTheRequestedDays() {
+        // la semana siguiente las canchas vuelven a abrir sin reservas ni bloqueos
+        assertEquals((8 - 2) + (2 - 1) + 8 + 2, timeSlotService.countAvailableHoursForOwner(owner.getId(), date, 8));
+        assertEquals((8 - 2) + (2 - 1), timeSlotService.countAvailableHoursForOwner(owner.getId(), date, 7));
+    }
+
+    private TimeSlot createField(String name, int openTime, int closeTime) {
+        Field field = dataBaseController.seedField(name, "Zona resumen", 500.0, true, owner);
+        fields.add(field);
+        TimeSlot timeSlot = dataBaseController.seedTimeSlot(field, date.getDayOfWeek(), openTime, closeTime);
+        timeSlots.add(timeSlot);
+        return timeSlot;
+    }
+}
@@ -8,13 +8,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -23,6 +23,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import ar.uba.fi.ingsoft1.todo_template.blockedslot.BlockedSlotRepository;
+import ar.uba.fi.ingsoft1.todo_template.common.FieldHour;
+import ar.uba.fi.ingsoft1.todo_template.common.event.ScheduleChanged;
 import ar.uba.fi.ingsoft1.todo_template.field.Field;
 import ar.uba.fi.ingsoft1.todo_template.field.FieldRepository;
 import ar.uba.fi.ingsoft1.todo_template.booking.BookingRepository;
@@ -42,6 +44,9 @@ class TimeSlotServiceTest {
     @Mock
     private BookingRepository bookingRepository;
 
+    @Mock
+    private ApplicationEventPublisher events;
+
     @InjectMocks
     private TimeSlotService timeSlotService;
 
@@ -51,11 +56,13 @@ class TimeSlotServiceTest {
     @BeforeEach
     void setUp() {
         ReflectionTestUtils.setField(timeSlotService, "bookingRepository", bookingRepository);
+        ReflectionTestUtils.setField(timeSlotService, "availabilityIndex",
+                new AvailabilityIndex(timeslotRepository, bookingRepository, blockedSlotRepository, fieldRepository, 300));
     }
 
     @Test
     void getAvailableHours_returnsEmptyList_whenFieldNotFound() {
-        when(fieldRepository.findById(FIELD_ID)).thenReturn(Optional.empty());
+        when(fieldRepository.existsById(FIELD_ID)).thenReturn(false);
         assertThrows(IllegalArgumentException.class, () -> {
             timeSlotService.getAvailableHours(FIELD_ID, 7);
         });
@@ -85,6 +92,7 @@ class TimeSlotServiceTest {
 
         verify(timeslotRepository).deleteByFieldIdAndDayOfWeek(FIELD_ID, DayOfWeek.MONDAY);
         verify(timeslotRepository).save(any(TimeSlot.class));
+        verify(events).publishEvent(new ScheduleChanged(FIELD_ID));
     }
 
     @Test
@@ -133,4 +141,27 @@ class TimeSlotServiceTest {
         });
     }
 
+    @Test
+    void countAvailableHoursForOwner_countsEachTakenHourOncePerFieldAndOnlyWithinOpenHours() {
+        // TEST_DATE es viernes
+        Long ownerId = 7L;
+        LocalDate saturday = TEST_DATE.plusDays(1);
+        when(timeslotRepository.findOpenHoursByOwnerId(ownerId)).thenReturn(List.of(
+                new FieldOpenHours(1L, DayOfWeek.FRIDAY, 10, 18),
+                new FieldOpenHours(1L, DayOfWeek.SATURDAY, 10, 14),
+                new FieldOpenHours(2L, DayOfWeek.FRIDAY, 20, 22)));
+        when(bookingRepository.findActiveFieldHoursByOwnerIdBetween(ownerId, TEST_DATE, saturday)).thenReturn(List.of(
+                new FieldHour(1L, TEST_DATE, 10),
+                new FieldHour(1L, TEST_DATE, 11)));
+        when(blockedSlotRepository.findFieldHoursByOwnerIdBetween(ownerId, TEST_DATE, saturday)).thenReturn(List.of(
+                new FieldHour(1L, TEST_DATE, 11),
+                new FieldHour(1L, TEST_DATE, 23),
+                new FieldHour(2L, TEST_DATE, 20)));
+
+        int available = timeSlotService.countAvailableHoursForOwner(ownerId, TEST_DATE, 2);
+
+        // cancha 1: viernes 8 - 2, sábado 4; cancha 2: viernes 2 - 1
+        assertEquals(11, available);
+    }
+
 }
@@ -0,0 +1,156 @@
+package ar.uba.fi.ingsoft1.todo_template.tournament.fixture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import ar.uba.fi.ingsoft1.todo_template.config.security.JwtUserDetails;
+import ar.uba.fi.ingsoft1.todo_template.field.Field;
+import ar.uba.fi.ingsoft1.todo_template.field.FieldRepository;
+import ar.uba.fi.ingsoft1.todo_template.team.Team;
+import ar.uba.fi.ingsoft1.todo_template.team.TeamRepository;
+import ar.uba.fi.ingsoft1.todo_template.timeslot.TimeSlot;
+import ar.uba.fi.ingsoft1.todo_template.timeslot.TimeSlotRepository;
+import ar.uba.fi.ingsoft1.todo_template.tournament.Tournament;
+import ar.uba.fi.ingsoft1.todo_template.tournament.TournamentFormat;
+import ar.uba.fi.ingsoft1.todo_template.tournament.TournamentRepository;
+import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.TeamRegisteredTournament;
+import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.TeamRegisteredTournamentRepository;
+import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.TeamTournamentId;
+import ar.uba.fi.ingsoft1.todo_template.user.User;
+import ar.uba.fi.ingsoft1.todo_template.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Mide la generación de fixtures todos contra todos para distintos tamaños de torneo: tiempo total
+ * y cantidad de sentencias preparadas. Con ids por secuencia y lotes JDBC las sentencias crecen con
+ * la cantidad de lotes y no con la de filas, que es lo que verifica el test.
+ * Usa su propia base en memoria para que los torneos generados no interfieran con otros tests.
+ * Es lenta, así que solo corre a pedido: mvn test -Dtest=FixtureGenerationBenchmarkIntegrationTest -Dloadtest=true
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:fixturebenchmark",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false",
+        "app.email-outbox.enabled=false"
+})
+public class FixtureGenerationBenchmarkIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(FixtureGenerationBenchmarkIntegrationTest.class);
+
+    @Autowired
+    private FixtureService fixtureService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private FieldRepository fieldRepository;
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private TournamentRepository tournamentRepository;
+    @Autowired
+    private TeamRegisteredTournamentRepository teamRegisteredTournamentRepository;
+
+    private Statistics statistics;
+    private User organizer;
+
+    @BeforeEach
+    void seedOrganizer() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        organizer = userRepository.findByUsername("benchmark.organizer@example.com")
+                .orElseGet(() -> userRepository.save(new User("benchmark.organizer@example.com", "secret", "USER",
+                        "female", "30", "CABA", "Nombre", "Apellido", "https://example.com/profile.jpg")));
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new JwtUserDetails(organizer.getUsername(), "USER"), null, List.of()));
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 8, 32, 128 })
+    public void generateRoundRobinFixture(int teamCount) {
+        Tournament tournament = seedTournament(teamCount);
+        int expectedMatches = teamCount * (teamCount - 1) / 2;
+
+        statistics.clear();
+        long start = System.nanoTime();
+        List<TournamentMatch> matches = fixtureService.generateFixture(tournament.getId());
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        long statements = statistics.getPrepareStatementCount();
+
+        log.info("Fixture {} equipos: {} partidos, {} ms, {} sentencias, {} inserts",
+                teamCount, matches.size(), elapsedMillis, statements, statistics.getEntityInsertCount());
+
+        assertEquals(expectedMatches, matches.size());
+        // reserva + partido cerrado + partido de torneo por cada cruce, agrupados en lotes
+        assertEquals(3L * expectedMatches, statistics.getEntityInsertCount());
+        assertTrue(statements < expectedMatches,
+                "Expected fewer statements than matches but ran " + statements + " for " + expectedMatches);
+    }
+
+    private Tournament seedTournament(int teamCount) {
+        Field field = fieldRepository.save(Field.builder()
+                .name("Cancha benchmark " + teamCount)
+                .grassType("Sintético")
+                .lighting(true)
+                .roofing(false)
+                .zone("CABA")
+                .address("Av. Siempre Viva 742")
+                .photoUrl("https://example.com/field.jpg")
+                .price(1000.0)
+                .active(true)
+                .owner(organizer)
+                .build());
+        List<TimeSlot> timeSlots = new ArrayList<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            timeSlots.add(TimeSlot.builder().dayOfWeek(day).openTime(8).closeTime(24).field(field).build());
+        }
+        timeSlotRepository.saveAll(timeSlots);
+
+        // cada tamaño arranca en otro año para que sus reservas no se pisen con las de los demás
+        Tournament tournament = new Tournament("Benchmark " + teamCount,
+                LocalDate.now().plusYears(teamCount), TournamentFormat.ROUND_ROBIN, teamCount, organizer);
+        tournament.setOpenInscription(false);
+        tournament.setRegisteredTeams(teamCount);
+        tournament = tournamentRepository.save(tournament);
+
+        List<TeamRegisteredTournament> registrations = new ArrayList<>();
+        for (int i = 0; i < teamCount; i++) {
+            Team team = teamRepository.save(Team.builder()
+                    .name("Benchmark " + teamCount + " equipo " + i)
+                    .captain(organizer.getUsername())
+                    .build());
+            registrations.add(new TeamRegisteredTournament(new TeamTournamentId(tournament.getId(), team.getId()),
+                    tournament, team, 0, 0, 0, 0, 0, 0));
+        }
+        teamRegisteredTournamentRepository.saveAll(registrations);
+        return tournament;
+    }
+}
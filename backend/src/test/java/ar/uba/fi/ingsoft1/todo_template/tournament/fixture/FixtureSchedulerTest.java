@@ -0,0 +1,122 @@
+package ar.uba.fi.ingsoft1.todo_template.tournament.fixture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.server.ResponseStatusException;
+
+import ar.uba.fi.ingsoft1.todo_template.field.Field;
+import ar.uba.fi.ingsoft1.todo_template.team.Team;
+import ar.uba.fi.ingsoft1.todo_template.timeslot.AvailabilityIndex;
+import ar.uba.fi.ingsoft1.todo_template.tournament.Tournament;
+import ar.uba.fi.ingsoft1.todo_template.tournament.TournamentFormat;
+import ar.uba.fi.ingsoft1.todo_template.tournament.fixture.generator.RoundRobinGenerator;
+import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.TeamRegisteredTournament;
+import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.TeamTournamentId;
+
+@ExtendWith(MockitoExtension.class)
+class FixtureSchedulerTest {
+
+    private static final int ALL_HOURS = (1 << 24) - 1;
+    private static final LocalDateTime NOW = LocalDateTime.of(2030, 1, 1, 10, 0);
+    private static final LocalDate START = LocalDate.of(2030, 1, 7);
+
+    @Mock
+    private AvailabilityIndex availabilityIndex;
+
+    private final List<Field> fields = List.of(
+            Field.builder().id(1L).name("Cancha 1").build(),
+            Field.builder().id(2L).name("Cancha 2").build());
+
+    private List<TournamentMatch> matches;
+
+    @BeforeEach
+    void setUp() {
+        Tournament tournament = new Tournament();
+        tournament.setId(1L);
+        tournament.setFormat(TournamentFormat.ROUND_ROBIN);
+        List<TeamRegisteredTournament> teams = new ArrayList<>();
+        for (long i = 1; i <= 6; i++) {
+            Team team = Team.builder().name("Equipo " + i).build();
+            teams.add(new TeamRegisteredTournament(new TeamTournamentId(1L, i), tournament, team, 0, 0, 0, 0, 0, 0));
+        }
+        matches = new RoundRobinGenerator().generateFixture(tournament, teams);
+    }
+
+    @Test
+    void schedule_PacksMatchesAcrossFieldsWithoutDoubleBookingOrBusyHours() {
+        when(availabilityIndex.freeHoursMask(eq(1L), any())).thenReturn(ALL_HOURS);
+        when(availabilityIndex.freeHoursMask(eq(2L), any())).thenAnswer(invocation ->
+                START.equals(invocation.getArgument(1)) ? ALL_HOURS & ~(1 << 18) : ALL_HOURS);
+
+        scheduler().schedule(matches, START);
+
+        Set<String> usedSlots = new HashSet<>();
+        for (TournamentMatch match : matches) {
+            assertNotNull(match.getField());
+            LocalDateTime time = match.getScheduledDateTime();
+            assertFalse(time.toLocalDate().isBefore(START));
+            assertTrue(time.getHour() >= FixtureScheduler.FIRST_MATCH_HOUR
+                    && time.getHour() < FixtureScheduler.LAST_MATCH_HOUR);
+            assertTrue(usedSlots.add(match.getField().getId() + "@" + time));
+            assertFalse(match.getField().getId() == 2L && time.equals(START.atTime(18, 0)));
+        }
+        // 3 partidos por ronda en 2 canchas: la ronda entera entra en un día
+        assertEquals(2L, matches.stream()
+                .filter(match -> match.getScheduledDateTime().equals(START.atTime(19, 0))).count());
+    }
+
+    @Test
+    void schedule_TeamsPlayOncePerDayAndRoundsDoNotOverlap() {
+        when(availabilityIndex.freeHoursMask(any(), any())).thenReturn(ALL_HOURS);
+
+        scheduler().schedule(matches, START);
+
+        Map<LocalDate, Set<TeamTournamentId>> playingByDay = new HashMap<>();
+        Map<Integer, LocalDate> firstDayOfRound = new HashMap<>();
+        Map<Integer, LocalDate> lastDayOfRound = new HashMap<>();
+        for (TournamentMatch match : matches) {
+            LocalDate day = match.getScheduledDateTime().toLocalDate();
+            Set<TeamTournamentId> playing = playingByDay.computeIfAbsent(day, d -> new HashSet<>());
+            assertTrue(playing.add(match.getHomeTeam().getId()));
+            assertTrue(playing.add(match.getAwayTeam().getId()));
+            firstDayOfRound.merge(match.getRoundNumber(), day, (a, b) -> a.isBefore(b) ? a : b);
+            lastDayOfRound.merge(match.getRoundNumber(), day, (a, b) -> a.isAfter(b) ? a : b);
+        }
+        for (int round = 2; round <= lastDayOfRound.size(); round++) {
+            assertTrue(firstDayOfRound.get(round).isAfter(lastDayOfRound.get(round - 1)));
+        }
+    }
+
+    @Test
+    void schedule_NoCapacity() {
+        when(availabilityIndex.freeHoursMask(any(), any())).thenReturn(0);
+
+        assertThrows(ResponseStatusException.class, () -> scheduler().schedule(matches, START));
+    }
+
+    private FixtureScheduler scheduler() {
+        return new FixtureScheduler(new CapacityGrid(availabilityIndex, fields,
+                FixtureScheduler.FIRST_MATCH_HOUR, FixtureScheduler.LAST_MATCH_HOUR, NOW));
+    }
+}
@@ -2,8 +2,10 @@ package ar.uba.fi.ingsoft1.todo_template.tournament.fixture;
 
 import ar.uba.fi.ingsoft1.todo_template.tournament.Tournament;
 import ar.uba.fi.ingsoft1.todo_template.tournament.TournamentFormat;
+import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.StandingsEvent;
 import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.TeamRegisteredTournamentRepository;
 import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.TeamTournamentId;
+import ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration.TournamentStandings;
 import java.util.List;
 import java.time.LocalDate;
 
@@ -47,10 +49,14 @@ class TournamentStatisticsServiceTest {
 
     @BeforeEach
     void setUp() {
+        TournamentStandings tournamentStandings = new TournamentStandings(teamRegisteredTournamentRepository, 300);
+        // sin transacción los @TransactionalEventListener(fallbackExecution = true) reciben el evento en el momento
         tournamentStatisticsService = new TournamentStatisticsService(
                 tournamentRepository,
                 teamRegisteredTournamentRepository,
-                tournamentMatchRepository);
+                tournamentMatchRepository,
+                tournamentStandings,
+                event -> tournamentStandings.on((StandingsEvent) event));
     }
 
     @Test
@@ -77,6 +83,60 @@ class TournamentStatisticsServiceTest {
         assertEquals(3, stats.getTotalTeams());
     }
 
+    @Test
+    void testGetStatisticsSnapshot_ReusedUntilEvicted() {
+        setupTournamentWith3Teams();
+
+        TournamentStatisticsSnapshot first = tournamentStatisticsService.getStatisticsSnapshot(1L);
+        TournamentStatisticsSnapshot second = tournamentStatisticsService.getStatisticsSnapshot(1L);
+        assertSame(first, second);
+        verify(tournamentRepository, times(1)).findById(1L);
+
+        tournamentStatisticsService.evictStatistics(1L);
+        TournamentStatisticsSnapshot rebuilt = tournamentStatisticsService.getStatisticsSnapshot(1L);
+        assertNotEquals(first.etag(), rebuilt.etag());
+        assertEquals(3, rebuilt.statistics().getTotalTeams());
+        verify(tournamentRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void testGetStatisticsSnapshot_NotStoredWhenEvictedWhileComputing() {
+        Tournament tournament = setupTournamentWith3Teams().get(0).getTournament();
+        when(tournamentRepository.findById(1L)).thenAnswer(invocation -> {
+            // un resultado se confirma mientras se arman las estadísticas
+            tournamentStatisticsService.evictStatistics(1L);
+            return Optional.of(tournament);
+        }).thenReturn(Optional.of(tournament));
+
+        TournamentStatisticsSnapshot stale = tournamentStatisticsService.getStatisticsSnapshot(1L);
+        TournamentStatisticsSnapshot rebuilt = tournamentStatisticsService.getStatisticsSnapshot(1L);
+        TournamentStatisticsSnapshot cached = tournamentStatisticsService.getStatisticsSnapshot(1L);
+
+        assertNotEquals(stale.etag(), rebuilt.etag());
+        assertSame(rebuilt, cached);
+    }
+
+    @Test
+    void testUpdateTeamStatistics_RepositionsTeamsWithoutReloadingRegistrations() {
+        List<TeamRegisteredTournament> registrations = setupTournamentWith3Teams();
+        tournamentStatisticsService.getTournamentStatistics(1L);
+
+        TournamentMatch match = new TournamentMatch();
+        match.setHomeTeam(registrations.get(2));
+        match.setAwayTeam(registrations.get(0));
+        match.setHomeTeamScore(4);
+        match.setAwayTeamScore(0);
+        tournamentStatisticsService.updateTeamStatistics(match);
+
+        TournamentStatisticsDTO stats = tournamentStatisticsService.getTournamentStatistics(1L);
+        assertEquals("Equipo C", stats.getTopScoringTeam());
+        assertEquals(4, stats.getTopScoringTeamGoals());
+        assertEquals("Equipo C", stats.getBestDefensiveTeam());
+        assertEquals(List.of("Equipo C", "Equipo B", "Equipo A"),
+                stats.getTopScoringTeams().stream().map(TeamName_Goals::getName).toList());
+        verify(teamRegisteredTournamentRepository, times(1)).findByTournament(any(Tournament.class));
+    }
+
     @Test
     void testDrawUpdatesHomeTeamGoalsFor() {
         TournamentMatch match = setupDrawMatch();
@@ -330,7 +390,7 @@ class TournamentStatisticsServiceTest {
                 .thenReturn(new ArrayList<>(List.of(match1, match2)));
     }
 
-    void setupTournamentWith3Teams() {
+    List<TeamRegisteredTournament> setupTournamentWith3Teams() {
         Tournament tournament = new Tournament();
         tournament.setId(1L);
         tournament.setName("Test Tournament");
@@ -368,6 +428,7 @@ class TournamentStatisticsServiceTest {
                 .thenReturn(new ArrayList<>(List.of(reg1, reg2, reg3)));
         when(tournamentMatchRepository.findAllByTournamentOrderByRoundNumberAscMatchNumberAsc(tournament))
                 .thenReturn(new ArrayList<>());
+        return List.of(reg1, reg2, reg3);
     }
 
     void setupTournamentInProgress() {
@@ -0,0 +1,102 @@
+package ar.uba.fi.ingsoft1.todo_template.tournament.teamRegistration;
+
+import ar.uba.fi.ingsoft1.todo_template.team.Team;
+import ar.uba.fi.ingsoft1.todo_template.tournament.Tournament;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TournamentStandingsTest {
+
+    @Mock
+    private TeamRegisteredTournamentRepository teamRegisteredTournamentRepository;
+
+    private TournamentStandings standings;
+    private Tournament tournament;
+
+    @BeforeEach
+    void setUp() {
+        standings = new TournamentStandings(teamRegisteredTournamentRepository, 300);
+        tournament = new Tournament();
+        tournament.setId(1L);
+        tournament.setName("Torneo");
+    }
+
+    @Test
+    void resultCommittedDuringLoad_isNotLostByTheLoadedTable() {
+        TeamRegisteredTournament before = registration(1L, "Equipo A", 0);
+        TeamRegisteredTournament after = registration(1L, "Equipo A", 3);
+        TeamRegisteredTournament other = registration(2L, "Equipo B", 1);
+        when(teamRegisteredTournamentRepository.findByTournament(tournament))
+                .thenAnswer(invocation -> {
+                    standings.on(StandingRecorded.of(after));
+                    return List.of(before, other);
+                })
+                .thenReturn(List.of(after, other));
+
+        assertEquals(List.of("Equipo A", "Equipo B"), names(standings.of(tournament)));
+        assertEquals(3, standings.of(tournament).standings().get(0).points());
+        verify(teamRegisteredTournamentRepository, times(2)).findByTournament(tournament);
+    }
+
+    @Test
+    void recordAfterLoad_repositionsTheTeamWithoutReloading() {
+        when(teamRegisteredTournamentRepository.findByTournament(tournament))
+                .thenReturn(List.of(registration(1L, "Equipo A", 1), registration(2L, "Equipo B", 0)));
+        standings.of(tournament);
+
+        standings.on(StandingRecorded.of(registration(2L, "Equipo B", 3)));
+
+        assertEquals(List.of("Equipo B", "Equipo A"), names(standings.of(tournament)));
+        verify(teamRegisteredTournamentRepository, times(1)).findByTournament(tournament);
+    }
+
+    @Test
+    void invalidated_reloadsOnNextRead() {
+        when(teamRegisteredTournamentRepository.findByTournament(tournament))
+                .thenReturn(List.of(registration(1L, "Equipo A", 0)));
+        standings.of(tournament);
+
+        standings.on(new StandingsInvalidated(1L));
+        standings.of(tournament);
+
+        verify(teamRegisteredTournamentRepository, times(2)).findByTournament(tournament);
+    }
+
+    @Test
+    void expiredTable_isReloadedFromDatabase() {
+        TournamentStandings noTtl = new TournamentStandings(teamRegisteredTournamentRepository, 0);
+        when(teamRegisteredTournamentRepository.findByTournament(tournament))
+                .thenReturn(List.of(registration(1L, "Equipo A", 0)))
+                .thenReturn(List.of(registration(1L, "Equipo A", 3)));
+
+        noTtl.of(tournament);
+
+        assertEquals(3, noTtl.of(tournament).standings().get(0).points());
+        verify(teamRegisteredTournamentRepository, times(2)).findByTournament(tournament);
+    }
+
+    private TeamRegisteredTournament registration(Long teamId, String name, int points) {
+        Team team = new Team();
+        team.setId(teamId);
+        team.setName(name);
+        TeamRegisteredTournament registration = new TeamRegisteredTournament();
+        registration.setId(new TeamTournamentId(teamId, tournament.getId()));
+        registration.setTeam(team);
+        registration.setTournament(tournament);
+        registration.setPoints(points);
+        return registration;
+    }
+
+    private static List<String> names(StandingsTable table) {
+        return table.standings().stream().map(row -> row.team().name()).toList();
+    }
+}
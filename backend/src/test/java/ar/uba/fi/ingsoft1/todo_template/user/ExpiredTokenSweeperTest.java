@@ -0,0 +1,50 @@
+package ar.uba.fi.ingsoft1.todo_template.user;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import ar.uba.fi.ingsoft1.todo_template.user.refresh_token.RefreshTokenRepository;
+import ar.uba.fi.ingsoft1.todo_template.user.verification.EmailVerificationTokenRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ExpiredTokenSweeperTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+    @Mock
+    private EmailVerificationTokenRepository emailVerificationTokenRepository;
+
+    private ExpiredTokenSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        sweeper = new ExpiredTokenSweeper(refreshTokenRepository, emailVerificationTokenRepository, 2);
+    }
+
+    @Test
+    void sweep_deletesExpiredTokensInBatchesUntilAPartialBatch() {
+        when(refreshTokenRepository.findExpiredContents(any(), any(Limit.class)))
+                .thenReturn(List.of("a", "b"), List.of("c"));
+        when(emailVerificationTokenRepository.findExpiredIds(any(), any(Limit.class)))
+                .thenReturn(List.of());
+
+        sweeper.sweep();
+
+        verify(refreshTokenRepository).deleteAllByIdInBatch(List.of("a", "b"));
+        verify(refreshTokenRepository).deleteAllByIdInBatch(List.of("c"));
+        verify(refreshTokenRepository, times(2)).findExpiredContents(any(), any(Limit.class));
+        verify(emailVerificationTokenRepository, never()).deleteAllByIdInBatch(any());
+    }
+}
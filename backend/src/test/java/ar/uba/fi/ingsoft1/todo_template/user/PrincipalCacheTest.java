@@ -0,0 +1,92 @@
+package ar.uba.fi.ingsoft1.todo_template.user;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheTest {
+
+    private static final String USERNAME = "player@example.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private PrincipalCache principalCache;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(userRepository, 60, 100);
+        user = new User();
+        user.setId(1L);
+        user.setUsername(USERNAME);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void findByUsername_resolvesByIdOnceTheUsernameWasSeen() {
+        when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.of(user));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        assertSame(user, principalCache.findByUsername(USERNAME).orElseThrow());
+        assertSame(user, principalCache.findByUsername(USERNAME).orElseThrow());
+
+        verify(userRepository, times(1)).findByUsername(USERNAME);
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void findByUsername_loadsTheUserOncePerRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.of(user));
+
+        principalCache.findByUsername(USERNAME);
+        principalCache.findByUsername(USERNAME);
+        principalCache.findByUsername(USERNAME);
+
+        verify(userRepository, times(1)).findByUsername(USERNAME);
+        verifyNoMoreInteractions(userRepository);
+    }
+
+    @Test
+    void findByUsername_fallsBackToUsernameWhenTheCachedIdIsGone() {
+        User recreated = new User();
+        recreated.setId(2L);
+        recreated.setUsername(USERNAME);
+        when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.of(user), Optional.of(recreated));
+        when(userRepository.findById(1L)).thenReturn(Optional.empty());
+
+        principalCache.findByUsername(USERNAME);
+
+        assertSame(recreated, principalCache.findByUsername(USERNAME).orElseThrow());
+    }
+
+    @Test
+    void evict_forgetsTheCachedUser() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.of(user));
+
+        principalCache.findByUsername(USERNAME);
+        principalCache.evict(USERNAME);
+        principalCache.findByUsername(USERNAME);
+
+        verify(userRepository, times(2)).findByUsername(USERNAME);
+        verify(userRepository, never()).findById(any());
+    }
+}
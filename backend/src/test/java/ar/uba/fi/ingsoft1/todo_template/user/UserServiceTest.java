@@ -1,6 +1,13 @@
 package ar.uba.fi.ingsoft1.todo_template.user;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Optional;
 
 import ar.uba.fi.ingsoft1.todo_template.user.UserService;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,7 +19,10 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import ar.uba.fi.ingsoft1.todo_template.config.security.JwtService;
+import ar.uba.fi.ingsoft1.todo_template.config.security.JwtUserDetails;
+import ar.uba.fi.ingsoft1.todo_template.user.dto.RefreshDTO;
 import ar.uba.fi.ingsoft1.todo_template.user.dto.TokenDTO;
+import ar.uba.fi.ingsoft1.todo_template.user.refresh_token.RefreshToken;
 import ar.uba.fi.ingsoft1.todo_template.user.refresh_token.RefreshTokenService;
 import ar.uba.fi.ingsoft1.todo_template.user.userServiceException.InactiveOrUnverifiedAccountException;
 import ar.uba.fi.ingsoft1.todo_template.user.userServiceException.InavlidCredentialsException;
@@ -95,4 +105,15 @@ public class UserServiceTest {
         assertEquals("refresh-token-456", tokens.refreshToken());
     }
 
+    @Test
+    void refresh_rejectsInactiveUser() {
+        User user = new User();
+        user.setActive(false);
+        RefreshToken token = new RefreshToken("refresh", user, Instant.now().plusSeconds(60));
+        when(refreshTokenService.findByValue("refresh")).thenReturn(Optional.of(token));
+
+        assertTrue(userService.refresh(new RefreshDTO("refresh")).isEmpty());
+        verify(jwtService, never()).createToken(any(JwtUserDetails.class));
+    }
+
 }
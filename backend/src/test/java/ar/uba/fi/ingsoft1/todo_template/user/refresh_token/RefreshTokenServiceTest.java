@@ -0,0 +1,117 @@
+package ar.uba.fi.ingsoft1.todo_template.user.refresh_token;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import ar.uba.fi.ingsoft1.todo_template.user.User;
+import ar.uba.fi.ingsoft1.todo_template.user.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private RefreshTokenService service;
+    private final User user = new User();
+
+    @BeforeEach
+    void setUp() {
+        service = new RefreshTokenService(60L, 20, 15, 100, refreshTokenRepository, userRepository);
+        user.setId(7L);
+    }
+
+    @Test
+    void findByValue_recentTokenIsConsumedWithoutReadingTheTable() {
+        RefreshToken issued = service.createFor(user);
+        when(refreshTokenRepository.deleteByContent(issued.value())).thenReturn(1);
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+
+        Optional<RefreshToken> found = service.findByValue(issued.value());
+
+        assertTrue(found.isPresent());
+        assertSame(user, found.get().user());
+        verify(refreshTokenRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void findByValue_recentTokenAlreadyConsumedElsewhereIsRejected() {
+        RefreshToken issued = service.createFor(user);
+        when(refreshTokenRepository.deleteByContent(issued.value())).thenReturn(0);
+
+        assertTrue(service.findByValue(issued.value()).isEmpty());
+    }
+
+    @Test
+    void findByValue_tokenCanOnlyBeUsedOnce() {
+        RefreshToken issued = service.createFor(user);
+        when(refreshTokenRepository.deleteByContent(issued.value())).thenReturn(1);
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+        service.findByValue(issued.value());
+        when(refreshTokenRepository.findById(issued.value())).thenReturn(Optional.empty());
+
+        assertTrue(service.findByValue(issued.value()).isEmpty());
+    }
+
+    @Test
+    void findByValue_recentTokenResolvesTheCurrentUser() {
+        RefreshToken issued = service.createFor(user);
+        User deactivated = new User();
+        deactivated.setId(7L);
+        deactivated.setActive(false);
+        when(refreshTokenRepository.deleteByContent(issued.value())).thenReturn(1);
+        when(userRepository.findById(7L)).thenReturn(Optional.of(deactivated));
+
+        Optional<RefreshToken> found = service.findByValue(issued.value());
+
+        assertTrue(found.isPresent());
+        assertFalse(found.get().user().isActive());
+    }
+
+    @Test
+    void findByValue_storedExpiredTokenIsDeletedAndRejected() {
+        RefreshToken expired = new RefreshToken("old", user, Instant.now().minusSeconds(1));
+        when(refreshTokenRepository.findById("old")).thenReturn(Optional.of(expired));
+        when(refreshTokenRepository.deleteByContent("old")).thenReturn(1);
+
+        assertTrue(service.findByValue("old").isEmpty());
+        verify(refreshTokenRepository).deleteByContent("old");
+    }
+
+    @Test
+    void getRandomString_producesDistinctTokens() {
+        assertNotEquals(service.getRandomString(), service.getRandomString());
+    }
+
+    @Test
+    void recentTokens_dropEntriesPastTheirTtl() {
+        RecentRefreshTokens recent = new RecentRefreshTokens(Duration.ofMinutes(15), 100);
+        Instant now = Instant.now();
+        recent.put("a", user.getId(), now.plusSeconds(3600), now);
+
+        recent.put("b", user.getId(), now.plusSeconds(3600), now.plusSeconds(16 * 60));
+
+        assertEquals(1, recent.size());
+        assertTrue(recent.take("a", now.plusSeconds(16 * 60)).isEmpty());
+    }
+}
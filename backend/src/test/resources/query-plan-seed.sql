@@ -0,0 +1,86 @@
+-- Volumen para RepositoryQueryPlanIntegrationTest: con tablas chicas Postgres prefiere Seq Scan aunque
+-- exista el índice, así que se cargan miles de filas por tabla (ids desde 1000001 para no chocar con el seeder)
+
+insert into users (id, password, role, username, gender, birth_year, zone, name, last_name, is_email_verified, active)
+select 1000000 + g, 'x', 'USER', 'plan.user.' || g || '@example.com', 'X', 1990, 'Z', 'Plan', 'User', true, true
+from generate_series(1, 20000) g;
+
+insert into field (id, name, grass_type, lighting, roofing, zone, address, photo_url, price, active, owner_id)
+select 1000000 + g, 'plan field ' || g, 'natural', true, false, 'Z', 'addr ' || g, 'photo', 100, g % 10 <> 0, 1000001 + g % 200
+from generate_series(1, 2000) g;
+
+insert into time_slot (id, day_of_week, open_time, close_time, field_id)
+select 1000000 + (f - 1) * 7 + d,
+       (array['MONDAY', 'TUESDAY', 'WEDNESDAY', 'THURSDAY', 'FRIDAY', 'SATURDAY', 'SUNDAY'])[d + 1], 8, 23, 1000000 + f
+from generate_series(1, 2000) f cross join generate_series(0, 6) d;
+
+insert into blocked_slot (field_id, date, hour)
+select 1000001 + g % 2000, current_date + g % 30, 8 + g % 10
+from generate_series(1, 20000) g;
+
+-- Un año de historia y dos semanas por delante en 2000 canchas
+insert into booking (id, user_id, time_slot_id, booking_date, booking_hour, active, active_field_id, created_at)
+select 1000000 + g, 1000001 + g % 20000,
+       1000000 + (f - 1) * 7 + extract(isodow from d)::int - 1, d, 10 + g % 13, g % 20 <> 0,
+       case when g % 20 <> 0 then 1000000 + f end, now()
+from (select g, 1 + (g / 380) % 2000 as f, current_date - 365 + g % 380 as d
+      from generate_series(1, 200000) g) b;
+
+insert into team (id, name, captain)
+select 1000000 + g, 'plan team ' || g, 'plan.user.' || g || '@example.com'
+from generate_series(1, 5000) g;
+
+insert into team_members (team_id, user_id)
+select 1000000 + t, 1000001 + (t * 5 + k) % 20000
+from generate_series(1, 5000) t cross join generate_series(0, 4) k;
+
+insert into invitations (team_id, invitee_email, token, pending)
+select 1000001 + g % 5000, 'invitee.' || g || '@example.com', md5(g::text), g % 3 = 0
+from generate_series(1, 20000) g;
+
+insert into match (id, booking_id, is_active)
+select 1000000 + g, 1000000 + g, true
+from generate_series(1, 100000) g;
+
+insert into open_match (id, player_count, min_players, max_players)
+select 1000000 + g, 5, 6, 10
+from generate_series(2, 100000, 2) g;
+
+insert into open_match_players (open_match_id, players_id)
+select 1000000 + g, 1000001 + (g + k * 4000) % 20000
+from generate_series(2, 100000, 2) g cross join generate_series(0, 4) k;
+
+insert into close_match (id, team_one_id, team_two_id)
+select 1000000 + g, 1000001 + g % 5000, 1000001 + (g + 1) % 5000
+from generate_series(1, 100000, 2) g;
+
+insert into tournament (id, name, start_date, format, max_teams, open_inscription, registered_teams, organizer_id)
+select 1000000 + g, 'plan tournament ' || g, current_date, 'ROUND_ROBIN', 16, false, 10, 1000001 + g % 200
+from generate_series(1, 1000) g;
+
+insert into team_registered_tournament (team_id, tournament_id, points, goals_for, goals_against, wins, draws, losses)
+select 1000001 + (t * 10 + k) % 5000, 1000000 + t, 0, 0, 0, 0, 0, 0
+from generate_series(1, 1000) t cross join generate_series(0, 9) k;
+
+insert into tournament_match (id, tournament_id, home_team_id, home_tournament_id, away_team_id, away_tournament_id,
+                              scheduled_date_time, status, round_number, match_number, is_home_team_next_match)
+select 1000000 + g, 1000000 + t,
+       1000001 + (t * 10 + (g / 1000) % 10) % 5000, 1000000 + t,
+       1000001 + (t * 10 + (g / 1000 + 1) % 10) % 5000, 1000000 + t,
+       now(), 'SCHEDULED', g / 1000, g % 1000, false
+from (select g, 1 + g % 1000 as t from generate_series(1, 20000) g) m;
+
+insert into refresh_token (content, user_id, expires_at)
+select 'plan-refresh-' || g, 1000001 + g % 20000, now() + interval '1 day'
+from generate_series(1, 20000) g;
+
+insert into email_verification_tokens (token, user_id, expiry_date, verified)
+select 'plan-verify-' || g, 1000000 + g, now() + interval '1 day', true
+from generate_series(1, 20000) g;
+
+insert into outbound_email (recipient, subject, html_content, status, attempts, next_attempt_at, created_at)
+select 'plan.user.' || g || '@example.com', 'subject', 'body', case when g % 100 = 0 then 'PENDING' else 'SENT' end,
+       1, now() - g * interval '1 minute', now()
+from generate_series(1, 50000) g;
+
+analyze;
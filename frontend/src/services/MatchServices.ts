@@ -13,17 +13,17 @@ import type {
 import { BASE_API_URL, getAuthToken } from "@/config/app-query-client"
 import { useQuery } from "@tanstack/react-query"
 import { useUserProfile } from "./UserServices"
+import { fetchAllPages } from "./pagination"
 
 const fetchAvailableMatches = async (userProfile: any) => {
   const accessToken = getAuthToken();
-  const response = await fetch(`${BASE_API_URL}/matches/open`, {
+  const matches = await fetchAllPages<any>(`${BASE_API_URL}/matches/open`, {
     headers: {
       Authorization: `Bearer ${accessToken}`,
       Accept: "application/json",
       "Content-Type": "application/json",
     },
   });
-  const matches = await response.json();
   if (!userProfile) return [];
   
   // Filtrar partidos donde el usuario NO participa y NO es organizador
@@ -85,67 +85,29 @@ export const useAvailableMatches = () => {
   });
 }
 
+// Los partidos del usuario se filtran en el servidor: /matches/open solo lista los que tienen lugar libre
 const fetchMyMatches = async (userProfile: any) => {
+  if (!userProfile) return [];
   const accessToken = getAuthToken();
-  const [openMatchesResponse, closedMatchesResponse] = await Promise.all([
-    fetch(`${BASE_API_URL}/matches/open`, {
-      headers: {
-        Authorization: `Bearer ${accessToken}`,
-        Accept: "application/json",
-        "Content-Type": "application/json",
-      },
-    }),
-    fetch(`${BASE_API_URL}/matches/close`, {
-      headers: {
-        Authorization: `Bearer ${accessToken}`,
-        Accept: "application/json",
-        "Content-Type": "application/json",
-      },
-    })
+  const init = {
+    headers: {
+      Authorization: `Bearer ${accessToken}`,
+      Accept: "application/json",
+      "Content-Type": "application/json",
+    },
+  };
+  const [openMatches, closedMatches] = await Promise.all([
+    fetchAllPages<any>(`${BASE_API_URL}/matches/open/mine`, init),
+    fetchAllPages<any>(`${BASE_API_URL}/matches/close/mine`, init),
   ]);
 
-  if (!openMatchesResponse.ok || !closedMatchesResponse.ok) {
-    const openError = await openMatchesResponse.text();
-    const closedError = await closedMatchesResponse.text();
-    throw new Error(`Server error: Open matches: ${openError}, Closed matches: ${closedError}`);
-  }
-
-  const openMatches = await openMatchesResponse.json();
-  const closedMatches = await closedMatchesResponse.json();
-  if (!userProfile) return [];
-
-  // Filtrar partidos donde el usuario participa
-  const filteredOpen = openMatches.filter((match: any) => {
-    if (Array.isArray(match.players)) {
-      return match.players.some((player: any) =>
-        player.id === userProfile.id || player.username === userProfile.email
-      );
-    }
-    return false;
-  });
-
-  const filteredClosed = closedMatches.filter((match: any) => {
-    // Participa en alguno de los equipos
-    if (match.teamOne && Array.isArray(match.teamOne.members)) {
-      if (match.teamOne.members.some((player: any) =>
-        player.id === userProfile.id || player.username === userProfile.email
-      )) return true;
-    }
-    if (match.teamTwo && Array.isArray(match.teamTwo.members)) {
-      if (match.teamTwo.members.some((player: any) =>
-        player.id === userProfile.id || player.username === userProfile.email
-      )) return true;
-    }
-    return false;
-  });
-
   // Agregar el tipo de partido
-  const openWithType = filteredOpen.map((match: any) => ({
+  const openWithType = openMatches.map((match: any) => ({
     ...match,
     matchType: "open"
   }));
   
-  const closedWithType = filteredClosed.map((match: any) => ({
+  const closedWithType = closedMatches.map((match: any) => ({
     ...match,
     matchType: "closed"
   }));
@@ -395,20 +357,13 @@ export const useMatchHistory = () => {
     const fetchMatches = async () => {
       try {
         const accessToken = getAuthToken()
-        const response = await fetch(`${BASE_API_URL}/matches/close`, {
+        const matches = await fetchAllPages<any>(`${BASE_API_URL}/matches/close`, {
           headers: {
             Authorization: `Bearer ${accessToken}`,
             Accept: "application/json",
             "Content-Type": "application/json",
           },
         })
-        
-        if (!response.ok) {
-          const errorText = await response.text()
-          throw new Error(`Server error: ${errorText}`)
-        }
-
-        const matches = await response.json()
         setData(matches)
       } catch (error) {
         console.error('Error fetching match history:', error)
@@ -433,20 +388,13 @@ export const usePastOpenMatches = () => {
     const fetchPastOpenMatches = async () => {
       try {
         const accessToken = getAuthToken()
-        const response = await fetch(`${BASE_API_URL}/matches/past/open`, {
+        const matches = await fetchAllPages<any>(`${BASE_API_URL}/matches/past/open`, {
           headers: {
             Authorization: `Bearer ${accessToken}`,
             Accept: "application/json",
             "Content-Type": "application/json",
           },
         })
-        
-        if (!response.ok) {
-          const errorText = await response.text()
-          throw new Error(`Server error: ${errorText}`)
-        }
-
-        const matches = await response.json()
         setData(matches.map((match: any) => ({
           ...match,
           matchType: "open"
@@ -475,20 +423,13 @@ export const usePastCloseMatches = () => {
     const fetchPastCloseMatches = async () => {
       try {
         const accessToken = getAuthToken()
-        const response = await fetch(`${BASE_API_URL}/matches/past/close`, {
+        const matches = await fetchAllPages<any>(`${BASE_API_URL}/matches/past/close`, {
           headers: {
             Authorization: `Bearer ${accessToken}`,
             Accept: "application/json",
             "Content-Type": "application/json",
           },
         })
-        
-        if (!response.ok) {
-          const errorText = await response.text()
-          throw new Error(`Server error: ${errorText}`)
-        }
-
-        const matches = await response.json()
         setData(matches.map((match: any) => ({
           ...match,
           matchType: "closed"
@@ -517,20 +458,13 @@ export const useOwnerPastOpenMatches = () => {
     const fetchOwnerPastOpenMatches = async () => {
       try {
         const accessToken = getAuthToken()
-        const response = await fetch(`${BASE_API_URL}/matches/past/owner/open`, {
+        const matches = await fetchAllPages<any>(`${BASE_API_URL}/matches/past/owner/open`, {
           headers: {
             Authorization: `Bearer ${accessToken}`,
             Accept: "application/json",
             "Content-Type": "application/json",
           },
         })
-        
-        if (!response.ok) {
-          const errorText = await response.text()
-          throw new Error(`Server error: ${errorText}`)
-        }
-
-        const matches = await response.json()
         setData(matches.map((match: any) => ({
           ...match,
           matchType: "open"
@@ -559,20 +493,13 @@ export const useOwnerPastCloseMatches = () => {
     const fetchOwnerPastCloseMatches = async () => {
       try {
         const accessToken = getAuthToken()
-        const response = await fetch(`${BASE_API_URL}/matches/past/owner/close`, {
+        const matches = await fetchAllPages<any>(`${BASE_API_URL}/matches/past/owner/close`, {
           headers: {
             Authorization: `Bearer ${accessToken}`,
             Accept: "application/json",
             "Content-Type": "application/json",
           },
         })
-        
-        if (!response.ok) {
-          const errorText = await response.text()
-          throw new Error(`Server error: ${errorText}`)
-        }
-
-        const matches = await response.json()
         setData(matches.map((match: any) => ({
           ...match,
           matchType: "closed"
@@ -1,6 +1,7 @@
 import { useMutation, useQuery, useQueryClient } from "@tanstack/react-query";
 import type { Team } from "@/models/Team";
 import { BASE_API_URL } from "@/config/app-query-client";
+import { fetchAllPages } from "./pagination";
 import { useToken } from "@/services/TokenContext";
 
 interface TeamCreateRequest {
@@ -143,20 +144,14 @@ async function getMyTeams(token: any): Promise<Team[]> {
 
 async function getAllTeams(token: any): Promise<Team[]> {
   try {
-    const response = await fetch(`${BASE_API_URL}/teams`, {
+    const teams = await fetchAllPages<any>(`${BASE_API_URL}/teams`, {
       method: "GET",
       headers: {
         Accept: "application/json",
         "Content-Type": "application/json",
         ...(token.state === "LOGGED_IN" ? { Authorization: `Bearer ${token.accessToken}` } : {}),
       },
-    });
-
-    if (!response.ok) {
-      throw new Error(`Error al obtener equipos: ${response.status}`);
-    }
-
-    const teams = await response.json();
+    }, "Error al obtener equipos");
     
     if (!Array.isArray(teams)) {
       throw new Error('La respuesta del servidor no tiene el formato esperado');
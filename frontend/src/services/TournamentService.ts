@@ -1,5 +1,6 @@
 import { useMutation, useQuery, useQueryClient } from "@tanstack/react-query";
 import { BASE_API_URL, getAuthToken } from "@/config/app-query-client";
+import { fetchAllPages } from "./pagination";
 
 export interface TournamentCreateRequest {
   name: string;
@@ -68,15 +69,13 @@ export function useAllTournaments() {
 }
 async function getAllTournaments(): Promise<TournamentSummary[]> {
   const accessToken = getAuthToken();
-  const response = await fetch(`${BASE_API_URL}/tournaments/all`, {
+  return fetchAllPages<TournamentSummary>(`${BASE_API_URL}/tournaments/all`, {
     headers: {
       Accept: "application/json",
       "Content-Type": "application/json",
       Authorization: `Bearer ${accessToken}`,
     },
-  });
-  if (!response.ok) throw new Error("Error al obtener torneos activos");
-  return response.json();
+  }, "Error al obtener torneos activos");
 }
 
 // Listar torneos abiertos a inscripción
@@ -4,6 +4,7 @@ import { BASE_API_URL, getAuthToken } from '@/config/app-query-client';
 import { useQuery } from "@tanstack/react-query";
 import { useState, useEffect } from 'react';
 import { useOwnerPastOpenMatches, useOwnerPastCloseMatches } from './MatchServices';
+import { collectPages } from './pagination';
 
 export interface OwnerBooking {
   id: number;
@@ -64,12 +65,12 @@ export const bookingService = {
     // Get bookings for field owner
     getBookingsForOwner: async (): Promise<BookingDTO[]> => {
         const accessToken = getAuthToken();
-        const response = await axios.get(`${BASE_API_URL}/bookings/owner`, {
+        return collectPages<BookingDTO>(async (params) => (await axios.get(`${BASE_API_URL}/bookings/owner`, {
+            params,
             headers: {
                 Authorization: `Bearer ${accessToken}`
             }
-        });
-        return response.data;
+        })).data);
     },
 
     // Get user's own bookings
@@ -109,12 +110,12 @@ export const bookingService = {
     // Get user's all bookings (active and inactive)
     getAllMyBookings: async (): Promise<BookingDTO[]> => {
         const accessToken = getAuthToken();
-        const response = await axios.get(`${BASE_API_URL}/bookings/my/all`, {
+        return collectPages<BookingDTO>(async (params) => (await axios.get(`${BASE_API_URL}/bookings/my/all`, {
+            params,
             headers: {
                 Authorization: `Bearer ${accessToken}`
             }
-        });
-        return response.data;
+        })).data);
     }
 };
 
@@ -136,12 +137,12 @@ export function useFieldAvailableHours(fieldId: string | number | undefined, day
 
 export const getOwnerBookings = async (): Promise<OwnerBooking[]> => {
   const accessToken = getAuthToken();
-  const response = await axios.get(`${BASE_API_URL}/bookings/owner`, {
+  return collectPages<OwnerBooking>(async (params) => (await axios.get(`${BASE_API_URL}/bookings/owner`, {
+    params,
     headers: {
       Authorization: `Bearer ${accessToken}`
     }
-  });
-  return response.data;
+  })).data);
 };
 
 export function useOwnerBookingsDetailed() {
@@ -161,31 +162,20 @@ export function useOwnerBookingsDetailed() {
         
         const accessToken = getAuthToken();
         
-        // Fetch bookings
-        const bookingsResponse = await axios.get(`${BASE_API_URL}/bookings/owner`, {
+        const getAll = <T>(url: string) => collectPages<T>(async (params) => (await axios.get(url, {
+          params,
           headers: {
             Authorization: `Bearer ${accessToken}`
           }
-        });
+        })).data);
         
-        // Fetch active matches (for upcoming bookings)
-        const [activeOpenResponse, activeCloseResponse] = await Promise.all([
-          axios.get(`${BASE_API_URL}/matches/open`, {
-            headers: {
-              Authorization: `Bearer ${accessToken}`
-            }
-          }),
-          axios.get(`${BASE_API_URL}/matches/close`, {
-            headers: {
-              Authorization: `Bearer ${accessToken}`
-            }
-          })
+        // Fetch bookings and active matches (for upcoming bookings), every page
+        const [bookings, activeOpenMatches, activeCloseMatches] = await Promise.all([
+          getAll<any>(`${BASE_API_URL}/bookings/owner`),
+          getAll<any>(`${BASE_API_URL}/matches/open`),
+          getAll<any>(`${BASE_API_URL}/matches/close`)
         ]);
         
-        const bookings = bookingsResponse.data;
-        const activeOpenMatches = activeOpenResponse.data;
-        const activeCloseMatches = activeCloseResponse.data;
-        
         // Wait for past match data to be loaded
         if (loadingPastOpen || loadingPastClose) {
           return;
@@ -0,0 +1,56 @@
+// Respuesta paginada del backend (PaginatedResponse): los listados por cursor devuelven nextCursor y
+// los históricos page/totalPages
+export interface Page<T> {
+  results: T[];
+  pagination: {
+    page: number | null;
+    limit: number;
+    totalResults: number | null;
+    totalPages: number | null;
+    nextCursor: string | null;
+  };
+}
+
+export interface PageParams {
+  limit: number;
+  cursor?: string;
+  page?: number;
+}
+
+// El máximo que acepta el backend (app.pagination.max-page-size)
+const PAGE_SIZE = 100;
+
+// Pide páginas hasta que no queda ninguna: sigue nextCursor, o el número de página si el listado es por páginas
+export async function collectPages<T>(getPage: (params: PageParams) => Promise<Page<T>>): Promise<T[]> {
+  const items: T[] = [];
+  let params: PageParams | null = { limit: PAGE_SIZE };
+  while (params) {
+    const { results, pagination } = await getPage(params);
+    items.push(...results);
+    if (pagination?.nextCursor) {
+      params = { limit: PAGE_SIZE, cursor: pagination.nextCursor };
+    } else if (pagination?.page != null && pagination.totalPages != null && pagination.page < pagination.totalPages) {
+      params = { limit: PAGE_SIZE, page: pagination.page + 1 };
+    } else {
+      params = null;
+    }
+  }
+  return items;
+}
+
+export function fetchAllPages<T>(url: string, init: RequestInit, errorMessage = "Server error"): Promise<T[]> {
+  return collectPages<T>(async (params) => {
+    const response = await fetch(withPageParams(url, params), init);
+    if (!response.ok) {
+      throw new Error(`${errorMessage} (${response.status}): ${await response.text()}`);
+    }
+    return response.json();
+  });
+}
+
+function withPageParams(url: string, params: PageParams): string {
+  const query = new URLSearchParams({ limit: String(params.limit) });
+  if (params.cursor) query.set("cursor", params.cursor);
+  if (params.page != null) query.set("page", String(params.page));
+  return `${url}${url.includes("?") ? "&" : "?"}${query}`;
+}